@@ -7,6 +7,8 @@ import java.io.Serializable;
  * GlobalLogic | facundo.mengoni@globallogic.com
  */
 public class KeyValue implements Cloneable, Serializable {
+    private static final long serialVersionUID = 1L;
+
     private final String key;
     private final String value;
 
@@ -1,7 +1,11 @@
 package com.globallogic.futbol.strategies.ion;
 
+import android.net.Uri;
+
 import com.globallogic.futbol.core.OperationApp;
+import com.globallogic.futbol.core.cache.HttpResponseCache;
 import com.globallogic.futbol.core.interfaces.analyzers.IStrategyHttpAnalyzer;
+import com.globallogic.futbol.core.interfaces.analyzers.IStrategyHttpStreamAnalyzer;
 import com.globallogic.futbol.core.operations.Operation;
 import com.globallogic.futbol.core.responses.StrategyHttpResponse;
 import com.globallogic.futbol.core.strategies.HttpOperationStrategy;
@@ -13,15 +17,21 @@ import com.koushikdutta.ion.builder.Builders;
 
 import org.apache.http.HttpRequest;
 
+import java.io.InputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
 
 public abstract class StrategyIonBasic extends HttpOperationStrategy implements Serializable, FutureCallback<Response<String>> {
+    private static final long serialVersionUID = 1L;
+
     private static final String TAG = StrategyIonBasic.class.getSimpleName();
     private final StrategyIonConfig mConfig;
     private final String mUrl;
     private ArrayList<KeyValue> mHeaders = new ArrayList<>();
-    private Future<Response<String>> response;
+    private transient Future<Response<String>> response;
+    private transient Future<Response<InputStream>> mStreamResponse;
 
     protected StrategyIonBasic(Operation anOperation, IStrategyHttpAnalyzer anAnalyzer, String aUrl) {
         this(anOperation, anAnalyzer, StrategyIonConfig.getDefaultConfig(), aUrl);
@@ -45,8 +55,12 @@ public abstract class StrategyIonBasic extends HttpOperationStrategy implements
         mHeaders.add(valuePair);
     }
 
-    public void cancel() {
-        response.cancel(true);
+    @Override
+    protected void cancelRequest() {
+        if (response != null)
+            response.cancel(true);
+        if (mStreamResponse != null)
+            mStreamResponse.cancel(true);
     }
 
     @Override
@@ -58,7 +72,50 @@ public abstract class StrategyIonBasic extends HttpOperationStrategy implements
                 .addHeader("Content-Length", "0");
         for (KeyValue keyValue : mHeaders)
             builder.addHeader(keyValue.getKey(), keyValue.getValue());
-        response = getResponse(builder);
+        for (Map.Entry<String, String> header : getConditionalHeaders().entrySet())
+            builder.addHeader(header.getKey(), header.getValue());
+        if (getAnalyzer() instanceof IStrategyHttpStreamAnalyzer)
+            mStreamResponse = getStreamResponse(builder, new FutureCallback<Response<InputStream>>() {
+                @Override
+                public void onCompleted(Exception e, Response<InputStream> response) {
+                    onStreamCompleted(e, response);
+                }
+            });
+        if (mStreamResponse == null)
+            response = getResponse(builder);
+    }
+
+    /**
+     * Do the request obtaining the body as a stream, so an {@link IStrategyHttpStreamAnalyzer} can parse it
+     * without building a string. It is only called if the analyzer is an {@link IStrategyHttpStreamAnalyzer}.
+     *
+     * @return The future of the request or null if this strategy can't obtain a stream, then {@link #getResponse(Builders.Any.B)} is used.
+     */
+    protected Future<Response<InputStream>> getStreamResponse(Builders.Any.B b, FutureCallback<Response<InputStream>> aCallback) {
+        return null;
+    }
+
+    @Override
+    protected String getCacheKey() {
+        HashMap<String, String> headers = new HashMap<>();
+        for (KeyValue keyValue : mHeaders)
+            headers.put(keyValue.getKey(), keyValue.getValue());
+        return HttpResponseCache.createKey(getMethod(), getUrl(), headers, getCacheBody());
+    }
+
+    /**
+     * The host of the url, so the requests to the same host share the circuit breaker.
+     */
+    @Override
+    protected String getHost() {
+        return Uri.parse(getUrl()).getHost();
+    }
+
+    /**
+     * @return The body that identifies the request in the cache together with the method, the url and the headers.
+     */
+    protected String getCacheBody() {
+        return null;
     }
 
     public abstract HttpRequest getHttpRequest();
@@ -75,12 +132,27 @@ public abstract class StrategyIonBasic extends HttpOperationStrategy implements
         if (response != null) {
             code = response.getHeaders().code();
             result = response.getResult();
+            strategyResponse.setHeader(StrategyHttpResponse.HEADER_ETAG, response.getHeaders().getHeaders().get(StrategyHttpResponse.HEADER_ETAG));
+            strategyResponse.setHeader(StrategyHttpResponse.HEADER_LAST_MODIFIED, response.getHeaders().getHeaders().get(StrategyHttpResponse.HEADER_LAST_MODIFIED));
         }
         strategyResponse.setHttpCode(code);
         strategyResponse.setResponse(result);
         parseResponse(e, strategyResponse);
     }
 
+    private void onStreamCompleted(Exception e, Response<InputStream> response) {
+        StrategyHttpResponse strategyResponse = new StrategyHttpResponse();
+        int code = -1;
+        if (response != null) {
+            code = response.getHeaders().code();
+            strategyResponse.setStream(response.getResult());
+            strategyResponse.setHeader(StrategyHttpResponse.HEADER_ETAG, response.getHeaders().getHeaders().get(StrategyHttpResponse.HEADER_ETAG));
+            strategyResponse.setHeader(StrategyHttpResponse.HEADER_LAST_MODIFIED, response.getHeaders().getHeaders().get(StrategyHttpResponse.HEADER_LAST_MODIFIED));
+        }
+        strategyResponse.setHttpCode(code);
+        parseResponse(e, strategyResponse);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -7,6 +7,8 @@ import java.io.Serializable;
  * GlobalLogic | facundo.mengoni@globallogic.com
  */
 public class StrategyIonConfig implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private final int timeOutMillisecond;
 
     public StrategyIonConfig(int timeOutMillisecond) {
@@ -10,6 +10,8 @@ import com.koushikdutta.ion.builder.Builders;
 import java.util.ArrayList;
 
 public abstract class StrategyIonMultipart extends StrategyIonBasic {
+    private static final long serialVersionUID = 1L;
+
     private static final String TAG = StrategyIonMultipart.class.getSimpleName();
     private ArrayList<Part> mArrayList;
 
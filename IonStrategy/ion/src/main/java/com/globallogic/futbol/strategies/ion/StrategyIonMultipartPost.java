@@ -10,6 +10,8 @@ import org.apache.http.client.methods.HttpPost;
 import java.util.ArrayList;
 
 public class StrategyIonMultipartPost extends StrategyIonMultipart {
+    private static final long serialVersionUID = 1L;
+
     private static final String TAG = StrategyIonMultipartPost.class.getSimpleName();
 
     public StrategyIonMultipartPost(Operation anOperation, IStrategyHttpAnalyzer anAnalyzer, StrategyIonConfig aStrategyIonConfig, String aUrl, ArrayList<Part> mArrayList) {
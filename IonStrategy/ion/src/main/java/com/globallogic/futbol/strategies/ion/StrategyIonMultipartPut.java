@@ -10,6 +10,8 @@ import org.apache.http.client.methods.HttpPut;
 import java.util.ArrayList;
 
 public class StrategyIonMultipartPut extends StrategyIonMultipart {
+    private static final long serialVersionUID = 1L;
+
     private static final String TAG = StrategyIonMultipartPut.class.getSimpleName();
 
     public StrategyIonMultipartPut(Operation anOperation, IStrategyHttpAnalyzer anAnalyzer, String aUrl, ArrayList<Part> mArrayList) {
@@ -9,6 +9,8 @@ import com.koushikdutta.ion.builder.Builders;
 import java.io.File;
 
 public abstract class StrategyIonSingleFile extends StrategyIonBasic {
+    private static final long serialVersionUID = 1L;
+
     private static final String TAG = StrategyIonSingleFile.class.getSimpleName();
     private File mFile;
 
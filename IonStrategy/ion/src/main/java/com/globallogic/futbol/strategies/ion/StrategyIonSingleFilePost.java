@@ -9,6 +9,8 @@ import org.apache.http.client.methods.HttpPost;
 import java.io.File;
 
 public class StrategyIonSingleFilePost extends StrategyIonSingleFile {
+    private static final long serialVersionUID = 1L;
+
     private static final String TAG = StrategyIonSingleFilePost.class.getSimpleName();
 
     public StrategyIonSingleFilePost(Operation anOperation, IStrategyHttpAnalyzer anAnalyzer, String aUrl, File mFile) {
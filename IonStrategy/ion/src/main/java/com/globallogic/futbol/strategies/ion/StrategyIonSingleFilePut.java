@@ -9,6 +9,8 @@ import org.apache.http.client.methods.HttpPut;
 import java.io.File;
 
 public class StrategyIonSingleFilePut extends StrategyIonSingleFile {
+    private static final long serialVersionUID = 1L;
+
     private static final String TAG = StrategyIonSingleFilePut.class.getSimpleName();
 
     public StrategyIonSingleFilePut(Operation anOperation, IStrategyHttpAnalyzer anAnalyzer, String aUrl, File mFile) {
@@ -3,11 +3,16 @@ package com.globallogic.futbol.strategies.ion;
 import com.globallogic.futbol.core.interfaces.analyzers.IStrategyHttpAnalyzer;
 import com.globallogic.futbol.core.operations.Operation;
 import com.koushikdutta.async.future.Future;
+import com.koushikdutta.async.future.FutureCallback;
 import com.koushikdutta.ion.Response;
 import com.koushikdutta.ion.builder.Builders;
 
+import java.io.InputStream;
+
 
 public abstract class StrategyIonSingleString extends StrategyIonBasic {
+    private static final long serialVersionUID = 1L;
+
     private static final String TAG = StrategyIonSingleString.class.getSimpleName();
     private String mBody;
 
@@ -39,11 +44,21 @@ public abstract class StrategyIonSingleString extends StrategyIonBasic {
         this.mBody = aBody;
     }
 
+    @Override
+    protected String getCacheBody() {
+        return mBody;
+    }
+
     @Override
     protected Future<Response<String>> getResponse(Builders.Any.B b) {
         return b.setStringBody(mBody).asString().withResponse().setCallback(this);
     }
 
+    @Override
+    protected Future<Response<InputStream>> getStreamResponse(Builders.Any.B b, FutureCallback<Response<InputStream>> aCallback) {
+        return b.setStringBody(mBody).asInputStream().withResponse().setCallback(aCallback);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
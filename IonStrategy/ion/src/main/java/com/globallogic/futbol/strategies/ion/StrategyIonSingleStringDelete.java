@@ -7,6 +7,8 @@ import org.apache.http.HttpRequest;
 import org.apache.http.client.methods.HttpDelete;
 
 public class StrategyIonSingleStringDelete extends StrategyIonSingleString {
+    private static final long serialVersionUID = 1L;
+
     private static final String TAG = StrategyIonSingleStringDelete.class.getSimpleName();
 
     public StrategyIonSingleStringDelete(Operation anOperation, IStrategyHttpAnalyzer anAnalyzer, String aUrl) {
@@ -15,6 +15,8 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class StrategyIonSingleStringGet extends StrategyIonSingleString {
+    private static final long serialVersionUID = 1L;
+
     private static final String TAG = StrategyIonSingleStringGet.class.getSimpleName();
 
     public static Logger mLogger;
@@ -65,6 +67,14 @@ public class StrategyIonSingleStringGet extends StrategyIonSingleString {
         return HttpGet.METHOD_NAME;
     }
 
+    /**
+     * A GET doesn't have side effects, so two equal requests in execution share the same response.
+     */
+    @Override
+    protected boolean isCoalescable() {
+        return true;
+    }
+
     @Override
     public String getUrl() {
         return formatUrl(super.getUrl(), getParams());
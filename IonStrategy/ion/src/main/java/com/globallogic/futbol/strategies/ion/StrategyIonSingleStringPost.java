@@ -7,6 +7,8 @@ import org.apache.http.HttpRequest;
 import org.apache.http.client.methods.HttpPost;
 
 public class StrategyIonSingleStringPost extends StrategyIonSingleString {
+    private static final long serialVersionUID = 1L;
+
     private static final String TAG = StrategyIonSingleStringPost.class.getSimpleName();
 
     public StrategyIonSingleStringPost(Operation anOperation, IStrategyHttpAnalyzer anAnalyzer, String aUrl) {
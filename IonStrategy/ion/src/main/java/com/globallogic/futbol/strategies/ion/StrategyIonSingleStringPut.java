@@ -7,6 +7,8 @@ import org.apache.http.HttpRequest;
 import org.apache.http.client.methods.HttpPut;
 
 public class StrategyIonSingleStringPut extends StrategyIonSingleString {
+    private static final long serialVersionUID = 1L;
+
     private static final String TAG = StrategyIonSingleStringPut.class.getSimpleName();
 
     public StrategyIonSingleStringPut(Operation anOperation, IStrategyHttpAnalyzer anAnalyzer, String aUrl) {
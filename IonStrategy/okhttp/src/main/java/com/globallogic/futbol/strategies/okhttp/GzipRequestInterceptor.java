@@ -0,0 +1,72 @@
+package com.globallogic.futbol.strategies.okhttp;
+
+import java.io.IOException;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.GzipSink;
+import okio.Okio;
+
+/**
+ * Compresses the request bodies with gzip. The small bodies, the bodies of unknown length and the bodies
+ * already encoded are sent as they are.
+ * The compressed body is buffered, so the request is sent with its "Content-Length" instead of chunked.
+ *
+ * @author facundo.mengoni
+ * @see StrategyOkHttpConfig#isRequestCompressed()
+ * @since 0.3.8
+ */
+class GzipRequestInterceptor implements Interceptor {
+    //region Constants
+    private static final String HEADER_CONTENT_ENCODING = "Content-Encoding";
+    private static final String GZIP = "gzip";
+    /**
+     * The bodies smaller than this aren't worth compressing.
+     */
+    static final long MIN_COMPRESSION_LENGTH = 1024;
+    //endregion
+
+    //region Interceptor implementation
+    @Override
+    public Response intercept(Chain aChain) throws IOException {
+        Request request = aChain.request();
+        RequestBody body = request.body();
+        if (body == null || request.header(HEADER_CONTENT_ENCODING) != null || body.contentLength() < MIN_COMPRESSION_LENGTH)
+            return aChain.proceed(request);
+        Request compressedRequest = request.newBuilder()
+                .header(HEADER_CONTENT_ENCODING, GZIP)
+                .method(request.method(), gzip(body))
+                .build();
+        return aChain.proceed(compressedRequest);
+    }
+    //endregion
+
+    private static RequestBody gzip(RequestBody aBody) throws IOException {
+        final Buffer buffer = new Buffer();
+        BufferedSink gzipSink = Okio.buffer(new GzipSink(buffer));
+        aBody.writeTo(gzipSink);
+        gzipSink.close();
+        final MediaType contentType = aBody.contentType();
+        return new RequestBody() {
+            @Override
+            public MediaType contentType() {
+                return contentType;
+            }
+
+            @Override
+            public long contentLength() {
+                return buffer.size();
+            }
+
+            @Override
+            public void writeTo(BufferedSink aSink) throws IOException {
+                aSink.write(buffer.snapshot());
+            }
+        };
+    }
+}
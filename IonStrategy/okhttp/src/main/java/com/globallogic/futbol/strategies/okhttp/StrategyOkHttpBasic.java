@@ -0,0 +1,204 @@
+package com.globallogic.futbol.strategies.okhttp;
+
+import com.globallogic.futbol.core.cache.HttpResponseCache;
+import com.globallogic.futbol.core.interfaces.analyzers.IStrategyHttpAnalyzer;
+import com.globallogic.futbol.core.interfaces.analyzers.IStrategyHttpStreamAnalyzer;
+import com.globallogic.futbol.core.operations.Operation;
+import com.globallogic.futbol.core.responses.StrategyHttpResponse;
+import com.globallogic.futbol.core.strategies.HttpOperationStrategy;
+import com.globallogic.futbol.core.utils.Utils;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.HttpUrl;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * A strategy that does its request with OkHttp. It is interchangeable with the Ion strategies: the
+ * analyzers, the cache, the retries and the circuit breaker of {@link HttpOperationStrategy} work the same way.
+ * The body is read in the thread of OkHttp and the response is parsed in the thread UI, like the Ion strategies.
+ *
+ * @author facundo.mengoni
+ * @see StrategyOkHttpClients
+ * @since 0.3.8
+ */
+public abstract class StrategyOkHttpBasic extends HttpOperationStrategy implements Serializable, Callback {
+    private static final long serialVersionUID = 1L;
+
+    private static final String TAG = StrategyOkHttpBasic.class.getSimpleName();
+    private final StrategyOkHttpConfig mConfig;
+    private final String mUrl;
+    private ArrayList<KeyValue> mHeaders = new ArrayList<>();
+    private transient Call mCall;
+
+    protected StrategyOkHttpBasic(Operation anOperation, IStrategyHttpAnalyzer anAnalyzer, String aUrl) {
+        this(anOperation, anAnalyzer, StrategyOkHttpConfig.getDefaultConfig(), aUrl);
+    }
+
+    protected StrategyOkHttpBasic(Operation anOperation, IStrategyHttpAnalyzer anAnalyzer, StrategyOkHttpConfig aStrategyOkHttpConfig, String aUrl) {
+        super(anOperation, anAnalyzer);
+        this.mConfig = aStrategyOkHttpConfig;
+        this.mUrl = aUrl;
+    }
+
+    public String getUrl() {
+        return this.mUrl;
+    }
+
+    public StrategyOkHttpConfig getConfig() {
+        return mConfig;
+    }
+
+    public ArrayList<KeyValue> getHeaders() {
+        return mHeaders;
+    }
+
+    public void addHeader(KeyValue valuePair) {
+        mHeaders.add(valuePair);
+    }
+
+    @Override
+    protected void cancelRequest() {
+        if (mCall != null)
+            mCall.cancel();
+    }
+
+    @Override
+    protected void doRequestImpl() {
+        Request request;
+        try {
+            Request.Builder builder = new Request.Builder()
+                    .url(getUrl())
+                    .method(getMethod(), getRequestBody());
+            for (KeyValue keyValue : mHeaders)
+                builder.addHeader(keyValue.getKey(), keyValue.getValue());
+            for (Map.Entry<String, String> header : getConditionalHeaders().entrySet())
+                builder.header(header.getKey(), header.getValue());
+            request = builder.build();
+        } catch (IllegalArgumentException e) {
+            // The url or the method aren't valid
+            parseResponse(e, createResponse(-1));
+            return;
+        }
+        mCall = StrategyOkHttpClients.getClient(mConfig).newCall(request);
+        mCall.enqueue(this);
+    }
+
+    @Override
+    protected String getCacheKey() {
+        HashMap<String, String> headers = new HashMap<>();
+        for (KeyValue keyValue : mHeaders)
+            headers.put(keyValue.getKey(), keyValue.getValue());
+        return HttpResponseCache.createKey(getMethod(), getUrl(), headers, getCacheBody());
+    }
+
+    /**
+     * The host of the url, so the requests to the same host share the circuit breaker.
+     */
+    @Override
+    protected String getHost() {
+        HttpUrl url = HttpUrl.parse(getUrl());
+        return url != null ? url.host() : null;
+    }
+
+    /**
+     * @return The body that identifies the request in the cache together with the method, the url and the headers.
+     */
+    protected String getCacheBody() {
+        return null;
+    }
+
+    protected abstract String getMethod();
+
+    /**
+     * @return The body of the request or null if the method doesn't have a body.
+     */
+    protected abstract RequestBody getRequestBody();
+
+    @Override
+    public void onFailure(Call aCall, IOException e) {
+        parseResponseOnThreadUI(e, createResponse(-1));
+    }
+
+    @Override
+    public void onResponse(Call aCall, Response aResponse) {
+        ResponseBody body = aResponse.body();
+        if (isCancelled()) {
+            // Nobody will read the response, so the connection is released now
+            if (body != null)
+                body.close();
+            return;
+        }
+        StrategyHttpResponse strategyResponse = createResponse(aResponse.code());
+        strategyResponse.setHeader(StrategyHttpResponse.HEADER_ETAG, aResponse.header(StrategyHttpResponse.HEADER_ETAG));
+        strategyResponse.setHeader(StrategyHttpResponse.HEADER_LAST_MODIFIED, aResponse.header(StrategyHttpResponse.HEADER_LAST_MODIFIED));
+        if (body == null) {
+            parseResponseOnThreadUI(null, strategyResponse);
+            return;
+        }
+        if (getAnalyzer() instanceof IStrategyHttpStreamAnalyzer) {
+            // The stream is closed after it is parsed or when the response is discarded, and so is the response
+            strategyResponse.setStream(body.byteStream());
+            parseResponseOnThreadUI(null, strategyResponse);
+            return;
+        }
+        try {
+            strategyResponse.setResponse(body.string());
+        } catch (IOException e) {
+            parseResponseOnThreadUI(e, createResponse(-1));
+            return;
+        } finally {
+            body.close();
+        }
+        parseResponseOnThreadUI(null, strategyResponse);
+    }
+
+    /**
+     * OkHttp notifies the response in its own thread, but the strategies are parsed in the thread UI.
+     */
+    private void parseResponseOnThreadUI(final Exception anException, final StrategyHttpResponse aResponse) {
+        Utils.runOnThreadUI(new Runnable() {
+            @Override
+            public void run() {
+                parseResponse(anException, aResponse);
+            }
+        });
+    }
+
+    private static StrategyHttpResponse createResponse(int aHttpCode) {
+        StrategyHttpResponse strategyResponse = new StrategyHttpResponse();
+        strategyResponse.setHttpCode(aHttpCode);
+        strategyResponse.setResponse("");
+        return strategyResponse;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        StrategyOkHttpBasic that = (StrategyOkHttpBasic) o;
+
+        if (mHeaders != null ? !mHeaders.equals(that.mHeaders) : that.mHeaders != null)
+            return false;
+        if (!mUrl.equals(that.mUrl)) return false;
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = mUrl.hashCode();
+        result = 31 * result + (mHeaders != null ? mHeaders.hashCode() : 0);
+        return result;
+    }
+}
@@ -0,0 +1,123 @@
+package com.globallogic.futbol.strategies.okhttp;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+/**
+ * Holds the {@link OkHttpClient} shared by all the {@link StrategyOkHttpBasic}.
+ * <p>
+ * Each {@link StrategyOkHttpConfig} obtains a client derived from the base one, so all of them share the
+ * connection pool and the dispatcher: the connections are kept alive between requests and the requests
+ * to a server that supports HTTP/2 are multiplexed over a single connection.
+ * The gzip responses are decompressed by OkHttp as long as the strategies don't add an "Accept-Encoding" header.
+ *
+ * @author facundo.mengoni
+ * @since 0.3.8
+ */
+public final class StrategyOkHttpClients {
+    //region Constants
+    public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 5;
+    public static final long DEFAULT_KEEP_ALIVE = 5 * 60 * 1000;
+    public static final int DEFAULT_MAX_REQUESTS = 64;
+    public static final int DEFAULT_MAX_REQUESTS_PER_HOST = 5;
+    //endregion
+
+    //region Variables
+    private static OkHttpClient sBaseClient;
+    //endregion
+
+    //region Constructors implementation
+    private StrategyOkHttpClients() {
+    }
+    //endregion
+
+    //region Getters & Setters implementation
+
+    /**
+     * @return The client from which the clients of each configuration are derived.
+     */
+    public static synchronized OkHttpClient getBaseClient() {
+        if (sBaseClient == null)
+            sBaseClient = new OkHttpClient.Builder()
+                    .connectionPool(new ConnectionPool(DEFAULT_MAX_IDLE_CONNECTIONS, DEFAULT_KEEP_ALIVE, TimeUnit.MILLISECONDS))
+                    .dispatcher(createDispatcher(DEFAULT_MAX_REQUESTS, DEFAULT_MAX_REQUESTS_PER_HOST))
+                    .build();
+        return sBaseClient;
+    }
+
+    /**
+     * Replaces the base client, for example to add a cache, an interceptor or a certificate pinner.
+     * The requests in execution finish with the previous client.
+     *
+     * @param aBaseClient The client from which the clients of each configuration are derived, null to use the default one.
+     */
+    public static synchronized void setBaseClient(OkHttpClient aBaseClient) {
+        sBaseClient = aBaseClient;
+    }
+
+    /**
+     * Replaces the connection pool of the base client. The idle connections of the previous pool are closed.
+     *
+     * @param aMaxIdleConnections The number of idle connections kept alive.
+     * @param aKeepAlive          The milliseconds that an idle connection is kept alive.
+     */
+    public static synchronized void setConnectionPool(int aMaxIdleConnections, long aKeepAlive) {
+        OkHttpClient baseClient = getBaseClient();
+        baseClient.connectionPool().evictAll();
+        sBaseClient = baseClient.newBuilder()
+                .connectionPool(new ConnectionPool(aMaxIdleConnections, aKeepAlive, TimeUnit.MILLISECONDS))
+                .build();
+    }
+
+    /**
+     * Limits the requests executed at the same time, the remaining ones wait in the dispatcher.
+     *
+     * @param aMaxRequests        The number of requests executed at the same time.
+     * @param aMaxRequestsPerHost The number of requests executed at the same time for each host.
+     */
+    public static synchronized void setMaxRequests(int aMaxRequests, int aMaxRequestsPerHost) {
+        Dispatcher dispatcher = getBaseClient().dispatcher();
+        dispatcher.setMaxRequests(aMaxRequests);
+        dispatcher.setMaxRequestsPerHost(aMaxRequestsPerHost);
+    }
+    //endregion
+
+    //region StrategyOkHttpClients implementation
+
+    /**
+     * @return A client that shares the connection pool and the dispatcher of the base client with the timeouts,
+     * the protocols and the compression of the configuration.
+     */
+    public static OkHttpClient getClient(StrategyOkHttpConfig aConfig) {
+        OkHttpClient.Builder builder = getBaseClient().newBuilder()
+                .connectTimeout(aConfig.getTimeOutMillisecond(), TimeUnit.MILLISECONDS)
+                .readTimeout(aConfig.getTimeOutMillisecond(), TimeUnit.MILLISECONDS)
+                .writeTimeout(aConfig.getTimeOutMillisecond(), TimeUnit.MILLISECONDS);
+        if (!aConfig.isHttp2Enabled())
+            builder.protocols(Collections.singletonList(Protocol.HTTP_1_1));
+        if (aConfig.isRequestCompressed())
+            builder.addInterceptor(new GzipRequestInterceptor());
+        return builder.build();
+    }
+
+    /**
+     * Closes the idle connections, for example when the application goes to background.
+     */
+    public static synchronized void evictAll() {
+        if (sBaseClient != null)
+            sBaseClient.connectionPool().evictAll();
+    }
+
+    private static Dispatcher createDispatcher(int aMaxRequests, int aMaxRequestsPerHost) {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(aMaxRequests);
+        dispatcher.setMaxRequestsPerHost(aMaxRequestsPerHost);
+        return dispatcher;
+    }
+    //endregion
+}
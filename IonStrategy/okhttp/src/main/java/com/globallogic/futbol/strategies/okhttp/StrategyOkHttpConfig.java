@@ -0,0 +1,59 @@
+package com.globallogic.futbol.strategies.okhttp;
+
+import java.io.Serializable;
+
+/**
+ * The configuration of the requests of a {@link StrategyOkHttpBasic}.
+ * The connection pool and the dispatcher are shared by all the configurations, see {@link StrategyOkHttpClients}.
+ *
+ * @author facundo.mengoni
+ * @since 0.3.8
+ */
+public class StrategyOkHttpConfig implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final int timeOutMillisecond;
+    private final boolean http2Enabled;
+    private final boolean requestCompressed;
+
+    public StrategyOkHttpConfig(int timeOutMillisecond) {
+        this(timeOutMillisecond, true, false);
+    }
+
+    public StrategyOkHttpConfig(int min, int seg) {
+        this(calculateMilliseconds(min, seg));
+    }
+
+    /**
+     * @param timeOutMillisecond The timeout to connect, to read and to write.
+     * @param http2Enabled       false to use only HTTP/1.1 even if the server supports HTTP/2.
+     * @param requestCompressed  true to compress the request bodies with gzip, the server must support it. The bodies are compressed in memory.
+     */
+    public StrategyOkHttpConfig(int timeOutMillisecond, boolean http2Enabled, boolean requestCompressed) {
+        this.timeOutMillisecond = timeOutMillisecond;
+        this.http2Enabled = http2Enabled;
+        this.requestCompressed = requestCompressed;
+    }
+
+    public int getTimeOutMillisecond() {
+        return timeOutMillisecond;
+    }
+
+    public boolean isHttp2Enabled() {
+        return http2Enabled;
+    }
+
+    public boolean isRequestCompressed() {
+        return requestCompressed;
+    }
+
+    public static StrategyOkHttpConfig getDefaultConfig() {
+        int min = 0;
+        int seg = 40;
+        return new StrategyOkHttpConfig(calculateMilliseconds(min, seg));
+    }
+
+    private static int calculateMilliseconds(int min, int seg) {
+        return (min * 60 + seg) * 1000;
+    }
+}
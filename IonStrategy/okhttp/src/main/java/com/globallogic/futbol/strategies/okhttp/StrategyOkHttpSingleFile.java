@@ -0,0 +1,70 @@
+package com.globallogic.futbol.strategies.okhttp;
+
+import com.globallogic.futbol.core.interfaces.analyzers.IStrategyHttpAnalyzer;
+import com.globallogic.futbol.core.operations.Operation;
+
+import java.io.File;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+
+public abstract class StrategyOkHttpSingleFile extends StrategyOkHttpBasic {
+    private static final long serialVersionUID = 1L;
+
+    private static final String TAG = StrategyOkHttpSingleFile.class.getSimpleName();
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+    private File mFile;
+
+    public StrategyOkHttpSingleFile(Operation anOperation, IStrategyHttpAnalyzer anAnalyzer, String aUrl, File mFile) {
+        super(anOperation, anAnalyzer, aUrl);
+        this.mFile = mFile;
+    }
+
+    public StrategyOkHttpSingleFile(Operation anOperation, IStrategyHttpAnalyzer anAnalyzer, StrategyOkHttpConfig aStrategyOkHttpConfig, String aUrl, File mFile) {
+        super(anOperation, anAnalyzer, aStrategyOkHttpConfig, aUrl);
+        this.mFile = mFile;
+    }
+
+    public File getFile() {
+        return mFile;
+    }
+
+    public void setFile(File aFile) {
+        this.mFile = aFile;
+    }
+
+    /**
+     * The file is streamed from disk, it isn't loaded in memory.
+     */
+    @Override
+    protected RequestBody getRequestBody() {
+        return RequestBody.create(MediaType.parse(DEFAULT_CONTENT_TYPE), mFile);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof StrategyOkHttpSingleFile)) return false;
+        if (!super.equals(o)) return false;
+
+        StrategyOkHttpSingleFile that = (StrategyOkHttpSingleFile) o;
+
+        if (mFile != null ? !mFile.equals(that.mFile) : that.mFile != null) return false;
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = super.hashCode();
+        result = 31 * result + (mFile != null ? mFile.hashCode() : 0);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "StrategyOkHttpSingleFile{" +
+                "mFile=" + mFile +
+                '}';
+    }
+}
@@ -0,0 +1,25 @@
+package com.globallogic.futbol.strategies.okhttp;
+
+import com.globallogic.futbol.core.interfaces.analyzers.IStrategyHttpAnalyzer;
+import com.globallogic.futbol.core.operations.Operation;
+
+import java.io.File;
+
+public class StrategyOkHttpSingleFilePost extends StrategyOkHttpSingleFile {
+    private static final long serialVersionUID = 1L;
+
+    private static final String TAG = StrategyOkHttpSingleFilePost.class.getSimpleName();
+    private static final String METHOD_NAME = "POST";
+
+    public StrategyOkHttpSingleFilePost(Operation anOperation, IStrategyHttpAnalyzer anAnalyzer, String aUrl, File mFile) {
+        super(anOperation, anAnalyzer, aUrl, mFile);
+    }
+
+    public StrategyOkHttpSingleFilePost(Operation anOperation, IStrategyHttpAnalyzer anAnalyzer, StrategyOkHttpConfig aStrategyOkHttpConfig, String aUrl, File mFile) {
+        super(anOperation, anAnalyzer, aStrategyOkHttpConfig, aUrl, mFile);
+    }
+
+    protected String getMethod() {
+        return METHOD_NAME;
+    }
+}
@@ -0,0 +1,25 @@
+package com.globallogic.futbol.strategies.okhttp;
+
+import com.globallogic.futbol.core.interfaces.analyzers.IStrategyHttpAnalyzer;
+import com.globallogic.futbol.core.operations.Operation;
+
+import java.io.File;
+
+public class StrategyOkHttpSingleFilePut extends StrategyOkHttpSingleFile {
+    private static final long serialVersionUID = 1L;
+
+    private static final String TAG = StrategyOkHttpSingleFilePut.class.getSimpleName();
+    private static final String METHOD_NAME = "PUT";
+
+    public StrategyOkHttpSingleFilePut(Operation anOperation, IStrategyHttpAnalyzer anAnalyzer, String aUrl, File mFile) {
+        super(anOperation, anAnalyzer, aUrl, mFile);
+    }
+
+    public StrategyOkHttpSingleFilePut(Operation anOperation, IStrategyHttpAnalyzer anAnalyzer, StrategyOkHttpConfig aStrategyOkHttpConfig, String aUrl, File mFile) {
+        super(anOperation, anAnalyzer, aStrategyOkHttpConfig, aUrl, mFile);
+    }
+
+    protected String getMethod() {
+        return METHOD_NAME;
+    }
+}
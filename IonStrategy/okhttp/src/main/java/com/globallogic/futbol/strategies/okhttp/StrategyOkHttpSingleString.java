@@ -0,0 +1,97 @@
+package com.globallogic.futbol.strategies.okhttp;
+
+import com.globallogic.futbol.core.interfaces.analyzers.IStrategyHttpAnalyzer;
+import com.globallogic.futbol.core.operations.Operation;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+
+public abstract class StrategyOkHttpSingleString extends StrategyOkHttpBasic {
+    private static final long serialVersionUID = 1L;
+
+    private static final String TAG = StrategyOkHttpSingleString.class.getSimpleName();
+    private static final String HEADER_CONTENT_TYPE = "Content-Type";
+    private static final String DEFAULT_CONTENT_TYPE = "text/plain; charset=utf-8";
+    private String mBody;
+
+    public StrategyOkHttpSingleString(Operation anOperation, IStrategyHttpAnalyzer anAnalyzer, String aUrl) {
+        super(anOperation, anAnalyzer, aUrl);
+        mBody = "";
+    }
+
+    public StrategyOkHttpSingleString(Operation anOperation, IStrategyHttpAnalyzer anAnalyzer, String aUrl, String aString) {
+        super(anOperation, anAnalyzer, aUrl);
+        this.mBody = aString;
+    }
+
+    public StrategyOkHttpSingleString(Operation anOperation, IStrategyHttpAnalyzer anAnalyzer, StrategyOkHttpConfig aStrategyOkHttpConfig, String aUrl) {
+        super(anOperation, anAnalyzer, aStrategyOkHttpConfig, aUrl);
+        mBody = "";
+    }
+
+    public StrategyOkHttpSingleString(Operation anOperation, IStrategyHttpAnalyzer anAnalyzer, StrategyOkHttpConfig aStrategyOkHttpConfig, String aUrl, String aString) {
+        super(anOperation, anAnalyzer, aStrategyOkHttpConfig, aUrl);
+        this.mBody = aString;
+    }
+
+    public String getBody() {
+        return mBody;
+    }
+
+    public void setBody(String aBody) {
+        this.mBody = aBody;
+    }
+
+    @Override
+    protected String getCacheBody() {
+        return mBody;
+    }
+
+    @Override
+    protected RequestBody getRequestBody() {
+        return RequestBody.create(getMediaType(), mBody != null ? mBody : "");
+    }
+
+    /**
+     * OkHttp sends the media type of the body as "Content-Type", so the one added as header is used.
+     *
+     * @return The "Content-Type" header added to the strategy or "text/plain" if there isn't any.
+     */
+    protected MediaType getMediaType() {
+        for (KeyValue keyValue : getHeaders()) {
+            if (HEADER_CONTENT_TYPE.equalsIgnoreCase(keyValue.getKey())) {
+                MediaType mediaType = MediaType.parse(keyValue.getValue());
+                if (mediaType != null)
+                    return mediaType;
+            }
+        }
+        return MediaType.parse(DEFAULT_CONTENT_TYPE);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof StrategyOkHttpSingleString)) return false;
+        if (!super.equals(o)) return false;
+
+        StrategyOkHttpSingleString that = (StrategyOkHttpSingleString) o;
+
+        if (mBody != null ? !mBody.equals(that.mBody) : that.mBody != null) return false;
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = super.hashCode();
+        result = 31 * result + (mBody != null ? mBody.hashCode() : 0);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "StrategyOkHttpSingleString{" +
+                "mBody='" + mBody + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,37 @@
+package com.globallogic.futbol.strategies.okhttp;
+
+import android.text.TextUtils;
+
+import com.globallogic.futbol.core.interfaces.analyzers.IStrategyHttpAnalyzer;
+import com.globallogic.futbol.core.operations.Operation;
+
+import okhttp3.RequestBody;
+
+public class StrategyOkHttpSingleStringDelete extends StrategyOkHttpSingleString {
+    private static final long serialVersionUID = 1L;
+
+    private static final String TAG = StrategyOkHttpSingleStringDelete.class.getSimpleName();
+    private static final String METHOD_NAME = "DELETE";
+
+    public StrategyOkHttpSingleStringDelete(Operation anOperation, IStrategyHttpAnalyzer anAnalyzer, String aUrl) {
+        super(anOperation, anAnalyzer, aUrl);
+    }
+
+    public StrategyOkHttpSingleStringDelete(Operation anOperation, IStrategyHttpAnalyzer anAnalyzer, StrategyOkHttpConfig aStrategyOkHttpConfig, String aUrl) {
+        super(anOperation, anAnalyzer, aStrategyOkHttpConfig, aUrl);
+    }
+
+    protected String getMethod() {
+        return METHOD_NAME;
+    }
+
+    /**
+     * A DELETE without body is sent without "Content-Type" nor "Content-Length".
+     */
+    @Override
+    protected RequestBody getRequestBody() {
+        if (TextUtils.isEmpty(getBody()))
+            return null;
+        return super.getRequestBody();
+    }
+}
@@ -0,0 +1,92 @@
+package com.globallogic.futbol.strategies.okhttp;
+
+import com.globallogic.futbol.core.interfaces.analyzers.IStrategyHttpAnalyzer;
+import com.globallogic.futbol.core.operations.Operation;
+
+import java.util.ArrayList;
+
+import okhttp3.HttpUrl;
+import okhttp3.RequestBody;
+
+public class StrategyOkHttpSingleStringGet extends StrategyOkHttpSingleString {
+    private static final long serialVersionUID = 1L;
+
+    private static final String TAG = StrategyOkHttpSingleStringGet.class.getSimpleName();
+    private static final String METHOD_NAME = "GET";
+
+    private final ArrayList<KeyValue> mParams = new ArrayList<>();
+
+    public StrategyOkHttpSingleStringGet(Operation anOperation, IStrategyHttpAnalyzer anAnalyzer, String aUrl) {
+        super(anOperation, anAnalyzer, aUrl);
+    }
+
+    public StrategyOkHttpSingleStringGet(Operation anOperation, IStrategyHttpAnalyzer anAnalyzer, StrategyOkHttpConfig aStrategyOkHttpConfig, String aUrl) {
+        super(anOperation, anAnalyzer, aStrategyOkHttpConfig, aUrl);
+    }
+
+    protected static String formatUrl(String aUrl, ArrayList<KeyValue> aParams) {
+        HttpUrl url = HttpUrl.parse(aUrl);
+        if (url == null || aParams.isEmpty())
+            return aUrl;
+        HttpUrl.Builder builder = url.newBuilder();
+        for (KeyValue param : aParams)
+            builder.addQueryParameter(param.getKey(), param.getValue());
+        return builder.build().toString();
+    }
+
+    protected String getMethod() {
+        return METHOD_NAME;
+    }
+
+    /**
+     * A GET can't have a body.
+     */
+    @Override
+    protected RequestBody getRequestBody() {
+        return null;
+    }
+
+    /**
+     * A GET doesn't have side effects, so two equal requests in execution share the same response.
+     */
+    @Override
+    protected boolean isCoalescable() {
+        return true;
+    }
+
+    @Override
+    public String getUrl() {
+        return formatUrl(super.getUrl(), getParams());
+    }
+
+    public ArrayList<KeyValue> getParams() {
+        return mParams;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof StrategyOkHttpSingleStringGet)) return false;
+        if (!super.equals(o)) return false;
+
+        StrategyOkHttpSingleStringGet that = (StrategyOkHttpSingleStringGet) o;
+
+        if (!mParams.equals(that.mParams)) return false;
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = super.hashCode();
+        result = 31 * result + mParams.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "StrategyOkHttpGet{" +
+                "mParams=" + mParams +
+                "} " + super.toString();
+    }
+}
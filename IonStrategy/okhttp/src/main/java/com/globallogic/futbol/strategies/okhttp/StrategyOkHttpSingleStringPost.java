@@ -0,0 +1,31 @@
+package com.globallogic.futbol.strategies.okhttp;
+
+import com.globallogic.futbol.core.interfaces.analyzers.IStrategyHttpAnalyzer;
+import com.globallogic.futbol.core.operations.Operation;
+
+public class StrategyOkHttpSingleStringPost extends StrategyOkHttpSingleString {
+    private static final long serialVersionUID = 1L;
+
+    private static final String TAG = StrategyOkHttpSingleStringPost.class.getSimpleName();
+    private static final String METHOD_NAME = "POST";
+
+    public StrategyOkHttpSingleStringPost(Operation anOperation, IStrategyHttpAnalyzer anAnalyzer, String aUrl) {
+        super(anOperation, anAnalyzer, aUrl);
+    }
+
+    public StrategyOkHttpSingleStringPost(Operation anOperation, IStrategyHttpAnalyzer anAnalyzer, String aUrl, String aString) {
+        super(anOperation, anAnalyzer, aUrl, aString);
+    }
+
+    public StrategyOkHttpSingleStringPost(Operation anOperation, IStrategyHttpAnalyzer anAnalyzer, StrategyOkHttpConfig aStrategyOkHttpConfig, String aUrl) {
+        super(anOperation, anAnalyzer, aStrategyOkHttpConfig, aUrl);
+    }
+
+    public StrategyOkHttpSingleStringPost(Operation anOperation, IStrategyHttpAnalyzer anAnalyzer, StrategyOkHttpConfig aStrategyOkHttpConfig, String aUrl, String aString) {
+        super(anOperation, anAnalyzer, aStrategyOkHttpConfig, aUrl, aString);
+    }
+
+    protected String getMethod() {
+        return METHOD_NAME;
+    }
+}
@@ -6,6 +6,7 @@ import android.support.v7.widget.RecyclerView;
 import android.view.View;
 import android.widget.Toast;
 
+import com.globallogic.futbol.core.ResultFreshness;
 import com.globallogic.futbol.example.R;
 import com.globallogic.futbol.example.adapters.DevicesAdapter;
 import com.globallogic.futbol.example.domain.models.Device;
@@ -20,17 +21,9 @@ import java.util.ArrayList;
  * @since 0.3
  */
 public class GetDevicesPresenter {
-    //region Constants
-    private static final String SAVED_INSTANCE_HAS_HTTP_RESPONSE = "SAVED_INSTANCE_HAS_HTTP_RESPONSE";
-    private static final String SAVED_INSTANCE_HAS_DB_RESPONSE = "SAVED_INSTANCE_HAS_DB_RESPONSE";
-    //endregion
-
     private final IGetDevicesView view;
 
     //region Presenter vars
-    private boolean hasHttpResponse;
-    private boolean hasDbResponse;
-
     private DevicesAdapter mDevicesAdapter;
 
     //region Operation vars
@@ -46,13 +39,12 @@ public class GetDevicesPresenter {
 
         @Override
         public void onStartOperation() {
-            if (!hasDbResponse && !hasHttpResponse)
+            if (mDevicesAdapter.getItemCount() == 0)
                 view.changeWaitingView(true);
         }
 
         @Override
-        public void onSuccessHttp(final ArrayList<Device> aList) {
-            hasHttpResponse = true;
+        public void onSuccess(final ArrayList<Device> aList, ResultFreshness aFreshness) {
             View.OnClickListener onClickListener = new View.OnClickListener() {
                 @Override
                 public void onClick(View v) {
@@ -61,20 +53,10 @@ public class GetDevicesPresenter {
                     view.changeNormalView(false);
                 }
             };
-            if (hasDbResponse) {
-                view.showSnackBar("Hay nuevos elementos", Snackbar.LENGTH_LONG, "Ver", onClickListener);
-            } else {
+            if (aFreshness.isStale() || mDevicesAdapter.getItemCount() == 0) {
                 onClickListener.onClick(null);
-            }
-        }
-
-        @Override
-        public void onSuccessDb(ArrayList<Device> aList) {
-            hasDbResponse = true;
-            if (!hasHttpResponse) {
-                mDevicesAdapter.addList(aList);
-                view.changeWaitingView(false);
-                view.changeNormalView(false);
+            } else if (aFreshness.hasChanged()) {
+                view.showSnackBar("Hay nuevos elementos", Snackbar.LENGTH_LONG, "Ver", onClickListener);
             }
         }
 
@@ -87,7 +69,7 @@ public class GetDevicesPresenter {
 
         @Override
         public void onFinishOperation() {
-            if (hasDbResponse || hasHttpResponse)
+            if (mDevicesAdapter.getItemCount() > 0)
                 view.changeWaitingView(false);
         }
     };
@@ -106,7 +88,7 @@ public class GetDevicesPresenter {
 
         @Override
         public void onSuccess(Device aDevice) {
-            if (hasDbResponse || hasHttpResponse) {
+            if (mDevicesAdapter.getItemCount() > 0) {
                 mDevicesAdapter.update(aDevice);
             }
         }
@@ -146,14 +128,10 @@ public class GetDevicesPresenter {
     public void onSaveInstanceState(Bundle outState) {
         mDevicesAdapter.onSaveInstanceState(outState);
         mGetDevicesOperation.onSaveInstanceState(outState);
-        outState.putBoolean(SAVED_INSTANCE_HAS_HTTP_RESPONSE, hasHttpResponse);
-        outState.putBoolean(SAVED_INSTANCE_HAS_DB_RESPONSE, hasDbResponse);
     }
 
     private void onRestoreInstance(Bundle savedInstanceState) {
         mDevicesAdapter.onRestoreInstance(savedInstanceState);
-        hasHttpResponse = savedInstanceState.getBoolean(SAVED_INSTANCE_HAS_HTTP_RESPONSE);
-        hasDbResponse = savedInstanceState.getBoolean(SAVED_INSTANCE_HAS_DB_RESPONSE);
     }
 
     public void onActivityCreated(Bundle savedInstanceState) {
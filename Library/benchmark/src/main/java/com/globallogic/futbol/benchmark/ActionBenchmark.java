@@ -0,0 +1,49 @@
+package com.globallogic.futbol.benchmark;
+
+import com.globallogic.futbol.core.OperationResult;
+import com.globallogic.futbol.core.broadcasts.OperationBroadcastReceiverHelper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Build the action of a result, formatting it every time and with the table of the operation.
+ *
+ * @author facundo.mengoni
+ * @see OperationBroadcastReceiverHelper.ActionTable
+ * @since 0.3.8
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ActionBenchmark {
+    private final Class mClass = BenchmarkOperation.class;
+    private final String mId = "benchmark";
+
+    @Benchmark
+    public String format() {
+        return OperationBroadcastReceiverHelper.getAction(mClass.getSimpleName(), OperationResult.OK.name, mId);
+    }
+
+    @Benchmark
+    public String getActionForOk() {
+        return OperationBroadcastReceiverHelper.getActionForOk(mClass, mId);
+    }
+
+    @Benchmark
+    public String getActionTable() {
+        return OperationBroadcastReceiverHelper.getActionTable(mClass, mId).getActionWithId(OperationResult.OK);
+    }
+}
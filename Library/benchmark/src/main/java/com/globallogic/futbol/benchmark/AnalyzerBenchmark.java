@@ -0,0 +1,68 @@
+package com.globallogic.futbol.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.Charset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Analyze a response in the background as the strategies do, reading it as a string first or
+ * parsing it while it is read.
+ *
+ * @author facundo.mengoni
+ * @see com.globallogic.futbol.core.strategies.HttpOperationStrategy#workInBackground(Exception, Integer, String)
+ * @since 0.3.8
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnalyzerBenchmark {
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    @Param({"10", "1000"})
+    public int devices;
+
+    private String mJson;
+    private byte[] mBytes;
+    private BenchmarkOperation.Strategy mStringStrategy;
+    private BenchmarkOperation.Strategy mStreamStrategy;
+
+    @Setup
+    public void setUp() {
+        BenchmarkApplication.install();
+        mJson = BenchmarkDevice.createJsonArray(devices);
+        mBytes = mJson.getBytes(UTF_8);
+        BenchmarkOperation operation = new BenchmarkOperation(mJson);
+        mStringStrategy = new BenchmarkOperation.Strategy(operation, new BenchmarkAnalyzers.StringAnalyzer());
+        mStreamStrategy = new BenchmarkOperation.Strategy(operation, new BenchmarkAnalyzers.StreamAnalyzer());
+    }
+
+    @Benchmark
+    public Boolean stringAnalyzer() {
+        return mStringStrategy.analyze(mJson);
+    }
+
+    @Benchmark
+    public Boolean stringAnalyzerFromBytes() {
+        return mStringStrategy.analyze(new ByteArrayInputStream(mBytes));
+    }
+
+    @Benchmark
+    public Boolean streamAnalyzer() {
+        return mStreamStrategy.analyze(new ByteArrayInputStream(mBytes));
+    }
+}
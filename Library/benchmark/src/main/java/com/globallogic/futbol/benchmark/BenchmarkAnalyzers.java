@@ -0,0 +1,37 @@
+package com.globallogic.futbol.benchmark;
+
+import com.globallogic.futbol.core.analyzers.DefaultHttpAnalyzer;
+import com.globallogic.futbol.core.analyzers.DefaultHttpStreamAnalyzer;
+import com.globallogic.futbol.core.operations.OperationHelper;
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+/**
+ * The analyzers of a list of {@link BenchmarkDevice}, like the ones of the example applications.
+ *
+ * @author facundo.mengoni
+ * @since 0.3.8
+ */
+public class BenchmarkAnalyzers {
+    /**
+     * Parse the whole response as a string.
+     */
+    public static class StringAnalyzer extends DefaultHttpAnalyzer<ArrayList<BenchmarkDevice>> {
+        @Override
+        protected ArrayList<BenchmarkDevice> parseResponse(String result) {
+            return OperationHelper.getModelArray(result, BenchmarkDevice.DATE_FORMAT, BenchmarkDevice.class);
+        }
+    }
+
+    /**
+     * Parse the response element by element.
+     */
+    public static class StreamAnalyzer extends DefaultHttpStreamAnalyzer<ArrayList<BenchmarkDevice>> {
+        @Override
+        protected ArrayList<BenchmarkDevice> parseResponse(JsonReader aReader) throws IOException {
+            return OperationHelper.getModelArray(aReader, BenchmarkDevice.DATE_FORMAT, BenchmarkDevice.class);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.globallogic.futbol.benchmark;
+
+import android.app.Application;
+import android.content.Context;
+import android.net.ConnectivityManager;
+import android.net.NetworkInfo;
+
+import com.globallogic.futbol.core.OperationApp;
+
+/**
+ * The application used as context by the benchmarks. It is always connected.
+ *
+ * @author facundo.mengoni
+ * @since 0.3.8
+ */
+public class BenchmarkApplication extends Application {
+    private final ConnectivityManager mConnectivityManager = new ConnectivityManager(new NetworkInfo(true));
+
+    /**
+     * Define this application as the context of the library. It can be called more than once.
+     *
+     * @return The application installed.
+     */
+    public static synchronized Application install() {
+        if (!(OperationApp.getInstance() instanceof BenchmarkApplication))
+            OperationApp.setInstance(new BenchmarkApplication());
+        return OperationApp.getInstance();
+    }
+
+    @Override
+    public Object getSystemService(String aName) {
+        if (Context.CONNECTIVITY_SERVICE.equals(aName))
+            return mConnectivityManager;
+        return super.getSystemService(aName);
+    }
+}
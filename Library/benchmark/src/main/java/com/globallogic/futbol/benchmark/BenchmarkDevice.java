@@ -0,0 +1,78 @@
+package com.globallogic.futbol.benchmark;
+
+import java.io.Serializable;
+import java.util.Date;
+
+/**
+ * A model like the ones of the example applications.
+ *
+ * @author facundo.mengoni
+ * @since 0.3.8
+ */
+public class BenchmarkDevice implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    public static final String DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'";
+
+    private Integer id;
+    private Date createdAt;
+    private Date updatedAt;
+    private String name;
+    private String resolution;
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public Date getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Date createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Date getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Date updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getResolution() {
+        return resolution;
+    }
+
+    public void setResolution(String resolution) {
+        this.resolution = resolution;
+    }
+
+    /**
+     * @param aCount The number of devices.
+     * @return A json array of devices like the one returned by the server of the examples.
+     */
+    public static String createJsonArray(int aCount) {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < aCount; i++) {
+            if (i > 0)
+                builder.append(',');
+            builder.append("{\"createdAt\":\"2015-08-05T11:14:45.374Z\",\"id\":\"").append(i)
+                    .append("\",\"name\":\"Device ").append(i)
+                    .append("\",\"resolution\":\"720x1280\",\"updatedAt\":\"2015-08-05T11:14:45.374Z\"}");
+        }
+        return builder.append(']').toString();
+    }
+}
@@ -0,0 +1,94 @@
+package com.globallogic.futbol.benchmark;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * A hand written adapter for {@link BenchmarkDevice}, to compare it with the reflective one.
+ *
+ * @author facundo.mengoni
+ * @since 0.3.8
+ */
+public class BenchmarkDeviceTypeAdapter extends TypeAdapter<BenchmarkDevice> {
+    private static final ThreadLocal<DateFormat> sDateFormat = new ThreadLocal<DateFormat>() {
+        @Override
+        protected DateFormat initialValue() {
+            return new SimpleDateFormat(BenchmarkDevice.DATE_FORMAT, Locale.US);
+        }
+    };
+
+    @Override
+    public void write(JsonWriter out, BenchmarkDevice value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        // The id is written as a string, like the server sends it
+        out.name("id").value(value.getId() == null ? null : String.valueOf(value.getId()));
+        out.name("createdAt").value(formatDate(value.getCreatedAt()));
+        out.name("updatedAt").value(formatDate(value.getUpdatedAt()));
+        out.name("name").value(value.getName());
+        out.name("resolution").value(value.getResolution());
+        out.endObject();
+    }
+
+    @Override
+    public BenchmarkDevice read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        BenchmarkDevice device = new BenchmarkDevice();
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                continue;
+            }
+            switch (name) {
+                case "id":
+                    device.setId(Integer.valueOf(in.nextString()));
+                    break;
+                case "createdAt":
+                    device.setCreatedAt(parseDate(in.nextString()));
+                    break;
+                case "updatedAt":
+                    device.setUpdatedAt(parseDate(in.nextString()));
+                    break;
+                case "name":
+                    device.setName(in.nextString());
+                    break;
+                case "resolution":
+                    device.setResolution(in.nextString());
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+        return device;
+    }
+
+    private Date parseDate(String aDate) throws IOException {
+        try {
+            return sDateFormat.get().parse(aDate);
+        } catch (ParseException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static String formatDate(Date aDate) {
+        return aDate == null ? null : sDateFormat.get().format(aDate);
+    }
+}
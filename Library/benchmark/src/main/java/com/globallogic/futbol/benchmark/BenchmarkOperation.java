@@ -0,0 +1,58 @@
+package com.globallogic.futbol.benchmark;
+
+import com.globallogic.futbol.core.interfaces.analyzers.IStrategyHttpAnalyzer;
+import com.globallogic.futbol.core.operations.Operation;
+import com.globallogic.futbol.core.responses.StrategyHttpResponse;
+import com.globallogic.futbol.core.strategies.OperationStrategy;
+import com.globallogic.futbol.core.strategies.mock.StrategyHttpMock;
+
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+
+/**
+ * An operation with one http strategy that always returns the same response.
+ * With a {@link DirectStrategyExecutor} and in direct pipeline mode it finishes before {@link #performOperation(Object...)} returns.
+ *
+ * @author facundo.mengoni
+ * @since 0.3.8
+ */
+public class BenchmarkOperation extends Operation {
+    private static final long serialVersionUID = 1L;
+
+    private final String mResponse;
+
+    public BenchmarkOperation(String aResponse) {
+        super();
+        mResponse = aResponse;
+        setExecutor(new DirectStrategyExecutor());
+        setDirectPipeline(true);
+    }
+
+    @Override
+    protected ArrayList<OperationStrategy> getStrategies(Object... arg) {
+        ArrayList<OperationStrategy> strategies = new ArrayList<>();
+        strategies.add(new Strategy(this, new BenchmarkAnalyzers.StreamAnalyzer())
+                .add(new StrategyHttpResponse(HttpURLConnection.HTTP_OK, mResponse)));
+        return strategies;
+    }
+
+    /**
+     * A mock strategy that exposes the analysis, to measure it without the rest of the operation.
+     */
+    public static class Strategy extends StrategyHttpMock {
+        private static final long serialVersionUID = 1L;
+
+        public Strategy(Operation anOperation, IStrategyHttpAnalyzer anAnalyzer) {
+            super(anOperation, anAnalyzer, 0f);
+        }
+
+        public Boolean analyze(String aResponse) {
+            return workInBackground(null, HttpURLConnection.HTTP_OK, aResponse);
+        }
+
+        public Boolean analyze(InputStream aResponse) {
+            return workInBackground(null, HttpURLConnection.HTTP_OK, aResponse);
+        }
+    }
+}
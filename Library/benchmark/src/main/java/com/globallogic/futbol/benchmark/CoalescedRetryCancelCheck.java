@@ -0,0 +1,213 @@
+package com.globallogic.futbol.benchmark;
+
+import android.content.Intent;
+
+import com.globallogic.futbol.core.broadcasts.OperationBroadcastReceiver;
+import com.globallogic.futbol.core.interfaces.callbacks.IOperationCallback;
+import com.globallogic.futbol.core.operations.Operation;
+import com.globallogic.futbol.core.policies.RetryPolicy;
+import com.globallogic.futbol.core.responses.StrategyHttpResponse;
+import com.globallogic.futbol.core.strategies.HttpOperationStrategy;
+import com.globallogic.futbol.core.strategies.OperationStrategy;
+
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cancel the strategy that does a coalesced request while it waits to retry it, and check that:
+ * <ul>
+ * <li>The equal strategies waiting for its response still receive it and their operations finish.</li>
+ * <li>If nobody is waiting the retry isn't done, and the next equal strategy does its own request
+ * instead of waiting for the cancelled one.</li>
+ * </ul>
+ * The first attempt of each strategy answers {@link HttpURLConnection#HTTP_UNAVAILABLE} and the retry
+ * answers {@link HttpURLConnection#HTTP_OK}. Run it with: ./gradlew :benchmark:coalescingCheck
+ *
+ * @author facundo.mengoni
+ * @see OperationStrategy#isCoalescable()
+ * @since 0.3.8
+ */
+public class CoalescedRetryCancelCheck {
+    private static final long BACKOFF = 300;
+    private static final long TIMEOUT = 5000;
+    private static final AtomicInteger sOperations = new AtomicInteger();
+
+    private final ArrayList<String> mErrors = new ArrayList<>();
+
+    public static void main(String[] args) throws InterruptedException {
+        BenchmarkApplication.install();
+        CoalescedRetryCancelCheck check = new CoalescedRetryCancelCheck();
+        check.checkCancelWithFollower();
+        check.checkCancelWithoutFollower();
+        for (String error : check.mErrors)
+            System.err.println(error);
+        if (!check.mErrors.isEmpty())
+            System.exit(1);
+        System.out.println("Coalesced retry cancel check passed");
+    }
+
+    private void checkCancelWithFollower() throws InterruptedException {
+        Server server = new Server(true);
+        RecordingCallback leader = perform(new CheckOperation(server, "follower"));
+        // The follower attaches while the first request of the leader is in progress
+        RecordingCallback follower = perform(new CheckOperation(server, "follower"));
+        server.mFollowerAttached.countDown();
+        if (!server.mRetryScheduled.await(TIMEOUT, TimeUnit.MILLISECONDS)) {
+            mErrors.add("The leader didn't schedule the retry");
+            return;
+        }
+        leader.mOperation.cancel();
+        if (!follower.mFinished.await(TIMEOUT, TimeUnit.MILLISECONDS))
+            mErrors.add("The operation of the follower never finished after cancelling the leader");
+        else if (follower.mOk.get() != 1)
+            mErrors.add(String.format("The follower received %s results instead of the retried one", follower.mOk.get()));
+        if (leader.mOk.get() != 0)
+            mErrors.add("The cancelled leader delivered its result");
+        if (server.mRequests.get() != 2)
+            mErrors.add(String.format("The server received %s requests instead of the first one and the retry", server.mRequests.get()));
+    }
+
+    private void checkCancelWithoutFollower() throws InterruptedException {
+        Server server = new Server(false);
+        RecordingCallback leader = perform(new CheckOperation(server, "alone"));
+        if (!server.mRetryScheduled.await(TIMEOUT, TimeUnit.MILLISECONDS)) {
+            mErrors.add("The leader didn't schedule the retry");
+            return;
+        }
+        leader.mOperation.cancel();
+        Thread.sleep(BACKOFF * 2);
+        if (server.mRequests.get() != 1)
+            mErrors.add("The retry of a cancelled leader without followers was done");
+        RecordingCallback next = perform(new CheckOperation(server, "alone"));
+        if (!next.mFinished.await(TIMEOUT, TimeUnit.MILLISECONDS))
+            mErrors.add("The next equal strategy waited for the cancelled leader");
+        else if (next.mOk.get() != 1)
+            mErrors.add("The next equal strategy didn't receive its result");
+    }
+
+    private static RecordingCallback perform(CheckOperation anOperation) {
+        final RecordingCallback callback = new RecordingCallback(anOperation);
+        new OperationBroadcastReceiver(callback) {
+            @Override
+            protected void onResultOK(Intent anIntent) {
+                callback.mOk.incrementAndGet();
+            }
+
+            @Override
+            protected void onResultError(Intent anIntent) {
+            }
+        }.startListening(anOperation);
+        anOperation.performOperation();
+        return callback;
+    }
+
+    private static class RecordingCallback implements IOperationCallback {
+        private final Operation mOperation;
+        private final AtomicInteger mOk = new AtomicInteger();
+        private final CountDownLatch mFinished = new CountDownLatch(1);
+
+        RecordingCallback(Operation anOperation) {
+            mOperation = anOperation;
+        }
+
+        @Override
+        public void onStartOperation() {
+        }
+
+        @Override
+        public void onFinishOperation() {
+            mFinished.countDown();
+        }
+    }
+
+    /**
+     * Answers the requests of the strategies of one check.
+     */
+    private static class Server {
+        private final boolean mWaitFollower;
+        private final AtomicInteger mRequests = new AtomicInteger();
+        private final CountDownLatch mFollowerAttached = new CountDownLatch(1);
+        private final CountDownLatch mRetryScheduled = new CountDownLatch(1);
+
+        Server(boolean aWaitFollower) {
+            mWaitFollower = aWaitFollower;
+        }
+
+        void respond(CheckStrategy aStrategy) {
+            mRequests.incrementAndGet();
+            if (aStrategy.getAttempt() > 1) {
+                aStrategy.parseResponse(null, new StrategyHttpResponse(HttpURLConnection.HTTP_OK, "[]"));
+                return;
+            }
+            if (mWaitFollower) {
+                try {
+                    mFollowerAttached.await(TIMEOUT, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            aStrategy.parseResponse(null, new StrategyHttpResponse(HttpURLConnection.HTTP_UNAVAILABLE, ""));
+            mRetryScheduled.countDown();
+        }
+    }
+
+    private static class CheckOperation extends Operation {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Server mServer;
+        private final String mUrl;
+
+        CheckOperation(Server aServer, String aUrl) {
+            // Each operation has its own id, so its receiver doesn't receive the results of the others
+            super(String.valueOf(sOperations.incrementAndGet()));
+            mServer = aServer;
+            mUrl = aUrl;
+            setDirectPipeline(true);
+        }
+
+        @Override
+        protected ArrayList<OperationStrategy> getStrategies(Object... arg) {
+            CheckStrategy strategy = new CheckStrategy(this, mServer, mUrl);
+            strategy.setRetryPolicy(new RetryPolicy().setMaxAttempts(2).setBackoff(BACKOFF, 1f, BACKOFF).setJitter(0f));
+            ArrayList<OperationStrategy> strategies = new ArrayList<>();
+            strategies.add(strategy);
+            return strategies;
+        }
+    }
+
+    private static class CheckStrategy extends HttpOperationStrategy {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Server mServer;
+        private final String mUrl;
+
+        CheckStrategy(Operation anOperation, Server aServer, String aUrl) {
+            super(anOperation, new BenchmarkAnalyzers.StringAnalyzer());
+            mServer = aServer;
+            mUrl = aUrl;
+        }
+
+        @Override
+        protected boolean isCoalescable() {
+            return true;
+        }
+
+        @Override
+        protected void doRequestImpl() {
+            mServer.respond(this);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CheckStrategy && mUrl.equals(((CheckStrategy) o).mUrl);
+        }
+
+        @Override
+        public int hashCode() {
+            return mUrl.hashCode();
+        }
+    }
+}
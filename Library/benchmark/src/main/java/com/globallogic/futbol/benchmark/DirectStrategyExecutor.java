@@ -0,0 +1,35 @@
+package com.globallogic.futbol.benchmark;
+
+import com.globallogic.futbol.core.executors.StrategyExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Run the requests and the analysis in the thread that executes the operation,
+ * so a benchmark measures a whole operation in one invocation.
+ *
+ * @author facundo.mengoni
+ * @since 0.3.8
+ */
+public class DirectStrategyExecutor extends StrategyExecutor {
+    private static final Executor DIRECT = new Executor() {
+        @Override
+        public void execute(Runnable aRunnable) {
+            aRunnable.run();
+        }
+    };
+
+    public DirectStrategyExecutor() {
+        super(1, 1, 1, 1);
+    }
+
+    @Override
+    public Executor getIoExecutor() {
+        return DIRECT;
+    }
+
+    @Override
+    public Executor getCpuExecutor() {
+        return DIRECT;
+    }
+}
@@ -0,0 +1,96 @@
+package com.globallogic.futbol.benchmark;
+
+import com.globallogic.futbol.core.operations.OperationHelper;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parse a list of devices with a new {@link Gson} each time (cold), with the one cached by
+ * {@link OperationHelper} (warm) and while it is read (streaming).
+ * Each value of {@link #typeAdapter} runs in its own fork, so the adapter registered doesn't
+ * affect the measures without it.
+ *
+ * @author facundo.mengoni
+ * @see OperationHelper#registerTypeAdapter(Type, com.google.gson.TypeAdapter)
+ * @since 0.3.8
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonParsingBenchmark {
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final Type LIST_TYPE = new TypeToken<ArrayList<BenchmarkDevice>>() {
+    }.getType();
+
+    @Param({"1", "100", "1000"})
+    public int devices;
+
+    @Param({"false", "true"})
+    public boolean typeAdapter;
+
+    private String mJson;
+    private byte[] mBytes;
+
+    @Setup
+    public void setUp() {
+        mJson = BenchmarkDevice.createJsonArray(devices);
+        mBytes = mJson.getBytes(UTF_8);
+        if (typeAdapter)
+            OperationHelper.registerTypeAdapter(BenchmarkDevice.class, new BenchmarkDeviceTypeAdapter());
+    }
+
+    @Benchmark
+    public ArrayList<BenchmarkDevice> cold() {
+        GsonBuilder builder = new GsonBuilder().setDateFormat(BenchmarkDevice.DATE_FORMAT);
+        if (typeAdapter)
+            builder.registerTypeAdapter(BenchmarkDevice.class, new BenchmarkDeviceTypeAdapter());
+        return builder.create().fromJson(mJson, LIST_TYPE);
+    }
+
+    @Benchmark
+    public ArrayList<BenchmarkDevice> warm() {
+        return OperationHelper.getModelArray(mJson, BenchmarkDevice.DATE_FORMAT, BenchmarkDevice.class);
+    }
+
+    @Benchmark
+    public ArrayList<BenchmarkDevice> warmFromBytes() {
+        return OperationHelper.getModelArray(new String(mBytes, UTF_8), BenchmarkDevice.DATE_FORMAT, BenchmarkDevice.class);
+    }
+
+    @Benchmark
+    public ArrayList<BenchmarkDevice> streaming() throws IOException {
+        return OperationHelper.getModelArray(new JsonReader(new StringReader(mJson)), BenchmarkDevice.DATE_FORMAT, BenchmarkDevice.class);
+    }
+
+    @Benchmark
+    public ArrayList<BenchmarkDevice> streamingFromBytes() throws IOException {
+        JsonReader reader = new JsonReader(new InputStreamReader(new ByteArrayInputStream(mBytes), UTF_8));
+        return OperationHelper.getModelArray(reader, BenchmarkDevice.DATE_FORMAT, BenchmarkDevice.class);
+    }
+}
@@ -0,0 +1,87 @@
+package com.globallogic.futbol.benchmark;
+
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+
+import com.globallogic.futbol.core.LocalBroadcastManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Send a broadcast and deliver it to the receivers registered. The handler of the shims delivers it
+ * before {@link LocalBroadcastManager#sendBroadcast(Intent)} returns.
+ *
+ * @author facundo.mengoni
+ * @since 0.3.8
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocalBroadcastManagerBenchmark {
+    private static final String ACTION = "benchmark_action";
+    private static final String ACTION_WITHOUT_RECEIVERS = "benchmark_action_without_receivers";
+
+    @Param({"1", "10"})
+    public int receivers;
+
+    private LocalBroadcastManager mManager;
+    private final ArrayList<CountingReceiver> mReceivers = new ArrayList<>();
+    private final Intent mIntent = new Intent(ACTION);
+    private final Intent mIntentWithoutReceivers = new Intent(ACTION_WITHOUT_RECEIVERS);
+
+    @Setup
+    public void setUp() {
+        mManager = LocalBroadcastManager.getInstance(BenchmarkApplication.install());
+        for (int i = 0; i < receivers; i++) {
+            CountingReceiver receiver = new CountingReceiver();
+            mManager.registerReceiver(receiver, new IntentFilter(ACTION));
+            mReceivers.add(receiver);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (CountingReceiver receiver : mReceivers)
+            mManager.unregisterReceiver(receiver);
+        mReceivers.clear();
+    }
+
+    @Benchmark
+    public int sendBroadcast() {
+        mManager.sendBroadcast(mIntent);
+        return mReceivers.get(0).mCount;
+    }
+
+    @Benchmark
+    public boolean sendBroadcastWithoutReceivers() {
+        return mManager.sendBroadcast(mIntentWithoutReceivers);
+    }
+
+    private static class CountingReceiver extends BroadcastReceiver {
+        private int mCount;
+
+        @Override
+        public void onReceive(Context aContext, Intent anIntent) {
+            mCount++;
+        }
+    }
+}
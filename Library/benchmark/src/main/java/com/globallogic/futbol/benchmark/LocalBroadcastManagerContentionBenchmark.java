@@ -0,0 +1,120 @@
+package com.globallogic.futbol.benchmark;
+
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+
+import com.globallogic.futbol.core.LocalBroadcastManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Send broadcasts from three threads while other thread registers and unregisters a receiver for the
+ * same action, so the sends read the receivers while they are replaced.
+ * <p>
+ * After each iteration it checks that every receiver registered during the whole iteration received
+ * each broadcast once, and that no broadcast sent after a receiver was unregistered reached it.
+ * If not the iteration fails.
+ *
+ * @author facundo.mengoni
+ * @see LocalBroadcastManagerStressCheck
+ * @since 0.3.8
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocalBroadcastManagerContentionBenchmark {
+    private static final String ACTION = "benchmark_contention_action";
+    private static final String EXTRA_SEQUENCE = "sequence";
+
+    @Param({"1", "10"})
+    public int receivers;
+
+    private LocalBroadcastManager mManager;
+    private final ArrayList<SequenceReceiver> mReceivers = new ArrayList<>();
+    private final AtomicLong mSequence = new AtomicLong();
+    private final AtomicLong mLateDeliveries = new AtomicLong();
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        mManager = LocalBroadcastManager.getInstance(BenchmarkApplication.install());
+        mSequence.set(0);
+        mLateDeliveries.set(0);
+        for (int i = 0; i < receivers; i++) {
+            SequenceReceiver receiver = new SequenceReceiver(mLateDeliveries);
+            mManager.registerReceiver(receiver, new IntentFilter(ACTION));
+            mReceivers.add(receiver);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        for (SequenceReceiver receiver : mReceivers)
+            mManager.unregisterReceiver(receiver);
+        long sent = mSequence.get();
+        for (SequenceReceiver receiver : mReceivers) {
+            if (receiver.mReceived.get() != sent)
+                throw new IllegalStateException(String.format("A receiver received %s of %s broadcasts", receiver.mReceived.get(), sent));
+        }
+        mReceivers.clear();
+        if (mLateDeliveries.get() != 0)
+            throw new IllegalStateException(String.format("%s broadcasts were delivered after unregistering", mLateDeliveries.get()));
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(3)
+    public boolean sendBroadcast() {
+        return mManager.sendBroadcast(new Intent(ACTION).putExtra(EXTRA_SEQUENCE, mSequence.incrementAndGet()));
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public void registerAndUnregister() {
+        SequenceReceiver receiver = new SequenceReceiver(mLateDeliveries);
+        mManager.registerReceiver(receiver, new IntentFilter(ACTION));
+        mManager.unregisterReceiver(receiver);
+        receiver.mUnregisteredAt = mSequence.get();
+    }
+
+    private static class SequenceReceiver extends BroadcastReceiver {
+        private final AtomicLong mReceived = new AtomicLong();
+        private final AtomicLong mLateDeliveries;
+        private volatile long mUnregisteredAt = Long.MAX_VALUE;
+
+        SequenceReceiver(AtomicLong aLateDeliveries) {
+            mLateDeliveries = aLateDeliveries;
+        }
+
+        @Override
+        public void onReceive(Context aContext, Intent anIntent) {
+            mReceived.incrementAndGet();
+            // The sequence was taken after the unregister returned
+            if (anIntent.getLongExtra(EXTRA_SEQUENCE, 0) > mUnregisteredAt)
+                mLateDeliveries.incrementAndGet();
+        }
+    }
+}
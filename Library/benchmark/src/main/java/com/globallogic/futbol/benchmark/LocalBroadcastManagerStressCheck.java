@@ -0,0 +1,166 @@
+package com.globallogic.futbol.benchmark;
+
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+
+import com.globallogic.futbol.core.LocalBroadcastManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stress the {@link LocalBroadcastManager} with broadcasts sent from several threads while other threads
+ * register and unregister receivers for the same action, and check each delivery:
+ * <ul>
+ * <li>The receivers registered during the whole run receive every broadcast exactly once.</li>
+ * <li>The receivers registered and unregistered during the run never receive a broadcast twice,
+ * nor a broadcast sent after they were unregistered.</li>
+ * </ul>
+ * The handler of the shims delivers in the thread that sends, so the deliveries run concurrently too.
+ * Run it with: ./gradlew :benchmark:stressCheck
+ *
+ * @author facundo.mengoni
+ * @see LocalBroadcastManagerContentionBenchmark
+ * @since 0.3.8
+ */
+public class LocalBroadcastManagerStressCheck {
+    private static final String ACTION = "stress_action";
+    private static final String EXTRA_SEQUENCE = "sequence";
+    private static final int SENDERS = 4;
+    private static final int CHURNERS = 2;
+    private static final int STABLE_RECEIVERS = 3;
+    private static final int SENDS_PER_SENDER = 50000;
+
+    private final LocalBroadcastManager mManager;
+    private final AtomicLong mSequence = new AtomicLong();
+    private final AtomicBoolean mSending = new AtomicBoolean(true);
+    private final ArrayList<StableReceiver> mStableReceivers = new ArrayList<>();
+    private final ConcurrentLinkedQueue<ChurnReceiver> mChurnReceivers = new ConcurrentLinkedQueue<>();
+
+    private LocalBroadcastManagerStressCheck() {
+        mManager = LocalBroadcastManager.getInstance(BenchmarkApplication.install());
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        ArrayList<String> errors = new LocalBroadcastManagerStressCheck().run();
+        for (String error : errors)
+            System.err.println(error);
+        if (!errors.isEmpty())
+            System.exit(1);
+        System.out.println("LocalBroadcastManager stress check passed");
+    }
+
+    private ArrayList<String> run() throws InterruptedException {
+        int total = SENDERS * SENDS_PER_SENDER;
+        for (int i = 0; i < STABLE_RECEIVERS; i++) {
+            StableReceiver receiver = new StableReceiver(total);
+            mManager.registerReceiver(receiver, new IntentFilter(ACTION));
+            mStableReceivers.add(receiver);
+        }
+        final CountDownLatch start = new CountDownLatch(1);
+        ArrayList<Thread> senders = new ArrayList<>();
+        ArrayList<Thread> churners = new ArrayList<>();
+        for (int i = 0; i < SENDERS; i++)
+            senders.add(startThread("sender #" + i, start, new Runnable() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < SENDS_PER_SENDER; j++)
+                        mManager.sendBroadcast(new Intent(ACTION).putExtra(EXTRA_SEQUENCE, mSequence.incrementAndGet()));
+                }
+            }));
+        for (int i = 0; i < CHURNERS; i++)
+            churners.add(startThread("churner #" + i, start, new Runnable() {
+                @Override
+                public void run() {
+                    while (mSending.get()) {
+                        ChurnReceiver receiver = new ChurnReceiver();
+                        mManager.registerReceiver(receiver, new IntentFilter(ACTION));
+                        mManager.unregisterReceiver(receiver);
+                        receiver.mUnregisteredAt = mSequence.get();
+                        mChurnReceivers.add(receiver);
+                    }
+                }
+            }));
+        start.countDown();
+        for (Thread sender : senders)
+            sender.join();
+        mSending.set(false);
+        for (Thread churner : churners)
+            churner.join();
+        for (StableReceiver receiver : mStableReceivers)
+            mManager.unregisterReceiver(receiver);
+        return verify(total);
+    }
+
+    private ArrayList<String> verify(int aTotal) {
+        ArrayList<String> errors = new ArrayList<>();
+        for (int i = 0; i < mStableReceivers.size(); i++) {
+            AtomicIntegerArray received = mStableReceivers.get(i).mReceived;
+            for (int sequence = 1; sequence <= aTotal; sequence++) {
+                int count = received.get(sequence);
+                if (count != 1)
+                    errors.add(String.format("The stable receiver %s received the broadcast %s %s times", i, sequence, count));
+            }
+        }
+        int churnDeliveries = 0;
+        for (ChurnReceiver receiver : mChurnReceivers) {
+            HashSet<Long> received = new HashSet<>();
+            for (Long sequence : receiver.mReceived) {
+                churnDeliveries++;
+                if (!received.add(sequence))
+                    errors.add(String.format("A churn receiver received the broadcast %s twice", sequence));
+                if (sequence > receiver.mUnregisteredAt)
+                    errors.add(String.format("A churn receiver received the broadcast %s sent after it was unregistered", sequence));
+            }
+        }
+        System.out.println(String.format("Sent %s broadcasts to %s stable receivers, %s churn receivers received %s of them",
+                aTotal, mStableReceivers.size(), mChurnReceivers.size(), churnDeliveries));
+        return errors;
+    }
+
+    private static Thread startThread(String aName, final CountDownLatch aStart, final Runnable aWork) {
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    aStart.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                aWork.run();
+            }
+        }, aName);
+        thread.start();
+        return thread;
+    }
+
+    private static class StableReceiver extends BroadcastReceiver {
+        private final AtomicIntegerArray mReceived;
+
+        StableReceiver(int aTotal) {
+            mReceived = new AtomicIntegerArray(aTotal + 1);
+        }
+
+        @Override
+        public void onReceive(Context aContext, Intent anIntent) {
+            mReceived.incrementAndGet((int) anIntent.getLongExtra(EXTRA_SEQUENCE, 0));
+        }
+    }
+
+    private static class ChurnReceiver extends BroadcastReceiver {
+        private final ConcurrentLinkedQueue<Long> mReceived = new ConcurrentLinkedQueue<>();
+        private volatile long mUnregisteredAt = Long.MAX_VALUE;
+
+        @Override
+        public void onReceive(Context aContext, Intent anIntent) {
+            mReceived.add(anIntent.getLongExtra(EXTRA_SEQUENCE, 0));
+        }
+    }
+}
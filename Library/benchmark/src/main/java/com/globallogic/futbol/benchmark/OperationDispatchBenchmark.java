@@ -0,0 +1,111 @@
+package com.globallogic.futbol.benchmark;
+
+import android.content.Intent;
+
+import com.globallogic.futbol.core.OperationEvent;
+import com.globallogic.futbol.core.broadcasts.OperationBroadcastReceiver;
+import com.globallogic.futbol.core.broadcasts.OperationEventReceiver;
+import com.globallogic.futbol.core.interfaces.callbacks.IOperationCallback;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Perform a whole operation: the strategies are created, executed, analyzed and the results are
+ * delivered to one receiver, with broadcasts or with typed events.
+ *
+ * @author facundo.mengoni
+ * @see com.globallogic.futbol.core.operations.Operation#setTypedDispatch(boolean)
+ * @since 0.3.8
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OperationDispatchBenchmark {
+    @Param({"false", "true"})
+    public boolean typedDispatch;
+
+    @Param({"10"})
+    public int devices;
+
+    private BenchmarkOperation mOperation;
+    private CountingCallback mCallback;
+    private OperationBroadcastReceiver mBroadcastReceiver;
+    private OperationEventReceiver mEventReceiver;
+
+    @Setup
+    public void setUp() {
+        BenchmarkApplication.install();
+        mOperation = new BenchmarkOperation(BenchmarkDevice.createJsonArray(devices));
+        mOperation.setTypedDispatch(typedDispatch);
+        mCallback = new CountingCallback();
+        if (typedDispatch) {
+            mEventReceiver = new OperationEventReceiver(mCallback) {
+                @Override
+                protected void onResultOK(OperationEvent anEvent) {
+                    mCallback.mOk++;
+                }
+
+                @Override
+                protected void onResultError(OperationEvent anEvent) {
+                }
+            };
+            mEventReceiver.startListening(mOperation);
+        } else {
+            mBroadcastReceiver = new OperationBroadcastReceiver(mCallback) {
+                @Override
+                protected void onResultOK(Intent anIntent) {
+                    mCallback.mOk++;
+                }
+
+                @Override
+                protected void onResultError(Intent anIntent) {
+                }
+            };
+            mBroadcastReceiver.startListening(mOperation);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (mEventReceiver != null)
+            mEventReceiver.stopListening();
+        if (mBroadcastReceiver != null)
+            mBroadcastReceiver.stopListening();
+        if (mCallback.mOk == 0)
+            throw new IllegalStateException("The results weren't delivered");
+    }
+
+    @Benchmark
+    public int performOperation() {
+        mOperation.performOperation();
+        return mCallback.mOk;
+    }
+
+    private static class CountingCallback implements IOperationCallback {
+        private int mOk;
+
+        @Override
+        public void onStartOperation() {
+        }
+
+        @Override
+        public void onFinishOperation() {
+        }
+    }
+}
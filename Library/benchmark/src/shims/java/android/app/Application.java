@@ -0,0 +1,11 @@
+package android.app;
+
+import android.content.Context;
+
+/**
+ * JVM shim of the Android class, only what the futbol core uses.
+ */
+public class Application extends Context {
+    public void onCreate() {
+    }
+}
@@ -0,0 +1,8 @@
+package android.content;
+
+/**
+ * JVM shim of the Android class, only what the futbol core uses.
+ */
+public abstract class BroadcastReceiver {
+    public abstract void onReceive(Context aContext, Intent anIntent);
+}
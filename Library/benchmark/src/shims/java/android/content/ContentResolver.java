@@ -0,0 +1,7 @@
+package android.content;
+
+/**
+ * JVM shim of the Android class, only what the futbol core uses.
+ */
+public class ContentResolver {
+}
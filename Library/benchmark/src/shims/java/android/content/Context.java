@@ -0,0 +1,63 @@
+package android.content;
+
+import android.content.res.AssetManager;
+import android.os.Looper;
+
+import java.io.File;
+
+/**
+ * JVM shim of the Android class, only what the futbol core uses.
+ * The benchmarks override {@link #getSystemService(String)} to simulate the services they need.
+ */
+public abstract class Context {
+    public static final String CONNECTIVITY_SERVICE = "connectivity";
+    public static final int MODE_PRIVATE = 0;
+
+    private final AssetManager mAssets = new AssetManager();
+
+    public Object getSystemService(String aName) {
+        return null;
+    }
+
+    public Context getApplicationContext() {
+        return this;
+    }
+
+    public Looper getMainLooper() {
+        return Looper.getMainLooper();
+    }
+
+    public ContentResolver getContentResolver() {
+        return new ContentResolver();
+    }
+
+    public void sendBroadcast(Intent anIntent) {
+    }
+
+    public Intent registerReceiver(BroadcastReceiver aReceiver, IntentFilter aFilter) {
+        return null;
+    }
+
+    public void unregisterReceiver(BroadcastReceiver aReceiver) {
+    }
+
+    public AssetManager getAssets() {
+        return mAssets;
+    }
+
+    public File getFilesDir() {
+        return new File(System.getProperty("java.io.tmpdir"));
+    }
+
+    public File getCacheDir() {
+        return new File(System.getProperty("java.io.tmpdir"));
+    }
+
+    public SharedPreferences getSharedPreferences(String aName, int aMode) {
+        return null;
+    }
+
+    public String getString(int anId) {
+        return String.valueOf(anId);
+    }
+}
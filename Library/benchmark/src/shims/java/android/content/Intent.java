@@ -0,0 +1,132 @@
+package android.content;
+
+import android.net.Uri;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Set;
+
+/**
+ * JVM shim of the Android class, only what the futbol core uses.
+ * The extras are kept in a map, like the Android {@code Bundle} does before being parceled.
+ */
+public class Intent implements Cloneable {
+    public static final int FLAG_DEBUG_LOG_RESOLUTION = 0x00000008;
+
+    private String mAction;
+    private int mFlags;
+    private HashMap<String, Object> mExtras;
+
+    public Intent() {
+    }
+
+    public Intent(String anAction) {
+        mAction = anAction;
+    }
+
+    public Intent(Intent anIntent) {
+        mAction = anIntent.mAction;
+        mFlags = anIntent.mFlags;
+        if (anIntent.mExtras != null)
+            mExtras = new HashMap<>(anIntent.mExtras);
+    }
+
+    public Intent setAction(String anAction) {
+        mAction = anAction;
+        return this;
+    }
+
+    public String getAction() {
+        return mAction;
+    }
+
+    public int getFlags() {
+        return mFlags;
+    }
+
+    public Uri getData() {
+        return null;
+    }
+
+    public String getScheme() {
+        return null;
+    }
+
+    public Set<String> getCategories() {
+        return null;
+    }
+
+    public String resolveTypeIfNeeded(ContentResolver aResolver) {
+        return null;
+    }
+
+    private Intent put(String aKey, Object aValue) {
+        if (mExtras == null)
+            mExtras = new HashMap<>();
+        mExtras.put(aKey, aValue);
+        return this;
+    }
+
+    public Intent putExtra(String aKey, String aValue) {
+        return put(aKey, aValue);
+    }
+
+    public Intent putExtra(String aKey, Serializable aValue) {
+        return put(aKey, aValue);
+    }
+
+    public Intent putExtra(String aKey, int aValue) {
+        return put(aKey, aValue);
+    }
+
+    public Intent putExtra(String aKey, long aValue) {
+        return put(aKey, aValue);
+    }
+
+    public Intent putExtra(String aKey, boolean aValue) {
+        return put(aKey, aValue);
+    }
+
+    public Intent putExtras(Intent anIntent) {
+        if (anIntent.mExtras != null)
+            for (String key : anIntent.mExtras.keySet())
+                put(key, anIntent.mExtras.get(key));
+        return this;
+    }
+
+    public boolean hasExtra(String aKey) {
+        return mExtras != null && mExtras.containsKey(aKey);
+    }
+
+    private Object get(String aKey) {
+        return mExtras == null ? null : mExtras.get(aKey);
+    }
+
+    public String getStringExtra(String aKey) {
+        return (String) get(aKey);
+    }
+
+    public Serializable getSerializableExtra(String aKey) {
+        return (Serializable) get(aKey);
+    }
+
+    public boolean getBooleanExtra(String aKey, boolean aDefault) {
+        Object value = get(aKey);
+        return value == null ? aDefault : (Boolean) value;
+    }
+
+    public int getIntExtra(String aKey, int aDefault) {
+        Object value = get(aKey);
+        return value == null ? aDefault : (Integer) value;
+    }
+
+    public long getLongExtra(String aKey, long aDefault) {
+        Object value = get(aKey);
+        return value == null ? aDefault : (Long) value;
+    }
+
+    @Override
+    public Object clone() {
+        return new Intent(this);
+    }
+}
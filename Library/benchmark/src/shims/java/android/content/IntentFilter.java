@@ -0,0 +1,53 @@
+package android.content;
+
+import android.net.Uri;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * JVM shim of the Android class, only what the futbol core uses.
+ * It only matches by action.
+ */
+public class IntentFilter {
+    public static final int MATCH_CATEGORY_EMPTY = 0x0100000;
+    public static final int NO_MATCH_TYPE = -1;
+    public static final int NO_MATCH_DATA = -2;
+    public static final int NO_MATCH_ACTION = -3;
+    public static final int NO_MATCH_CATEGORY = -4;
+
+    private final ArrayList<String> mActions = new ArrayList<>();
+
+    public IntentFilter() {
+    }
+
+    public IntentFilter(String anAction) {
+        addAction(anAction);
+    }
+
+    public void addAction(String anAction) {
+        if (!mActions.contains(anAction))
+            mActions.add(anAction.intern());
+    }
+
+    public int countActions() {
+        return mActions.size();
+    }
+
+    public String getAction(int anIndex) {
+        return mActions.get(anIndex);
+    }
+
+    public boolean hasAction(String anAction) {
+        return mActions.contains(anAction);
+    }
+
+    public Iterator<String> actionsIterator() {
+        return mActions.iterator();
+    }
+
+    public int match(String anAction, String aType, String aScheme, Uri aData, Set<String> aCategories, String aLogTag) {
+        return hasAction(anAction) ? MATCH_CATEGORY_EMPTY : NO_MATCH_ACTION;
+    }
+}
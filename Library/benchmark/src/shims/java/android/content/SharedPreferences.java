@@ -0,0 +1,44 @@
+package android.content;
+
+import java.util.Set;
+
+/**
+ * JVM shim of the Android interface, only what the futbol core uses.
+ */
+public interface SharedPreferences {
+    interface Editor {
+        Editor remove(String aKey);
+
+        Editor putBoolean(String aKey, boolean aValue);
+
+        Editor putFloat(String aKey, float aValue);
+
+        Editor putInt(String aKey, int aValue);
+
+        Editor putLong(String aKey, long aValue);
+
+        Editor putString(String aKey, String aValue);
+
+        Editor putStringSet(String aKey, Set<String> aValue);
+
+        void apply();
+
+        boolean commit();
+    }
+
+    Editor edit();
+
+    boolean contains(String aKey);
+
+    boolean getBoolean(String aKey, boolean aDefault);
+
+    float getFloat(String aKey, float aDefault);
+
+    int getInt(String aKey, int aDefault);
+
+    long getLong(String aKey, long aDefault);
+
+    String getString(String aKey, String aDefault);
+
+    Set<String> getStringSet(String aKey, Set<String> aDefault);
+}
@@ -0,0 +1,15 @@
+package android.content.res;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * JVM shim of the Android class, only what the futbol core uses.
+ * The assets are read from the working directory.
+ */
+public class AssetManager {
+    public InputStream open(String aPath) throws IOException {
+        return new FileInputStream(aPath);
+    }
+}
@@ -0,0 +1,18 @@
+package android.net;
+
+/**
+ * JVM shim of the Android class, only what the futbol core uses.
+ */
+public class ConnectivityManager {
+    public static final String CONNECTIVITY_ACTION = "android.net.conn.CONNECTIVITY_CHANGE";
+
+    private final NetworkInfo mActiveNetworkInfo;
+
+    public ConnectivityManager(NetworkInfo anActiveNetworkInfo) {
+        mActiveNetworkInfo = anActiveNetworkInfo;
+    }
+
+    public NetworkInfo getActiveNetworkInfo() {
+        return mActiveNetworkInfo;
+    }
+}
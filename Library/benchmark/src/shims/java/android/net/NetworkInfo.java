@@ -0,0 +1,16 @@
+package android.net;
+
+/**
+ * JVM shim of the Android class, only what the futbol core uses.
+ */
+public class NetworkInfo {
+    private final boolean mConnected;
+
+    public NetworkInfo(boolean aConnected) {
+        mConnected = aConnected;
+    }
+
+    public boolean isConnected() {
+        return mConnected;
+    }
+}
@@ -0,0 +1,8 @@
+package android.net;
+
+/**
+ * JVM shim of the Android class, only what the futbol core uses.
+ */
+public abstract class Uri {
+    public abstract String getHost();
+}
@@ -0,0 +1,65 @@
+package android.os;
+
+import java.util.concurrent.Executor;
+
+/**
+ * JVM shim of the Android class, only what the futbol core uses.
+ * The background work runs in the executor received and the result is delivered in the same thread,
+ * like the {@link Looper#getMainLooper() main looper} of the shims does.
+ */
+public abstract class AsyncTask<Params, Progress, Result> {
+    public static final Executor SERIAL_EXECUTOR = new Executor() {
+        @Override
+        public void execute(Runnable aRunnable) {
+            aRunnable.run();
+        }
+    };
+    public static final Executor THREAD_POOL_EXECUTOR = SERIAL_EXECUTOR;
+
+    private volatile boolean mCancelled;
+
+    protected void onPreExecute() {
+    }
+
+    protected abstract Result doInBackground(Params... aParams);
+
+    protected void onPostExecute(Result aResult) {
+    }
+
+    protected void onCancelled() {
+    }
+
+    public final boolean isCancelled() {
+        return mCancelled;
+    }
+
+    public final boolean cancel(boolean aMayInterruptIfRunning) {
+        mCancelled = true;
+        return true;
+    }
+
+    @SafeVarargs
+    public final AsyncTask<Params, Progress, Result> execute(Params... aParams) {
+        return executeOnExecutor(SERIAL_EXECUTOR, aParams);
+    }
+
+    @SafeVarargs
+    public final AsyncTask<Params, Progress, Result> executeOnExecutor(Executor anExecutor, final Params... aParams) {
+        onPreExecute();
+        anExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                if (mCancelled) {
+                    onCancelled();
+                    return;
+                }
+                Result result = doInBackground(aParams);
+                if (mCancelled)
+                    onCancelled();
+                else
+                    onPostExecute(result);
+            }
+        });
+        return this;
+    }
+}
@@ -0,0 +1,17 @@
+package android.os;
+
+/**
+ * JVM shim of the Android class, only what the futbol core uses.
+ */
+public class Build {
+    public static class VERSION {
+        public static final int SDK_INT = VERSION_CODES.LOLLIPOP;
+    }
+
+    public static class VERSION_CODES {
+        public static final int GINGERBREAD = 9;
+        public static final int HONEYCOMB = 11;
+        public static final int JELLY_BEAN_MR1 = 17;
+        public static final int LOLLIPOP = 21;
+    }
+}
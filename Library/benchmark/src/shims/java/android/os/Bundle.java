@@ -0,0 +1,46 @@
+package android.os;
+
+import java.io.Serializable;
+import java.util.HashMap;
+
+/**
+ * JVM shim of the Android class, only what the futbol core uses.
+ */
+public class Bundle {
+    private final HashMap<String, Object> mValues = new HashMap<>();
+
+    public void putLong(String aKey, long aValue) {
+        mValues.put(aKey, aValue);
+    }
+
+    public long getLong(String aKey) {
+        Object value = mValues.get(aKey);
+        return value == null ? 0L : (Long) value;
+    }
+
+    public void putInt(String aKey, int aValue) {
+        mValues.put(aKey, aValue);
+    }
+
+    public int getInt(String aKey) {
+        Object value = mValues.get(aKey);
+        return value == null ? 0 : (Integer) value;
+    }
+
+    public void putBoolean(String aKey, boolean aValue) {
+        mValues.put(aKey, aValue);
+    }
+
+    public boolean getBoolean(String aKey) {
+        Object value = mValues.get(aKey);
+        return value != null && (Boolean) value;
+    }
+
+    public void putSerializable(String aKey, Serializable aValue) {
+        mValues.put(aKey, aValue);
+    }
+
+    public Serializable getSerializable(String aKey) {
+        return (Serializable) mValues.get(aKey);
+    }
+}
@@ -0,0 +1,51 @@
+package android.os;
+
+/**
+ * JVM shim of the Android class, only what the futbol core uses.
+ * The messages and runnables are handled immediately in the thread that sends them, so a benchmark
+ * measures the send and the delivery together. The delayed ones are handled immediately too.
+ */
+public class Handler {
+    public Handler() {
+    }
+
+    public Handler(Looper aLooper) {
+    }
+
+    public void handleMessage(Message aMessage) {
+    }
+
+    public Looper getLooper() {
+        return Looper.getMainLooper();
+    }
+
+    public boolean hasMessages(int aWhat) {
+        return false;
+    }
+
+    public boolean sendEmptyMessage(int aWhat) {
+        Message message = new Message();
+        message.what = aWhat;
+        handleMessage(message);
+        return true;
+    }
+
+    public boolean sendEmptyMessageDelayed(int aWhat, long aDelayMillis) {
+        return sendEmptyMessage(aWhat);
+    }
+
+    public void removeMessages(int aWhat) {
+    }
+
+    public boolean post(Runnable aRunnable) {
+        aRunnable.run();
+        return true;
+    }
+
+    public boolean postDelayed(Runnable aRunnable, long aDelayMillis) {
+        return post(aRunnable);
+    }
+
+    public void removeCallbacks(Runnable aRunnable) {
+    }
+}
@@ -0,0 +1,27 @@
+package android.os;
+
+/**
+ * JVM shim of the Android class, only what the futbol core uses.
+ * The main looper belongs to a thread that never runs, so the benchmark threads are never the thread UI.
+ */
+public class Looper {
+    private static final Looper sMainLooper = new Looper(new Thread("main"));
+
+    private final Thread mThread;
+
+    private Looper(Thread aThread) {
+        mThread = aThread;
+    }
+
+    public static Looper getMainLooper() {
+        return sMainLooper;
+    }
+
+    public static Looper myLooper() {
+        return null;
+    }
+
+    public Thread getThread() {
+        return mThread;
+    }
+}
@@ -0,0 +1,9 @@
+package android.os;
+
+/**
+ * JVM shim of the Android class, only what the futbol core uses.
+ */
+public class Message {
+    public int what;
+    public Object obj;
+}
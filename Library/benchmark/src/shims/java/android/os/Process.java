@@ -0,0 +1,11 @@
+package android.os;
+
+/**
+ * JVM shim of the Android class, only what the futbol core uses.
+ */
+public class Process {
+    public static final int THREAD_PRIORITY_BACKGROUND = 10;
+
+    public static void setThreadPriority(int aPriority) {
+    }
+}
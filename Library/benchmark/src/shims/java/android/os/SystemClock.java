@@ -0,0 +1,14 @@
+package android.os;
+
+/**
+ * JVM shim of the Android class, only what the futbol core uses.
+ */
+public class SystemClock {
+    public static long elapsedRealtime() {
+        return System.nanoTime() / 1000000L;
+    }
+
+    public static long uptimeMillis() {
+        return System.nanoTime() / 1000000L;
+    }
+}
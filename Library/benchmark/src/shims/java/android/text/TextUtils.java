@@ -0,0 +1,10 @@
+package android.text;
+
+/**
+ * JVM shim of the Android class, only what the futbol core uses.
+ */
+public class TextUtils {
+    public static boolean isEmpty(CharSequence aString) {
+        return aString == null || aString.length() == 0;
+    }
+}
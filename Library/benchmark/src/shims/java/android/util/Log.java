@@ -0,0 +1,30 @@
+package android.util;
+
+/**
+ * JVM shim of the Android class, only what the futbol core uses. The logs are discarded.
+ */
+public class Log {
+    public static int v(String aTag, String aMessage) {
+        return 0;
+    }
+
+    public static int d(String aTag, String aMessage) {
+        return 0;
+    }
+
+    public static int i(String aTag, String aMessage) {
+        return 0;
+    }
+
+    public static int w(String aTag, String aMessage) {
+        return 0;
+    }
+
+    public static int e(String aTag, String aMessage) {
+        return 0;
+    }
+
+    public static int e(String aTag, String aMessage, Throwable aThrowable) {
+        return 0;
+    }
+}
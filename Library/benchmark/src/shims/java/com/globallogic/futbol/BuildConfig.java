@@ -0,0 +1,8 @@
+package com.globallogic.futbol;
+
+/**
+ * JVM shim of the class generated by the Android build.
+ */
+public final class BuildConfig {
+    public static final boolean DEBUG = false;
+}
@@ -0,0 +1,107 @@
+package com.globallogic.futbol.example.data.adapters;
+
+import com.globallogic.futbol.example.data.entities.DeviceEntity;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * Parse a {@link DeviceEntity} without reflection.
+ *
+ * @author facundo.mengoni
+ * @see com.globallogic.futbol.core.operations.OperationHelper#registerTypeAdapter(java.lang.reflect.Type, TypeAdapter)
+ * @since 0.3.8
+ */
+public class DeviceEntityTypeAdapter extends TypeAdapter<DeviceEntity> {
+    public static final String DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'";
+
+    private static final ThreadLocal<DateFormat> sDateFormat = new ThreadLocal<DateFormat>() {
+        @Override
+        protected DateFormat initialValue() {
+            return new SimpleDateFormat(DATE_FORMAT, Locale.US);
+        }
+    };
+
+    @Override
+    public void write(JsonWriter out, DeviceEntity value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("id").value(value.getId());
+        out.name("createdAt").value(formatDate(value.getCreatedAt()));
+        out.name("updatedAt").value(formatDate(value.getUpdatedAt()));
+        out.name("name").value(value.getName());
+        out.name("resolution").value(value.getResolution());
+        out.endObject();
+    }
+
+    @Override
+    public DeviceEntity read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        DeviceEntity device = new DeviceEntity();
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                continue;
+            }
+            switch (name) {
+                case "id":
+                    device.setId(readInteger(in));
+                    break;
+                case "createdAt":
+                    device.setCreatedAt(parseDate(in.nextString()));
+                    break;
+                case "updatedAt":
+                    device.setUpdatedAt(parseDate(in.nextString()));
+                    break;
+                case "name":
+                    device.setName(in.nextString());
+                    break;
+                case "resolution":
+                    device.setResolution(in.nextString());
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+        return device;
+    }
+
+    private static Integer readInteger(JsonReader in) throws IOException {
+        try {
+            // The server sends the id as a string
+            return in.peek() == JsonToken.STRING ? Integer.valueOf(in.nextString()) : in.nextInt();
+        } catch (NumberFormatException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    private static Date parseDate(String aDate) {
+        try {
+            return sDateFormat.get().parse(aDate);
+        } catch (ParseException e) {
+            throw new JsonSyntaxException(aDate, e);
+        }
+    }
+
+    private static String formatDate(Date aDate) {
+        return aDate == null ? null : sDateFormat.get().format(aDate);
+    }
+}
@@ -8,6 +8,8 @@ import java.util.Date;
  * @since 0.3
  */
 public class DeviceEntity implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private Integer id;
     private Date createdAt;
     private Date updatedAt;
@@ -57,6 +59,9 @@ public class DeviceEntity implements Serializable {
         this.resolution = resolution;
     }
 
+    /**
+     * Compares all the fields, so a stale-while-revalidate operation knows if a device changed in the server.
+     */
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -64,15 +69,21 @@ public class DeviceEntity implements Serializable {
 
         DeviceEntity device = (DeviceEntity) o;
 
-        if (id != null && device.id != null) return id.equals(device.id);
-        return name != null && device.name != null && name.equals(device.name);
+        if (id != null ? !id.equals(device.id) : device.id != null) return false;
+        if (createdAt != null ? !createdAt.equals(device.createdAt) : device.createdAt != null) return false;
+        if (updatedAt != null ? !updatedAt.equals(device.updatedAt) : device.updatedAt != null) return false;
+        if (name != null ? !name.equals(device.name) : device.name != null) return false;
+        return resolution != null ? resolution.equals(device.resolution) : device.resolution == null;
 
     }
 
     @Override
     public int hashCode() {
         int result = id != null ? id.hashCode() : 0;
+        result = 31 * result + (createdAt != null ? createdAt.hashCode() : 0);
+        result = 31 * result + (updatedAt != null ? updatedAt.hashCode() : 0);
         result = 31 * result + (name != null ? name.hashCode() : 0);
+        result = 31 * result + (resolution != null ? resolution.hashCode() : 0);
         return result;
     }
 
@@ -15,6 +15,8 @@ import java.net.HttpURLConnection;
  * @since 0.3
  */
 public class GetDeviceFromHttp extends StrategyHttpMock {
+    private static final long serialVersionUID = 1L;
+
     public GetDeviceFromHttp(Operation anOperation, Integer id) {
         super(anOperation, new GetDeviceHttpAnalyzer(), 0f);
         try {
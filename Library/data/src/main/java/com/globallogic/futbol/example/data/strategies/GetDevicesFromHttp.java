@@ -1,6 +1,7 @@
 package com.globallogic.futbol.example.data.strategies;
 
 import com.globallogic.futbol.core.OperationApp;
+import com.globallogic.futbol.core.cache.HttpResponseCache;
 import com.globallogic.futbol.core.operations.Operation;
 import com.globallogic.futbol.core.operations.OperationHelper;
 import com.globallogic.futbol.core.strategies.mock.StrategyHttpMock;
@@ -9,17 +10,28 @@ import com.globallogic.futbol.example.data.analyzers.GetDevicesHttpAnalyzer;
 
 import java.io.IOException;
 import java.net.HttpURLConnection;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author facundo.mengoni
  * @since 0.3
  */
 public class GetDevicesFromHttp extends StrategyHttpMock {
+    private static final long serialVersionUID = 1L;
+
+    private static final String URL = "mock://devices";
+
     public GetDevicesFromHttp(Operation anOperation) {
         super(anOperation, new GetDevicesHttpAnalyzer(), 0f);
+        setCacheTimeToLive(TimeUnit.MINUTES.toMillis(1));
         try {
             add(new StrategyHttpResponse(HttpURLConnection.HTTP_OK, OperationHelper.assetsReader(OperationApp.getInstance(), "json/GetDevicesOperation_1.json")));
         } catch (IOException ignored) {
         }
     }
+
+    @Override
+    protected String getCacheKey() {
+        return HttpResponseCache.createKey("GET", URL, null, null);
+    }
 }
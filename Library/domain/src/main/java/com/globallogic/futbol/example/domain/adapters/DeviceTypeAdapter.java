@@ -0,0 +1,45 @@
+package com.globallogic.futbol.example.domain.adapters;
+
+import com.globallogic.futbol.example.data.adapters.DeviceEntityTypeAdapter;
+import com.globallogic.futbol.example.data.entities.DeviceEntity;
+import com.globallogic.futbol.example.domain.models.Device;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * Parse a {@link Device} without reflection. It has the same json representation than a {@link DeviceEntity}.
+ *
+ * @author facundo.mengoni
+ * @see DeviceEntityTypeAdapter
+ * @since 0.3.8
+ */
+public class DeviceTypeAdapter extends TypeAdapter<Device> {
+    private final DeviceEntityTypeAdapter mEntityAdapter;
+
+    public DeviceTypeAdapter(DeviceEntityTypeAdapter anEntityAdapter) {
+        this.mEntityAdapter = anEntityAdapter;
+    }
+
+    @Override
+    public void write(JsonWriter out, Device value) throws IOException {
+        DeviceEntity entity = null;
+        if (value != null) {
+            entity = new DeviceEntity();
+            entity.setId(value.getId());
+            entity.setCreatedAt(value.getCreatedAt());
+            entity.setUpdatedAt(value.getUpdatedAt());
+            entity.setName(value.getName());
+            entity.setResolution(value.getResolution());
+        }
+        mEntityAdapter.write(out, entity);
+    }
+
+    @Override
+    public Device read(JsonReader in) throws IOException {
+        DeviceEntity entity = mEntityAdapter.read(in);
+        return entity == null ? null : Device.fromDeviceEntity(entity);
+    }
+}
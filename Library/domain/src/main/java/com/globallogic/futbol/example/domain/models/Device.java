@@ -10,6 +10,8 @@ import java.util.Date;
  * GlobalLogic | facundo.mengoni@globallogic.com
  */
 public class Device implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private Integer id;
     private Date createdAt;
     private Date updatedAt;
@@ -7,8 +7,13 @@ import android.os.Bundle;
 import com.globallogic.futbol.core.interfaces.analyzers.IStrategyHttpAnalyzer;
 import com.globallogic.futbol.core.operations.Operation;
 import com.globallogic.futbol.core.operations.OperationHelper;
+import com.globallogic.futbol.example.data.adapters.DeviceEntityTypeAdapter;
+import com.globallogic.futbol.example.data.entities.DeviceEntity;
 import com.globallogic.futbol.example.domain.R;
+import com.globallogic.futbol.example.domain.adapters.DeviceTypeAdapter;
+import com.globallogic.futbol.example.domain.models.Device;
 
+import java.io.Serializable;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -16,10 +21,19 @@ import java.util.concurrent.TimeUnit;
  * GlobalLogic | facundo.mengoni@globallogic.com
  */
 public abstract class BaseOperation extends Operation {
+    private static final long serialVersionUID = 1L;
+
     public static final String ERROR_RESOURCE = "ERROR_RESOURCE";
     public static final int SECONDS = 3;
     public int errorResource = R.string.no_error;
 
+    static {
+        // The models are parsed without reflection by all the operations
+        DeviceEntityTypeAdapter entityAdapter = new DeviceEntityTypeAdapter();
+        OperationHelper.registerTypeAdapter(DeviceEntity.class, entityAdapter);
+        OperationHelper.registerTypeAdapter(Device.class, new DeviceTypeAdapter(entityAdapter));
+    }
+
     public BaseOperation() {
         init();
     }
@@ -49,7 +63,9 @@ public abstract class BaseOperation extends Operation {
         errorResource = savedInstanceState.getInt(ERROR_RESOURCE);
     }
 
-    public abstract class BaseHttpAnalyzer implements IStrategyHttpAnalyzer {
+    public abstract class BaseHttpAnalyzer implements IStrategyHttpAnalyzer, Serializable {
+        private static final long serialVersionUID = 1L;
+
         @Override
         public void analyzeException(Exception anException) {
             OperationHelper.analyzeException(anException, new OperationHelper.ExceptionCallback() {
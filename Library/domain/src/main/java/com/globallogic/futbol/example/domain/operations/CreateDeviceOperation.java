@@ -21,6 +21,8 @@ import java.util.Collections;
  * GlobalLogic | facundo.mengoni@globallogic.com
  */
 public class CreateDeviceOperation extends BaseOperation {
+    private static final long serialVersionUID = 1L;
+
     private static final String TAG = CreateDeviceOperation.class.getSimpleName();
 
     public void execute(String name, String resolution) {
@@ -59,6 +61,8 @@ public class CreateDeviceOperation extends BaseOperation {
             strategyHttpMock.add(new StrategyHttpResponse(HttpURLConnection.HTTP_CREATED, String.format(OperationHelper.assetsReader(OperationApp.getInstance(), "json/CreateDeviceOperation_1.json"), name, resolution)));
         } catch (IOException ignored) {
         }
+        // Without connection the write is stored and replayed when the connection is recovered
+        strategyHttpMock.setOutboxKey("device/create/" + name);
         return new ArrayList<OperationStrategy>(Collections.singletonList(strategyHttpMock));
     }
 
@@ -21,6 +21,8 @@ import java.util.Collections;
  * GlobalLogic | facundo.mengoni@globallogic.com
  */
 public class DeleteDeviceOperation extends BaseOperation {
+    private static final long serialVersionUID = 1L;
+
     private static final String TAG = DeleteDeviceOperation.class.getSimpleName();
 
     public void execute(String id) {
@@ -67,6 +69,8 @@ public class DeleteDeviceOperation extends BaseOperation {
             strategyHttpMock.add(new StrategyHttpResponse(HttpURLConnection.HTTP_OK, String.format(OperationHelper.assetsReader(OperationApp.getInstance(), "json/DeleteDeviceOperation_1.json"), id)));
         } catch (IOException ignored) {
         }
+        // Without connection the write is stored and replayed when the connection is recovered
+        strategyHttpMock.setOutboxKey("device/delete/" + id);
         return new ArrayList<OperationStrategy>(Collections.singletonList(strategyHttpMock));
     }
 
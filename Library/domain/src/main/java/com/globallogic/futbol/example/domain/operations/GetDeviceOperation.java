@@ -18,6 +18,8 @@ import java.util.ArrayList;
  * GlobalLogic | facundo.mengoni@globallogic.com
  */
 public class GetDeviceOperation extends BaseOperation {
+    private static final long serialVersionUID = 1L;
+
     private static final String TAG = GetDeviceOperation.class.getSimpleName();
 
     public void execute(Integer anId) {
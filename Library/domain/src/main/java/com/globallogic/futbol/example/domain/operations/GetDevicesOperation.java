@@ -2,13 +2,13 @@ package com.globallogic.futbol.example.domain.operations;
 
 import android.content.Intent;
 
+import com.globallogic.futbol.core.ResultFreshness;
 import com.globallogic.futbol.core.analyzers.DefaultAnalyzer;
 import com.globallogic.futbol.core.broadcasts.OperationHttpBroadcastReceiver;
 import com.globallogic.futbol.core.interfaces.callbacks.IStrategyHttpCallback;
 import com.globallogic.futbol.core.strategies.OperationStrategy;
 import com.globallogic.futbol.core.strategies.mock.StrategyDbMock;
 import com.globallogic.futbol.core.strategies.mock.StrategyHttpMock;
-import com.globallogic.futbol.example.data.analyzers.GetDevicesHttpAnalyzer;
 import com.globallogic.futbol.example.data.entities.DeviceEntity;
 import com.globallogic.futbol.example.data.strategies.GetDevicesFromDb;
 import com.globallogic.futbol.example.data.strategies.GetDevicesFromHttp;
@@ -21,12 +21,16 @@ import java.util.ArrayList;
  * GlobalLogic | facundo.mengoni@globallogic.com
  */
 public class GetDevicesOperation extends BaseOperation {
+    private static final long serialVersionUID = 1L;
+
     private static final String TAG = GetDevicesOperation.class.getSimpleName();
     private boolean callHttp;
     private boolean callDB;
 
     public GetDevicesOperation() {
         super();
+        // The devices of the database are shown while the ones of the server are obtained
+        setStaleWhileRevalidate(true);
     }
 
     public void execute() {
@@ -60,9 +64,7 @@ public class GetDevicesOperation extends BaseOperation {
     }
 
     public interface IGetDevicesReceiver extends IStrategyHttpCallback {
-        void onSuccessHttp(ArrayList<Device> aDevice);
-
-        void onSuccessDb(ArrayList<Device> aDevice);
+        void onSuccess(ArrayList<Device> aDevices, ResultFreshness aFreshness);
 
         void onError();
     }
@@ -83,10 +85,7 @@ public class GetDevicesOperation extends BaseOperation {
                 //ToDo change to mapper
                 list.add(Device.fromDeviceEntity(deviceEntity));
             }
-            if (GetDevicesHttpAnalyzer.TYPE_HTTP.equals(anIntent.getStringExtra(GetDevicesHttpAnalyzer.EXTRA_TYPE)))
-                mCallback.onSuccessHttp(list);
-            else
-                mCallback.onSuccessDb(list);
+            mCallback.onSuccess(list, ResultFreshness.fromIntent(anIntent));
         }
 
         protected void onResultError(Intent anIntent) {
@@ -15,6 +15,8 @@ import java.util.Collections;
  * GlobalLogic | facundo.mengoni@globallogic.com
  */
 public class TimeOutOperation extends BaseOperation {
+    private static final long serialVersionUID = 1L;
+
     private static final String TAG = TimeOutOperation.class.getSimpleName();
 
     public void execute() {
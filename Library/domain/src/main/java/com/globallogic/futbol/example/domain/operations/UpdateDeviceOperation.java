@@ -21,6 +21,8 @@ import java.util.Collections;
  * GlobalLogic | facundo.mengoni@globallogic.com
  */
 public class UpdateDeviceOperation extends BaseOperation {
+    private static final long serialVersionUID = 1L;
+
     private static final String TAG = UpdateDeviceOperation.class.getSimpleName();
 
     public void execute(String id, String name, String resolution) {
@@ -69,6 +71,8 @@ public class UpdateDeviceOperation extends BaseOperation {
             strategyHttpMock.add(new StrategyHttpResponse(HttpURLConnection.HTTP_OK, String.format(OperationHelper.assetsReader(OperationApp.getInstance(), "json/UpdateDeviceOperation_1.json"), id, name, resolution)));
         } catch (IOException ignored) {
         }
+        // Without connection the write is stored and replayed when the connection is recovered
+        strategyHttpMock.setOutboxKey("device/update/" + id);
         return new ArrayList<OperationStrategy>(Collections.singletonList(strategyHttpMock));
     }
 
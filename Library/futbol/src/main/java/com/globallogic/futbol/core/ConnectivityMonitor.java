@@ -0,0 +1,155 @@
+package com.globallogic.futbol.core;
+
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.net.ConnectivityManager;
+
+import com.globallogic.futbol.core.interfaces.callbacks.IConnectivityCallback;
+import com.globallogic.futbol.core.strategies.OperationStrategy;
+import com.globallogic.futbol.core.utils.Utils;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps the state of the connection, so checking it before each request is a memory read instead of
+ * a query to the {@link ConnectivityManager}. It is updated when {@link ConnectivityManager#CONNECTIVITY_ACTION}
+ * is received.
+ * <p>
+ * The strategies can be queued while there is no connection, they are executed when it is recovered.
+ *
+ * @author facundo.mengoni
+ * @see com.globallogic.futbol.core.strategies.HttpOperationStrategy#setQueueWhileOffline(boolean)
+ * @since 0.3.8
+ */
+public class ConnectivityMonitor {
+    private static final Object sLock = new Object();
+    private static ConnectivityMonitor sInstance;
+
+    //region Variables
+    private final Logger mLogger;
+    private final Context mAppContext;
+    private final ConcurrentLinkedQueue<OperationStrategy> mPendingStrategies = new ConcurrentLinkedQueue<>();
+    private final CopyOnWriteArrayList<IConnectivityCallback> mCallbacks = new CopyOnWriteArrayList<>();
+    private volatile boolean mConnected;
+    //endregion
+
+    //region Constructors implementation
+    private ConnectivityMonitor(Context aContext) {
+        mLogger = Logger.getLogger(getClass().getSimpleName());
+        mLogger.setLevel(Level.OFF);
+        mAppContext = aContext;
+        mConnected = Utils.hasInternet(aContext);
+        aContext.registerReceiver(new BroadcastReceiver() {
+            @Override
+            public void onReceive(Context context, Intent intent) {
+                refresh();
+            }
+        }, new IntentFilter(ConnectivityManager.CONNECTIVITY_ACTION));
+    }
+    //endregion
+
+    //region Getters & Setters implementation
+    public static ConnectivityMonitor getInstance(Context aContext) {
+        synchronized (sLock) {
+            if (sInstance == null)
+                sInstance = new ConnectivityMonitor(aContext.getApplicationContext());
+            return sInstance;
+        }
+    }
+
+    /**
+     * @return true if there is connection. It doesn't query the {@link ConnectivityManager}.
+     */
+    public boolean isConnected() {
+        return mConnected;
+    }
+
+    /**
+     * @return The number of strategies waiting for the connection.
+     */
+    public int getPendingStrategies() {
+        return mPendingStrategies.size();
+    }
+    //endregion
+
+    //region ConnectivityMonitor implementation
+
+    /**
+     * Query the state of the connection again. If it was recovered the strategies queued are executed.
+     * It is called when the connection changes, call it if you know that the state changed by other way.
+     */
+    public void refresh() {
+        boolean connected = Utils.hasInternet(mAppContext);
+        boolean changed = connected != mConnected;
+        if (changed)
+            mLogger.info(connected ? "The connection was recovered" : "The connection was lost");
+        mConnected = connected;
+        if (connected)
+            flush();
+        if (changed) {
+            for (IConnectivityCallback callback : mCallbacks)
+                callback.onConnectivityChanged(connected);
+        }
+    }
+
+    public void addCallback(IConnectivityCallback aCallback) {
+        mCallbacks.addIfAbsent(aCallback);
+    }
+
+    public void removeCallback(IConnectivityCallback aCallback) {
+        mCallbacks.remove(aCallback);
+    }
+
+    /**
+     * Queue a strategy until the connection is recovered, then it is executed again.
+     * If the connection was recovered meanwhile it is executed now.
+     *
+     * @param aStrategy The strategy that can't be executed without connection.
+     */
+    public void enqueue(OperationStrategy aStrategy) {
+        mLogger.info("Waiting the connection");
+        mPendingStrategies.add(aStrategy);
+        if (mConnected)
+            flush();
+    }
+
+    /**
+     * Remove a strategy of the queue, for example because it was cancelled.
+     *
+     * @param aStrategy The strategy queued.
+     * @return true if it was waiting the connection.
+     */
+    public boolean remove(OperationStrategy aStrategy) {
+        // The strategies compare equal to other ones that do the same request, so it is removed by identity
+        for (Iterator<OperationStrategy> iterator = mPendingStrategies.iterator(); iterator.hasNext(); ) {
+            if (iterator.next() == aStrategy) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Execute the strategies queued from the thread UI, the connection can be refreshed from any thread.
+     */
+    private void flush() {
+        Utils.runOnThreadUI(new Runnable() {
+            @Override
+            public void run() {
+                OperationStrategy strategy;
+                while (mConnected && (strategy = mPendingStrategies.poll()) != null) {
+                    if (!strategy.isCancelled())
+                        strategy.execute();
+                }
+            }
+        });
+    }
+    //endregion
+}
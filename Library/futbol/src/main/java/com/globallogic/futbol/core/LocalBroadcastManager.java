@@ -25,9 +25,18 @@ import android.os.Handler;
 import android.os.Message;
 import android.util.Log;
 
+import com.globallogic.futbol.core.interfaces.callbacks.IBatchBroadcastReceiver;
+
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Helper to register for and send broadcasts of Intents to local objects
@@ -42,6 +51,14 @@ import java.util.Set;
  * <li> It is more efficient than sending a global broadcast through the
  * system.
  * </ul>
+ * <p>
+ * The receivers of each action are kept in copy-on-write arrays, so
+ * {@link #sendBroadcast(Intent)} doesn't take any lock to find them and
+ * never waits for a register or unregister done in other thread.
+ * <p>
+ * The receivers that implement {@link IBatchBroadcastReceiver} and are
+ * coalescing receive all the broadcasts queued within the same looper tick
+ * in a single call.
  */
 public class LocalBroadcastManager {
     static final int MSG_EXEC_PENDING_BROADCASTS = 1;
@@ -50,9 +67,11 @@ public class LocalBroadcastManager {
     private static final Object mLock = new Object();
     private static LocalBroadcastManager mInstance;
     private final Context mAppContext;
+    private static final ReceiverRecord[] EMPTY_RECORDS = new ReceiverRecord[0];
     private final HashMap<BroadcastReceiver, ArrayList<IntentFilter>> mReceivers = new HashMap<>();
-    private final HashMap<String, ArrayList<ReceiverRecord>> mActions = new HashMap<>();
-    private final ArrayList<BroadcastRecord> mPendingBroadcasts = new ArrayList<>();
+    private final ConcurrentHashMap<String, ReceiverRecord[]> mActions = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<BroadcastRecord> mPendingBroadcasts = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean mDeliveryScheduled = new AtomicBoolean();
     private final Handler mHandler;
 
     private LocalBroadcastManager(Context context) {
@@ -98,12 +117,14 @@ public class LocalBroadcastManager {
             filters.add(filter);
             for (int i = 0; i < filter.countActions(); i++) {
                 String action = filter.getAction(i);
-                ArrayList<ReceiverRecord> entries = mActions.get(action);
+                ReceiverRecord[] entries = mActions.get(action);
                 if (entries == null) {
-                    entries = new ArrayList<>(1);
-                    mActions.put(action, entries);
+                    entries = EMPTY_RECORDS;
                 }
-                entries.add(entry);
+                ReceiverRecord[] newEntries = new ReceiverRecord[entries.length + 1];
+                System.arraycopy(entries, 0, newEntries, 0, entries.length);
+                newEntries[entries.length] = entry;
+                mActions.put(action, newEntries);
             }
         }
     }
@@ -111,7 +132,8 @@ public class LocalBroadcastManager {
     /**
      * Unregister a previously registered BroadcastReceiver.  <em>All</em>
      * filters that have been registered for this BroadcastReceiver will be
-     * removed.
+     * removed. The broadcasts sent before but still pending aren't delivered
+     * to it.
      *
      * @param receiver The BroadcastReceiver to unregister.
      * @see #registerReceiver
@@ -126,16 +148,20 @@ public class LocalBroadcastManager {
                 IntentFilter filter = filters.get(i);
                 for (int j = 0; j < filter.countActions(); j++) {
                     String action = filter.getAction(j);
-                    ArrayList<ReceiverRecord> receivers = mActions.get(action);
+                    ReceiverRecord[] receivers = mActions.get(action);
                     if (receivers != null) {
-                        for (int k = 0; k < receivers.size(); k++) {
-                            if (receivers.get(k).receiver == receiver) {
-                                receivers.remove(k);
-                                k--;
+                        ArrayList<ReceiverRecord> remaining = new ArrayList<>(receivers.length);
+                        for (ReceiverRecord record : receivers) {
+                            if (record.receiver != receiver) {
+                                remaining.add(record);
+                            } else {
+                                record.dead = true;
                             }
                         }
-                        if (receivers.size() <= 0) {
+                        if (remaining.size() <= 0) {
                             mActions.remove(action);
+                        } else if (remaining.size() != receivers.length) {
+                            mActions.put(action, remaining.toArray(new ReceiverRecord[remaining.size()]));
                         }
                     }
                 }
@@ -153,80 +179,73 @@ public class LocalBroadcastManager {
      * @see #registerReceiver
      */
     public boolean sendBroadcast(Intent intent) {
-        synchronized (mReceivers) {
-            final String action = intent.getAction();
-            final String type = intent.resolveTypeIfNeeded(
-                    mAppContext.getContentResolver());
-            final Uri data = intent.getData();
-            final String scheme = intent.getScheme();
-            final Set<String> categories = intent.getCategories();
+        final String action = intent.getAction();
+        final String type = intent.resolveTypeIfNeeded(
+                mAppContext.getContentResolver());
+        final Uri data = intent.getData();
+        final String scheme = intent.getScheme();
+        final Set<String> categories = intent.getCategories();
 
-            final boolean debug = ((intent.getFlags() & Intent.FLAG_DEBUG_LOG_RESOLUTION) != 0);
-            if (debug) Log.v(
-                    TAG, "Resolving type " + type + " scheme " + scheme
-                            + " of intent " + intent);
+        final boolean debug = ((intent.getFlags() & Intent.FLAG_DEBUG_LOG_RESOLUTION) != 0);
+        if (debug) Log.v(
+                TAG, "Resolving type " + type + " scheme " + scheme
+                        + " of intent " + intent);
 
-            ArrayList<ReceiverRecord> entries = mActions.get(intent.getAction());
-            if (entries != null) {
-                if (debug) Log.v(TAG, "Action list: " + entries);
+        ReceiverRecord[] entries = mActions.get(intent.getAction());
+        if (entries != null) {
+            if (debug) Log.v(TAG, "Action list: " + Arrays.toString(entries));
 
-                ArrayList<ReceiverRecord> receivers = null;
-                for (int i = 0; i < entries.size(); i++) {
-                    ReceiverRecord receiver = entries.get(i);
-                    if (debug) Log.v(TAG, "Matching against filter " + receiver.filter);
+            ArrayList<ReceiverRecord> receivers = null;
+            for (ReceiverRecord receiver : entries) {
+                if (debug) Log.v(TAG, "Matching against filter " + receiver.filter);
 
-                    if (receiver.broadcasting) {
-                        if (debug) {
-                            Log.v(TAG, "  Filter's target already added");
-                        }
-                        continue;
+                if (receivers != null && receivers.contains(receiver)) {
+                    if (debug) {
+                        Log.v(TAG, "  Filter's target already added");
                     }
+                    continue;
+                }
 
-                    int match = receiver.filter.match(action, type, scheme, data,
-                            categories, "LocalBroadcastManager");
-                    if (match >= 0) {
-                        if (debug) Log.v(TAG, "  Filter matched!  match=0x" +
-                                Integer.toHexString(match));
-                        if (receivers == null) {
-                            receivers = new ArrayList<>();
-                        }
-                        receivers.add(receiver);
-                        receiver.broadcasting = true;
-                    } else {
-                        if (debug) {
-                            String reason;
-                            switch (match) {
-                                case IntentFilter.NO_MATCH_ACTION:
-                                    reason = "action";
-                                    break;
-                                case IntentFilter.NO_MATCH_CATEGORY:
-                                    reason = "category";
-                                    break;
-                                case IntentFilter.NO_MATCH_DATA:
-                                    reason = "data";
-                                    break;
-                                case IntentFilter.NO_MATCH_TYPE:
-                                    reason = "type";
-                                    break;
-                                default:
-                                    reason = "unknown reason";
-                                    break;
-                            }
-                            Log.v(TAG, "  Filter did not match: " + reason);
+                int match = receiver.filter.match(action, type, scheme, data,
+                        categories, "LocalBroadcastManager");
+                if (match >= 0) {
+                    if (debug) Log.v(TAG, "  Filter matched!  match=0x" +
+                            Integer.toHexString(match));
+                    if (receivers == null) {
+                        receivers = new ArrayList<>();
+                    }
+                    receivers.add(receiver);
+                } else {
+                    if (debug) {
+                        String reason;
+                        switch (match) {
+                            case IntentFilter.NO_MATCH_ACTION:
+                                reason = "action";
+                                break;
+                            case IntentFilter.NO_MATCH_CATEGORY:
+                                reason = "category";
+                                break;
+                            case IntentFilter.NO_MATCH_DATA:
+                                reason = "data";
+                                break;
+                            case IntentFilter.NO_MATCH_TYPE:
+                                reason = "type";
+                                break;
+                            default:
+                                reason = "unknown reason";
+                                break;
                         }
+                        Log.v(TAG, "  Filter did not match: " + reason);
                     }
                 }
+            }
 
-                if (receivers != null) {
-                    for (int i = 0; i < receivers.size(); i++) {
-                        receivers.get(i).broadcasting = false;
-                    }
-                    mPendingBroadcasts.add(new BroadcastRecord(intent, receivers));
-                    if (!mHandler.hasMessages(MSG_EXEC_PENDING_BROADCASTS)) {
-                        mHandler.sendEmptyMessage(MSG_EXEC_PENDING_BROADCASTS);
-                    }
-                    return true;
+            if (receivers != null) {
+                mPendingBroadcasts.add(new BroadcastRecord(intent, receivers));
+                if (mDeliveryScheduled.compareAndSet(false, true)) {
+                    mHandler.sendEmptyMessage(MSG_EXEC_PENDING_BROADCASTS);
                 }
+                return true;
             }
         }
         return false;
@@ -244,29 +263,46 @@ public class LocalBroadcastManager {
     }
 
     private void executePendingBroadcasts() {
-        while (true) {
-            BroadcastRecord[] brs;
-            synchronized (mReceivers) {
-                final int N = mPendingBroadcasts.size();
-                if (N <= 0) {
-                    return;
+        mDeliveryScheduled.set(false);
+        ArrayList<BroadcastRecord> brs = new ArrayList<>();
+        BroadcastRecord record;
+        while ((record = mPendingBroadcasts.poll()) != null) {
+            brs.add(record);
+        }
+        Map<BroadcastReceiver, List<Intent>> batches = null;
+        for (BroadcastRecord br : brs) {
+            for (int j = 0; j < br.receivers.size(); j++) {
+                ReceiverRecord rec = br.receivers.get(j);
+                if (rec.dead) {
+                    continue;
                 }
-                brs = new BroadcastRecord[N];
-                mPendingBroadcasts.toArray(brs);
-                mPendingBroadcasts.clear();
-            }
-            for (BroadcastRecord br : brs) {
-                for (int j = 0; j < br.receivers.size(); j++) {
-                    br.receivers.get(j).receiver.onReceive(mAppContext, br.intent);
+                BroadcastReceiver receiver = rec.receiver;
+                if (receiver instanceof IBatchBroadcastReceiver && ((IBatchBroadcastReceiver) receiver).isCoalescing()) {
+                    if (batches == null) {
+                        batches = new IdentityHashMap<>();
+                    }
+                    List<Intent> batch = batches.get(receiver);
+                    if (batch == null) {
+                        batch = new ArrayList<>();
+                        batches.put(receiver, batch);
+                    }
+                    batch.add(br.intent);
+                } else {
+                    receiver.onReceive(mAppContext, br.intent);
                 }
             }
         }
+        if (batches != null) {
+            for (Map.Entry<BroadcastReceiver, List<Intent>> batch : batches.entrySet()) {
+                ((IBatchBroadcastReceiver) batch.getKey()).onReceiveBatch(mAppContext, batch.getValue());
+            }
+        }
     }
 
     private static class ReceiverRecord {
         final IntentFilter filter;
         final BroadcastReceiver receiver;
-        boolean broadcasting;
+        volatile boolean dead;
 
         ReceiverRecord(IntentFilter _filter, BroadcastReceiver _receiver) {
             filter = _filter;
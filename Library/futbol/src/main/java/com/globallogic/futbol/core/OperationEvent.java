@@ -0,0 +1,87 @@
+package com.globallogic.futbol.core;
+
+import com.globallogic.futbol.core.interfaces.analyzers.IStrategyResultAnalyzer;
+import com.globallogic.futbol.core.operations.Operation;
+import com.globallogic.futbol.core.strategies.OperationStrategy;
+
+/**
+ * A result of an operation dispatched by the {@link OperationEventBus}.
+ * Unlike the broadcasts, the result of the analyzer travels by reference.
+ *
+ * @author facundo.mengoni
+ * @see Operation#setTypedDispatch(boolean)
+ * @since 0.3.8
+ */
+public class OperationEvent {
+    private final Operation mOperation;
+    private final OperationResult mOperationResult;
+    private final OperationStrategy mStrategy;
+    private final Object mResult;
+    private final ResultFreshness mFreshness;
+
+    public OperationEvent(Operation anOperation, OperationResult anOperationResult, OperationStrategy aStrategy) {
+        this(anOperation, anOperationResult, aStrategy, ResultFreshness.FRESH);
+    }
+
+    public OperationEvent(Operation anOperation, OperationResult anOperationResult, OperationStrategy aStrategy, ResultFreshness aFreshness) {
+        this.mOperation = anOperation;
+        this.mFreshness = aFreshness;
+        this.mOperationResult = anOperationResult;
+        this.mStrategy = aStrategy;
+        if (aStrategy != null && aStrategy.getAnalyzer() instanceof IStrategyResultAnalyzer) {
+            this.mResult = ((IStrategyResultAnalyzer) aStrategy.getAnalyzer()).getResult();
+        } else {
+            this.mResult = null;
+        }
+    }
+
+    /**
+     * @return The operation that dispatch the event.
+     */
+    public Operation getOperation() {
+        return mOperation;
+    }
+
+    /**
+     * @return What happened with the operation.
+     */
+    public OperationResult getOperationResult() {
+        return mOperationResult;
+    }
+
+    /**
+     * @return The strategy that obtained the result or null if the event is of the operation (start and finish).
+     */
+    public OperationStrategy getStrategy() {
+        return mStrategy;
+    }
+
+    /**
+     * @return The object obtained by the analyzer of the strategy when the event was dispatched.
+     * It is null if the analyzer isn't an {@link IStrategyResultAnalyzer}.
+     */
+    public <T> T getResult() {
+        //noinspection unchecked
+        return (T) mResult;
+    }
+
+    /**
+     * @return If the result is stale or fresh. It is always {@link ResultFreshness#FRESH} if the operation
+     * isn't in stale-while-revalidate mode.
+     * @see Operation#setStaleWhileRevalidate(boolean)
+     */
+    public ResultFreshness getFreshness() {
+        return mFreshness;
+    }
+
+    @Override
+    public String toString() {
+        return "OperationEvent{" +
+                "operation=" + mOperation.getClass().getSimpleName() +
+                ", id='" + mOperation.getId() + '\'' +
+                ", operationResult=" + mOperationResult +
+                ", result=" + mResult +
+                ", freshness=" + mFreshness +
+                '}';
+    }
+}
@@ -0,0 +1,148 @@
+package com.globallogic.futbol.core;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import com.globallogic.futbol.core.interfaces.callbacks.IOperationEventListener;
+import com.globallogic.futbol.core.operations.Operation;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A typed alternative to the {@link LocalBroadcastManager} for the operations of the same process.
+ * <p>
+ * The listeners are registered for an operation class and an id and they receive the {@link OperationEvent}
+ * by reference in the thread UI, without {@link android.content.Intent}, extras or filters.
+ *
+ * @author facundo.mengoni
+ * @see Operation#setTypedDispatch(boolean)
+ * @since 0.3.8
+ */
+public class OperationEventBus {
+    private static final Object mLock = new Object();
+    private static OperationEventBus mInstance;
+    private final ConcurrentHashMap<Key, CopyOnWriteArrayList<IOperationEventListener>> mListeners = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<IOperationEventListener, CopyOnWriteArrayList<Key>> mKeys = new ConcurrentHashMap<>();
+    private final Handler mHandler;
+
+    private OperationEventBus() {
+        mHandler = new Handler(Looper.getMainLooper());
+    }
+
+    public static OperationEventBus getInstance() {
+        synchronized (mLock) {
+            if (mInstance == null) {
+                mInstance = new OperationEventBus();
+            }
+            return mInstance;
+        }
+    }
+
+    /**
+     * Register a listener for the events of the operations of a class with an id.
+     *
+     * @param aListener The listener to notify.
+     * @param aClass    The class of the operation.
+     * @param anId      The id of the operation. If it is empty the listener receives the events of all the ids.
+     * @see #unregister(IOperationEventListener)
+     */
+    public void register(IOperationEventListener aListener, Class aClass, String anId) {
+        Key key = new Key(aClass, anId == null ? "" : anId);
+        getOrCreate(mListeners, key).addIfAbsent(aListener);
+        getOrCreate(mKeys, aListener).addIfAbsent(key);
+    }
+
+    /**
+     * Unregister a listener from all the operations where it was registered.
+     *
+     * @param aListener The listener to unregister.
+     * @see #register(IOperationEventListener, Class, String)
+     */
+    public void unregister(IOperationEventListener aListener) {
+        CopyOnWriteArrayList<Key> keys = mKeys.remove(aListener);
+        if (keys == null)
+            return;
+        for (Key key : keys) {
+            CopyOnWriteArrayList<IOperationEventListener> listeners = mListeners.get(key);
+            if (listeners != null) {
+                listeners.remove(aListener);
+            }
+        }
+    }
+
+    /**
+     * Dispatch the event in the thread UI to the listeners of the operation with its id and without it.
+     * This call is asynchronous.
+     *
+     * @param anEvent The event to dispatch.
+     * @return true if some listener will receive the event.
+     */
+    public boolean post(final OperationEvent anEvent) {
+        Operation operation = anEvent.getOperation();
+        final ArrayList<IOperationEventListener> receivers = new ArrayList<>();
+        addListeners(receivers, new Key(operation.getClass(), operation.getId()));
+        if (operation.getId().length() > 0)
+            addListeners(receivers, new Key(operation.getClass(), ""));
+        if (receivers.isEmpty())
+            return false;
+        mHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                for (IOperationEventListener receiver : receivers) {
+                    receiver.onOperationEvent(anEvent);
+                }
+            }
+        });
+        return true;
+    }
+
+    private void addListeners(ArrayList<IOperationEventListener> aReceivers, Key aKey) {
+        CopyOnWriteArrayList<IOperationEventListener> listeners = mListeners.get(aKey);
+        if (listeners != null) {
+            for (IOperationEventListener listener : listeners) {
+                if (!aReceivers.contains(listener))
+                    aReceivers.add(listener);
+            }
+        }
+    }
+
+    private static <K, V> CopyOnWriteArrayList<V> getOrCreate(ConcurrentHashMap<K, CopyOnWriteArrayList<V>> aMap, K aKey) {
+        CopyOnWriteArrayList<V> list = aMap.get(aKey);
+        if (list == null) {
+            list = new CopyOnWriteArrayList<>();
+            CopyOnWriteArrayList<V> previous = aMap.putIfAbsent(aKey, list);
+            if (previous != null)
+                list = previous;
+        }
+        return list;
+    }
+
+    private static class Key {
+        final Class operationClass;
+        final String id;
+
+        Key(Class anOperationClass, String anId) {
+            operationClass = anOperationClass;
+            id = anId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Key key = (Key) o;
+
+            return operationClass.equals(key.operationClass) && id.equals(key.id);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = operationClass.hashCode();
+            result = 31 * result + id.hashCode();
+            return result;
+        }
+    }
+}
@@ -9,7 +9,7 @@ import java.io.Serializable;
  * @since 0.1.0
  */
 public enum OperationResult implements Serializable {
-    NO_INTERNET("NO_INTERNET"), START("START"), OK("OK"), ERROR("ERROR"), FINISH("FINISH");
+    NO_INTERNET("NO_INTERNET"), START("START"), OK("OK"), ERROR("ERROR"), FINISH("FINISH"), CANCELLED("CANCELLED"), CIRCUIT_OPEN("CIRCUIT_OPEN");
     public static final String EXTRA_OPERATION_RESULT = "EXTRA_OPERATION_RESULT";
     public String name;
 
@@ -0,0 +1,67 @@
+package com.globallogic.futbol.core;
+
+import android.content.Intent;
+
+import java.io.Serializable;
+
+/**
+ * Tell the receivers of an operation in stale-while-revalidate mode if a result is a local one that
+ * can be outdated or the fresh one, and in the last case if it changed from the one already shown.
+ *
+ * @author facundo.mengoni
+ * @see com.globallogic.futbol.core.operations.Operation#setStaleWhileRevalidate(boolean)
+ * @since 0.3.8
+ */
+public enum ResultFreshness implements Serializable {
+    /**
+     * The result was obtained from a local source (a database or a cached response) and it is being revalidated.
+     */
+    STALE(true, true),
+    /**
+     * The result was obtained from the network and it is different from the stale one, or there was no stale one.
+     */
+    FRESH(false, true),
+    /**
+     * The result was obtained from the network and it is equal to the stale one.
+     */
+    FRESH_UNCHANGED(false, false);
+
+    public static final String EXTRA_STALE = "EXTRA_STALE";
+    public static final String EXTRA_CHANGED = "EXTRA_CHANGED";
+
+    private final boolean mStale;
+    private final boolean mChanged;
+
+    ResultFreshness(boolean aStale, boolean aChanged) {
+        this.mStale = aStale;
+        this.mChanged = aChanged;
+    }
+
+    /**
+     * @return True if a fresh result will arrive later.
+     */
+    public boolean isStale() {
+        return mStale;
+    }
+
+    /**
+     * @return True if the result must be shown. It is false only when the fresh result is equal to the stale one.
+     */
+    public boolean hasChanged() {
+        return mChanged;
+    }
+
+    public void addExtras(Intent anIntent) {
+        anIntent.putExtra(EXTRA_STALE, mStale);
+        anIntent.putExtra(EXTRA_CHANGED, mChanged);
+    }
+
+    /**
+     * @return The freshness of the result received. It is {@link #FRESH} if the operation isn't in stale-while-revalidate mode.
+     */
+    public static ResultFreshness fromIntent(Intent anIntent) {
+        if (anIntent.getBooleanExtra(EXTRA_STALE, false))
+            return STALE;
+        return anIntent.getBooleanExtra(EXTRA_CHANGED, true) ? FRESH : FRESH_UNCHANGED;
+    }
+}
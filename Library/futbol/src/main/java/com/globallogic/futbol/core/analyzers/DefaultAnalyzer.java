@@ -3,6 +3,7 @@ package com.globallogic.futbol.core.analyzers;
 import android.content.Intent;
 
 import com.globallogic.futbol.core.interfaces.analyzers.IStrategyAnalyzer;
+import com.globallogic.futbol.core.interfaces.analyzers.IStrategyResultAnalyzer;
 
 import java.io.Serializable;
 
@@ -12,7 +13,7 @@ import java.io.Serializable;
  * @author facundo.mengoni
  * @since 0.3.0
  */
-public class DefaultAnalyzer<T extends Serializable> implements IStrategyAnalyzer {
+public class DefaultAnalyzer<T extends Serializable> implements IStrategyResultAnalyzer<T> {
     public static final String EXTRA_RESULT = "EXTRA_RESULT";
     protected T mResult;
 
@@ -36,4 +37,9 @@ public class DefaultAnalyzer<T extends Serializable> implements IStrategyAnalyze
     public void addExtrasForResultOk(Intent intent) {
         intent.putExtra(EXTRA_RESULT, mResult);
     }
+
+    @Override
+    public T getResult() {
+        return mResult;
+    }
 }
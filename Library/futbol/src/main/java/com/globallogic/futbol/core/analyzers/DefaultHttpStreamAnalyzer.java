@@ -0,0 +1,54 @@
+package com.globallogic.futbol.core.analyzers;
+
+import com.globallogic.futbol.core.interfaces.analyzers.IStrategyHttpStreamAnalyzer;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Serializable;
+import java.io.StringReader;
+
+/**
+ * A simple implementation of {@link IStrategyHttpStreamAnalyzer}.
+ * The response is parsed from a {@link JsonReader} either if it is received as a stream or as a string.
+ *
+ * @author facundo.mengoni
+ * @see com.globallogic.futbol.core.operations.OperationHelper#getModelArray(JsonReader, String, Class)
+ * @since 0.3.8
+ */
+public abstract class DefaultHttpStreamAnalyzer<T extends Serializable> extends DefaultHttpAnalyzer<T> implements IStrategyHttpStreamAnalyzer {
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public Boolean analyzeResult(Integer aHttpCode, InputStream aStream) throws IOException {
+        if (aHttpCode.equals(getExpectedHttpCode())) {
+            this.mResult = parseResponse(new JsonReader(new InputStreamReader(aStream, "UTF-8")));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    protected T parseResponse(String result) {
+        try {
+            return parseResponse(new JsonReader(new StringReader(result)));
+        } catch (IOException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    /**
+     * Parse the json to {@link T} while it is read.
+     *
+     * @param aReader The response obtained from the server.
+     * @return The {@link T} parsed.
+     * @throws IOException If the response can't be read or it is not valid json.
+     */
+    protected abstract T parseResponse(JsonReader aReader) throws IOException;
+}
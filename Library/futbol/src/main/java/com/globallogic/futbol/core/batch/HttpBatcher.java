@@ -0,0 +1,208 @@
+package com.globallogic.futbol.core.batch;
+
+import com.globallogic.futbol.core.executors.StrategyExecutor;
+import com.globallogic.futbol.core.exceptions.UnexpectedResponseException;
+import com.globallogic.futbol.core.interfaces.IHttpBatchDecoder;
+import com.globallogic.futbol.core.interfaces.IHttpBatchEncoder;
+import com.globallogic.futbol.core.interfaces.parsers.IOperationParser;
+import com.globallogic.futbol.core.responses.StrategyHttpResponse;
+import com.globallogic.futbol.core.strategies.HttpOperationStrategy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Combines the requests of the {@link HttpOperationStrategy} done within a short window in a single request,
+ * so many small requests (for example one for each row of a list) need only one round trip.
+ * <p>
+ * The strategies with the same batch key are combined by the {@link IHttpBatchEncoder} when the window
+ * expires or the batch is full. The response is split by the {@link IHttpBatchDecoder} and each strategy
+ * parses its own response, so its analyzer and its broadcasts work as if it did the request alone.
+ * If the batch request fails all the strategies receive the exception.
+ *
+ * @author facundo.mengoni
+ * @see HttpOperationStrategy#setBatcher(HttpBatcher)
+ * @since 0.3.8
+ */
+public class HttpBatcher {
+    //region Constants
+    public static final long DEFAULT_WINDOW = 20;
+    public static final int DEFAULT_MAX_BATCH_SIZE = 20;
+    //endregion
+
+    //region Variables
+    private final Logger mLogger;
+    private final IHttpBatchEncoder mEncoder;
+    private final IHttpBatchDecoder mDecoder;
+    private final HashMap<String, Batch> mPendingBatches = new HashMap<>();
+    private long mWindow = DEFAULT_WINDOW;
+    private int mMaxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+    private StrategyExecutor mExecutor;
+    //endregion
+
+    //region Constructors implementation
+    public HttpBatcher(IHttpBatchEncoder anEncoder, IHttpBatchDecoder aDecoder) {
+        mLogger = Logger.getLogger(getClass().getSimpleName());
+        mLogger.setLevel(Level.OFF);
+        mEncoder = anEncoder;
+        mDecoder = aDecoder;
+    }
+    //endregion
+
+    //region Getters & Setters implementation
+    public long getWindow() {
+        return mWindow;
+    }
+
+    /**
+     * @param aWindow The milliseconds that a batch waits for other strategies since the first one is added.
+     */
+    public void setWindow(long aWindow) {
+        mWindow = Math.max(0, aWindow);
+    }
+
+    public int getMaxBatchSize() {
+        return mMaxBatchSize;
+    }
+
+    /**
+     * @param aMaxBatchSize The number of strategies that sends a batch without waiting the window.
+     */
+    public void setMaxBatchSize(int aMaxBatchSize) {
+        mMaxBatchSize = Math.max(1, aMaxBatchSize);
+    }
+
+    /**
+     * @return The executor where the window is scheduled and the batch requests are done.
+     */
+    public StrategyExecutor getExecutor() {
+        if (mExecutor == null)
+            return StrategyExecutor.getDefault();
+        return mExecutor;
+    }
+
+    public void setExecutor(StrategyExecutor anExecutor) {
+        mExecutor = anExecutor;
+    }
+    //endregion
+
+    //region HttpBatcher implementation
+
+    /**
+     * Add the strategy to the batch of its key. The strategy receives its response with
+     * {@link HttpOperationStrategy#parseResponse(Exception, StrategyHttpResponse)}.
+     *
+     * @param aStrategy The strategy that is going to do its request.
+     * @return false if the strategy can't be combined and it must do its request alone.
+     * @see IHttpBatchEncoder#getBatchKey(HttpOperationStrategy)
+     */
+    public boolean enqueue(HttpOperationStrategy aStrategy) {
+        final String key = mEncoder.getBatchKey(aStrategy);
+        if (key == null)
+            return false;
+        Batch batch;
+        boolean created = false;
+        boolean full = false;
+        synchronized (mPendingBatches) {
+            batch = mPendingBatches.get(key);
+            if (batch == null) {
+                batch = new Batch(key);
+                mPendingBatches.put(key, batch);
+                created = true;
+            }
+            batch.strategies.add(aStrategy);
+            if (batch.strategies.size() >= mMaxBatchSize) {
+                mPendingBatches.remove(key);
+                full = true;
+            }
+        }
+        if (full)
+            send(batch);
+        else if (created)
+            schedule(batch);
+        return true;
+    }
+
+    private void schedule(final Batch aBatch) {
+        Runnable flush = new Runnable() {
+            @Override
+            public void run() {
+                synchronized (mPendingBatches) {
+                    // It could be sent because it was full and other batch was created for the key
+                    if (mPendingBatches.get(aBatch.key) != aBatch)
+                        return;
+                    mPendingBatches.remove(aBatch.key);
+                }
+                send(aBatch);
+            }
+        };
+        try {
+            getExecutor().getScheduler().schedule(flush, mWindow, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            mLogger.log(Level.SEVERE, "The window was rejected by the scheduler, the batch is sent now", e);
+            flush.run();
+        }
+    }
+
+    private void send(final Batch aBatch) {
+        final ArrayList<HttpOperationStrategy> strategies = new ArrayList<>();
+        for (HttpOperationStrategy strategy : aBatch.strategies) {
+            if (!strategy.isCancelled())
+                strategies.add(strategy);
+        }
+        if (strategies.isEmpty())
+            return;
+        mLogger.info(String.format("Sending a batch of %s strategies", strategies.size()));
+        try {
+            getExecutor().getIoExecutor().execute(new Runnable() {
+                @Override
+                public void run() {
+                    mEncoder.doBatchRequest(strategies, new IOperationParser<StrategyHttpResponse>() {
+                        @Override
+                        public void parseResponse(Exception anException, StrategyHttpResponse aStrategyResponse) {
+                            deliver(strategies, anException, aStrategyResponse);
+                        }
+                    });
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            mLogger.log(Level.SEVERE, "The batch was rejected by the executor", e);
+            deliver(strategies, e, null);
+        }
+    }
+
+    private void deliver(List<HttpOperationStrategy> aStrategies, Exception anException, StrategyHttpResponse aStrategyResponse) {
+        List<StrategyHttpResponse> responses = null;
+        if (anException == null) {
+            try {
+                responses = mDecoder.decode(aStrategies, aStrategyResponse);
+                if (responses == null || responses.size() != aStrategies.size())
+                    throw new UnexpectedResponseException("The batch response doesn't have a response for each strategy");
+            } catch (Exception e) {
+                mLogger.log(Level.SEVERE, "The batch response can't be decoded", e);
+                anException = e;
+            }
+        }
+        for (int i = 0; i < aStrategies.size(); i++) {
+            if (anException != null)
+                aStrategies.get(i).parseResponse(anException, null);
+            else
+                aStrategies.get(i).parseResponse(null, responses.get(i));
+        }
+    }
+    //endregion
+
+    private static class Batch {
+        private final String key;
+        private final ArrayList<HttpOperationStrategy> strategies = new ArrayList<>();
+
+        Batch(String aKey) {
+            key = aKey;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.globallogic.futbol.core.batch;
+
+import com.globallogic.futbol.core.exceptions.UnexpectedResponseException;
+import com.globallogic.futbol.core.interfaces.IHttpBatchDecoder;
+import com.globallogic.futbol.core.responses.StrategyHttpResponse;
+import com.globallogic.futbol.core.strategies.HttpOperationStrategy;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link IHttpBatchDecoder} for the batch responses that are a json array with an object for each
+ * request, in the same order: {@code [{"code": 200, "body": {...}}, {"code": 404, "body": "..."}]}.
+ * The body can be any json, if it is a string its value is used.
+ *
+ * @author facundo.mengoni
+ * @since 0.3.8
+ */
+public class JsonHttpBatchDecoder implements IHttpBatchDecoder {
+    public static final String DEFAULT_CODE_FIELD = "code";
+    public static final String DEFAULT_BODY_FIELD = "body";
+    private final String mCodeField;
+    private final String mBodyField;
+
+    public JsonHttpBatchDecoder() {
+        this(DEFAULT_CODE_FIELD, DEFAULT_BODY_FIELD);
+    }
+
+    /**
+     * @param aCodeField The field with the http code of each response.
+     * @param aBodyField The field with the body of each response.
+     */
+    public JsonHttpBatchDecoder(String aCodeField, String aBodyField) {
+        mCodeField = aCodeField;
+        mBodyField = aBodyField;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<StrategyHttpResponse> decode(List<HttpOperationStrategy> aStrategies, StrategyHttpResponse aResponse) throws Exception {
+        if (aResponse.getHttpCode() != HttpURLConnection.HTTP_OK)
+            throw new UnexpectedResponseException();
+        JsonArray responses = parse(aResponse).getAsJsonArray();
+        if (responses.size() != aStrategies.size())
+            throw new UnexpectedResponseException();
+        ArrayList<StrategyHttpResponse> result = new ArrayList<>(responses.size());
+        for (JsonElement element : responses) {
+            JsonObject response = element.getAsJsonObject();
+            JsonElement body = response.get(mBodyField);
+            String bodyString = "";
+            if (body != null && !body.isJsonNull())
+                bodyString = body.isJsonPrimitive() && body.getAsJsonPrimitive().isString() ? body.getAsString() : body.toString();
+            result.add(new StrategyHttpResponse(response.get(mCodeField).getAsInt(), bodyString));
+        }
+        return result;
+    }
+
+    private static JsonElement parse(StrategyHttpResponse aResponse) throws Exception {
+        InputStream stream = aResponse.getStream();
+        if (stream == null)
+            return new JsonParser().parse(aResponse.getResponse());
+        try {
+            return new JsonParser().parse(new InputStreamReader(stream, "UTF-8"));
+        } finally {
+            stream.close();
+        }
+    }
+}
@@ -8,9 +8,12 @@ import android.content.IntentFilter;
 import com.globallogic.futbol.core.LocalBroadcastManager;
 import com.globallogic.futbol.core.OperationApp;
 import com.globallogic.futbol.core.OperationResult;
+import com.globallogic.futbol.core.interfaces.callbacks.IBatchBroadcastReceiver;
 import com.globallogic.futbol.core.interfaces.callbacks.IOperationCallback;
+import com.globallogic.futbol.core.interfaces.callbacks.IOperationCancelCallback;
 import com.globallogic.futbol.core.operations.Operation;
 
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -21,7 +24,7 @@ import java.util.logging.Logger;
  * @see IOperationCallback
  * @since 0.1.0
  */
-public abstract class OperationBroadcastReceiver extends BroadcastReceiver {
+public abstract class OperationBroadcastReceiver extends BroadcastReceiver implements IBatchBroadcastReceiver {
     //region Logger
     public Logger mLogger;
     protected boolean isListening;
@@ -35,6 +38,7 @@ public abstract class OperationBroadcastReceiver extends BroadcastReceiver {
     //region Variables
     private final IOperationCallback mCallback;
     protected boolean mMultiProcess = false;
+    protected boolean mCoalescing = false;
     //endregion
 
     //region Constructors implementation
@@ -55,6 +59,42 @@ public abstract class OperationBroadcastReceiver extends BroadcastReceiver {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @see #setCoalescing(boolean)
+     */
+    @Override
+    public boolean isCoalescing() {
+        return mCoalescing;
+    }
+
+    /**
+     * Defines if the broadcasts sent within the same looper tick must be delivered together
+     * with {@link #onReceiveBatch(Context, List)}. It only works when the receiver isn't in multi process mode.
+     */
+    public void setCoalescing(boolean aCoalescing) {
+        this.mCoalescing = aCoalescing;
+    }
+
+    /**
+     * {@inheritDoc}<br>
+     * By default it checks the status of each intent in order. Override it to handle the whole batch at once.
+     *
+     * @see #checkStatus(String, Intent)
+     */
+    @Override
+    public void onReceiveBatch(Context aContext, List<Intent> anIntents) {
+        mLogger.info("onReceiveBatch: " + anIntents.size());
+        if (isListening) {
+            for (Intent intent : anIntents) {
+                checkStatus(intent.getStringExtra(OperationResult.EXTRA_OPERATION_RESULT), intent);
+            }
+        } else {
+            mLogger.info("The receiver isn't listening");
+        }
+    }
+
     /**
      * Analyze which status has occurred and call for specific trigger.
      * It check for start, ok, finish and error if is not of one of them.
@@ -65,12 +105,15 @@ public abstract class OperationBroadcastReceiver extends BroadcastReceiver {
      * @see #onFinishOperation()
      * @see #onResultOK(Intent)
      * @see #onResultError(Intent)
+     * @see #onCancelOperation()
      */
     protected void checkStatus(String status, Intent intent) {
         if (OperationResult.START.name.equals(status)) {
             onStartOperation();
         } else if (OperationResult.FINISH.name.equals(status)) {
             onFinishOperation();
+        } else if (OperationResult.CANCELLED.name.equals(status)) {
+            onCancelOperation();
         } else if (OperationResult.OK.name.equals(status)) {
             onResultOK(intent);
         } else {
@@ -100,6 +143,15 @@ public abstract class OperationBroadcastReceiver extends BroadcastReceiver {
      */
     protected abstract void onResultError(Intent anIntent);
 
+    /**
+     * It is triggered once only when the operation is cancelled, before {@link #onFinishOperation()}.
+     * It notifies the callback only if it is an {@link IOperationCancelCallback}.
+     */
+    protected void onCancelOperation() {
+        if (mCallback instanceof IOperationCancelCallback)
+            ((IOperationCancelCallback) mCallback).onCancelOperation();
+    }
+
     /**
      * It is triggered once only when the operation was finished (whether successful or not).
      */
@@ -166,7 +218,7 @@ public abstract class OperationBroadcastReceiver extends BroadcastReceiver {
 
     /**
      * Add the actions that you want listen to the {@link IntentFilter}.
-     * It adds the actions for start, ok, error and finish.
+     * It adds the actions for start, ok, error, finish and cancelled.
      *
      * @param aClass The class that you want listen.
      * @param anId   An identifier that you want listen. It can be empty but not null.
@@ -175,12 +227,14 @@ public abstract class OperationBroadcastReceiver extends BroadcastReceiver {
      * @see OperationBroadcastReceiverHelper#getActionForOk(Class, String)
      * @see OperationBroadcastReceiverHelper#getActionForError(Class, String)
      * @see OperationBroadcastReceiverHelper#getActionForFinish(Class, String)
+     * @see OperationBroadcastReceiverHelper#getActionForCancelled(Class, String)
      */
     protected void addFiltersToListen(Class aClass, String anId, IntentFilter filter) {
         filter.addAction(OperationBroadcastReceiverHelper.getActionForStart(aClass, anId));
         filter.addAction(OperationBroadcastReceiverHelper.getActionForOk(aClass, anId));
         filter.addAction(OperationBroadcastReceiverHelper.getActionForError(aClass, anId));
         filter.addAction(OperationBroadcastReceiverHelper.getActionForFinish(aClass, anId));
+        filter.addAction(OperationBroadcastReceiverHelper.getActionForCancelled(aClass, anId));
     }
 
     /**
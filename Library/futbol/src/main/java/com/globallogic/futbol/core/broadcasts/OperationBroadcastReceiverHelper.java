@@ -3,6 +3,8 @@ package com.globallogic.futbol.core.broadcasts;
 import com.globallogic.futbol.core.OperationResult;
 import com.globallogic.futbol.core.operations.Operation;
 
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * A simple class that helps you with the format of the action to register yours filters.
  *
@@ -11,6 +13,8 @@ import com.globallogic.futbol.core.operations.Operation;
  */
 public class OperationBroadcastReceiverHelper {
     public static final String ACTION_FORMAT = "operation_action:%s_%s_%s";
+    private static final int MAX_CACHED_IDS_PER_CLASS = 256;
+    private static final ConcurrentHashMap<Class, ConcurrentHashMap<String, String[]>> sActionsCache = new ConcurrentHashMap<>();
 
     private OperationBroadcastReceiverHelper() {
     }
@@ -29,6 +33,56 @@ public class OperationBroadcastReceiverHelper {
     public static String getAction(String aClazz, String anAction, String anId) {
         return String.format(ACTION_FORMAT, aClazz, anAction, anId);
     }
+
+    /**
+     * Helps you to obtain a String to filter the broadcasts.
+     * The strings are formatted only once for each class, result and id and then they are obtained from a cache.
+     *
+     * @param aClass  The class that you want filter. It call {@link Class#getSimpleName()}.
+     * @param aResult The result that you want listen.
+     * @param anId    An identifier for the operation if you only want listen an specific operation. It can be empty but not null.
+     * @return The string formatted with the pattern in {@link #ACTION_FORMAT}
+     * @see #getAction(String, String, String)
+     */
+    public static String getAction(Class aClass, OperationResult aResult, String anId) {
+        return getActions(aClass, anId)[aResult.ordinal()];
+    }
+
+    /**
+     * Helps you to obtain all the strings to filter the broadcasts of an operation with its id and without it.
+     * The table should be created once and reused to send the broadcasts.
+     *
+     * @param aClass The class of the operation.
+     * @param anId   The identifier of the operation. It can be empty but not null.
+     * @return The table with the actions for each {@link OperationResult}.
+     * @see Operation#getActionTable()
+     */
+    public static ActionTable getActionTable(Class aClass, String anId) {
+        return new ActionTable(getActions(aClass, anId), getActions(aClass, ""));
+    }
+
+    private static String[] getActions(Class aClass, String anId) {
+        ConcurrentHashMap<String, String[]> actionsById = sActionsCache.get(aClass);
+        if (actionsById == null) {
+            actionsById = new ConcurrentHashMap<>();
+            ConcurrentHashMap<String, String[]> previous = sActionsCache.putIfAbsent(aClass, actionsById);
+            if (previous != null)
+                actionsById = previous;
+        }
+        String[] actions = actionsById.get(anId);
+        if (actions == null) {
+            String simpleName = aClass.getSimpleName();
+            OperationResult[] results = OperationResult.values();
+            actions = new String[results.length];
+            for (OperationResult result : results) {
+                actions[result.ordinal()] = getAction(simpleName, result.name, anId).intern();
+            }
+            if (actionsById.size() >= MAX_CACHED_IDS_PER_CLASS)
+                actionsById.clear();
+            actionsById.put(anId, actions);
+        }
+        return actions;
+    }
     //endregion
 
     //region Actions for start
@@ -42,9 +96,7 @@ public class OperationBroadcastReceiverHelper {
      * @see #getAction(String, String, String)
      */
     public static String getActionForStart(Operation anOperation) {
-        return getAction(anOperation.getClass().getSimpleName(),
-                OperationResult.START.name,
-                anOperation.getId());
+        return anOperation.getActionTable().getActionWithId(OperationResult.START);
     }
 
     /**
@@ -73,9 +125,7 @@ public class OperationBroadcastReceiverHelper {
      * @see #getAction(String, String, String)
      */
     public static String getActionForStart(Class aClass, String anId) {
-        return getAction(aClass.getSimpleName(),
-                OperationResult.START.name,
-                anId);
+        return getAction(aClass, OperationResult.START, anId);
     }
     //endregion
 
@@ -90,9 +140,7 @@ public class OperationBroadcastReceiverHelper {
      * @see #getAction(String, String, String)
      */
     public static String getActionForOk(Operation anOperation) {
-        return getAction(anOperation.getClass().getSimpleName(),
-                OperationResult.OK.name,
-                anOperation.getId());
+        return anOperation.getActionTable().getActionWithId(OperationResult.OK);
     }
 
     /**
@@ -121,9 +169,7 @@ public class OperationBroadcastReceiverHelper {
      * @see #getAction(String, String, String)
      */
     public static String getActionForOk(Class aClass, String anId) {
-        return getAction(aClass.getSimpleName(),
-                OperationResult.OK.name,
-                anId);
+        return getAction(aClass, OperationResult.OK, anId);
     }
     //endregion
 
@@ -138,9 +184,7 @@ public class OperationBroadcastReceiverHelper {
      * @see #getAction(String, String, String)
      */
     public static String getActionForError(Operation anOperation) {
-        return getAction(anOperation.getClass().getSimpleName(),
-                OperationResult.ERROR.name,
-                anOperation.getId());
+        return anOperation.getActionTable().getActionWithId(OperationResult.ERROR);
     }
 
     /**
@@ -169,9 +213,7 @@ public class OperationBroadcastReceiverHelper {
      * @see #getAction(String, String, String)
      */
     public static String getActionForError(Class aClass, String anId) {
-        return getAction(aClass.getSimpleName(),
-                OperationResult.ERROR.name,
-                anId);
+        return getAction(aClass, OperationResult.ERROR, anId);
     }
     //endregion
 
@@ -186,9 +228,7 @@ public class OperationBroadcastReceiverHelper {
      * @see #getAction(String, String, String)
      */
     public static String getActionForFinish(Operation anOperation) {
-        return getAction(anOperation.getClass().getSimpleName(),
-                OperationResult.FINISH.name,
-                anOperation.getId());
+        return anOperation.getActionTable().getActionWithId(OperationResult.FINISH);
     }
 
     /**
@@ -217,9 +257,7 @@ public class OperationBroadcastReceiverHelper {
      * @see #getAction(String, String, String)
      */
     public static String getActionForFinish(Class aClass, String anId) {
-        return getAction(aClass.getSimpleName(),
-                OperationResult.FINISH.name,
-                anId);
+        return getAction(aClass, OperationResult.FINISH, anId);
     }
     //endregion
 
@@ -234,9 +272,7 @@ public class OperationBroadcastReceiverHelper {
      * @see #getAction(String, String, String)
      */
     public static String getActionForNoInternet(Operation anOperation) {
-        return getAction(anOperation.getClass().getSimpleName(),
-                OperationResult.NO_INTERNET.name,
-                anOperation.getId());
+        return anOperation.getActionTable().getActionWithId(OperationResult.NO_INTERNET);
     }
 
     /**
@@ -265,9 +301,136 @@ public class OperationBroadcastReceiverHelper {
      * @see #getAction(String, String, String)
      */
     public static String getActionForNoInternet(Class aClass, String anId) {
-        return getAction(aClass.getSimpleName(),
-                OperationResult.NO_INTERNET.name,
-                anId);
+        return getAction(aClass, OperationResult.NO_INTERNET, anId);
+    }
+    //endregion
+
+    //region Actions for cancelled
+
+    /**
+     * Helps you to generate a String to filter the broadcasts using an Operation and its id.
+     * It set the action {@link OperationResult#CANCELLED}.
+     *
+     * @param anOperation The operation that you want listen
+     * @return The string formatted with the pattern in {@link #ACTION_FORMAT}
+     * @see #getAction(String, String, String)
+     */
+    public static String getActionForCancelled(Operation anOperation) {
+        return anOperation.getActionTable().getActionWithId(OperationResult.CANCELLED);
+    }
+
+    /**
+     * Helps you to generate a String to filter the broadcasts using a Class without an id.
+     * It set the action {@link OperationResult#CANCELLED}.
+     *
+     * @param aClass The class that you want filter. It call {@link Class#getSimpleName()}.
+     * @return The string formatted with the pattern in {@link #ACTION_FORMAT}
+     * @see #getActionForCancelled(Operation)
+     * @see #getActionForCancelled(Class, String)
+     * @see #getAction(String, String, String)
+     */
+    public static String getActionForCancelled(Class aClass) {
+        return getActionForCancelled(aClass, "");
+    }
+
+    /**
+     * Helps you to generate a String to filter the broadcasts using a Class with an id.
+     * It set the action {@link OperationResult#CANCELLED}.
+     *
+     * @param aClass The class that you want filter. It call {@link Class#getSimpleName()}.
+     * @param anId   An identifier that you want listen. It can be empty but not null.
+     * @return The string formatted with the pattern in {@link #ACTION_FORMAT}
+     * @see #getActionForCancelled(Operation)
+     * @see #getActionForCancelled(Class)
+     * @see #getAction(String, String, String)
+     */
+    public static String getActionForCancelled(Class aClass, String anId) {
+        return getAction(aClass, OperationResult.CANCELLED, anId);
+    }
+    //endregion
+
+    //region Actions for circuit open
+
+    /**
+     * Helps you to generate a String to filter the broadcasts using an Operation and its id.
+     * It set the action {@link OperationResult#CIRCUIT_OPEN}.
+     *
+     * @param anOperation The operation that you want listen
+     * @return The string formatted with the pattern in {@link #ACTION_FORMAT}
+     * @see #getAction(String, String, String)
+     */
+    public static String getActionForCircuitOpen(Operation anOperation) {
+        return anOperation.getActionTable().getActionWithId(OperationResult.CIRCUIT_OPEN);
+    }
+
+    /**
+     * Helps you to generate a String to filter the broadcasts using a Class without an id.
+     * It set the action {@link OperationResult#CIRCUIT_OPEN}.
+     *
+     * @param aClass The class that you want filter. It call {@link Class#getSimpleName()}.
+     * @return The string formatted with the pattern in {@link #ACTION_FORMAT}
+     * @see #getActionForCircuitOpen(Operation)
+     * @see #getActionForCircuitOpen(Class, String)
+     * @see #getAction(String, String, String)
+     */
+    public static String getActionForCircuitOpen(Class aClass) {
+        return getActionForCircuitOpen(aClass, "");
+    }
+
+    /**
+     * Helps you to generate a String to filter the broadcasts using a Class with an id.
+     * It set the action {@link OperationResult#CIRCUIT_OPEN}.
+     *
+     * @param aClass The class that you want filter. It call {@link Class#getSimpleName()}.
+     * @param anId   An identifier that you want listen. It can be empty but not null.
+     * @return The string formatted with the pattern in {@link #ACTION_FORMAT}
+     * @see #getActionForCircuitOpen(Operation)
+     * @see #getActionForCircuitOpen(Class)
+     * @see #getAction(String, String, String)
+     */
+    public static String getActionForCircuitOpen(Class aClass, String anId) {
+        return getAction(aClass, OperationResult.CIRCUIT_OPEN, anId);
+    }
+    //endregion
+
+    //region Action table
+
+    /**
+     * The actions of an operation for each {@link OperationResult}, with its id and without it.
+     *
+     * @see #getActionTable(Class, String)
+     */
+    public static final class ActionTable {
+        private final String[] mActionsWithId;
+        private final String[] mActionsWithoutId;
+        private final boolean mHasId;
+
+        private ActionTable(String[] anActionsWithId, String[] anActionsWithoutId) {
+            this.mActionsWithId = anActionsWithId;
+            this.mActionsWithoutId = anActionsWithoutId;
+            this.mHasId = !anActionsWithId[0].equals(anActionsWithoutId[0]);
+        }
+
+        /**
+         * @return The action for the result with the id of the operation.
+         */
+        public String getActionWithId(OperationResult aResult) {
+            return mActionsWithId[aResult.ordinal()];
+        }
+
+        /**
+         * @return The action for the result without the id of the operation.
+         */
+        public String getActionWithoutId(OperationResult aResult) {
+            return mActionsWithoutId[aResult.ordinal()];
+        }
+
+        /**
+         * @return true if the actions with id are different from the actions without it.
+         */
+        public boolean hasId() {
+            return mHasId;
+        }
     }
     //endregion
 }
\ No newline at end of file
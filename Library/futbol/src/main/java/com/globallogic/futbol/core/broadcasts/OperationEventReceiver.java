@@ -0,0 +1,197 @@
+package com.globallogic.futbol.core.broadcasts;
+
+import com.globallogic.futbol.core.OperationEvent;
+import com.globallogic.futbol.core.OperationEventBus;
+import com.globallogic.futbol.core.OperationResult;
+import com.globallogic.futbol.core.interfaces.callbacks.IOperationCallback;
+import com.globallogic.futbol.core.interfaces.callbacks.IOperationCancelCallback;
+import com.globallogic.futbol.core.interfaces.callbacks.IStrategyCircuitBreakerCallback;
+import com.globallogic.futbol.core.interfaces.callbacks.IOperationEventListener;
+import com.globallogic.futbol.core.interfaces.callbacks.IStrategyHttpCallback;
+import com.globallogic.futbol.core.operations.Operation;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The typed version of {@link OperationBroadcastReceiver}. It listens the {@link OperationEventBus}
+ * and receives the result of the analyzers by reference.
+ * <p>
+ * It only receives the events of the operations with the typed dispatch enabled.
+ *
+ * @author facundo.mengoni
+ * @see Operation#setTypedDispatch(boolean)
+ * @see IOperationCallback
+ * @since 0.3.8
+ */
+public abstract class OperationEventReceiver implements IOperationEventListener {
+    //region Logger
+    public Logger mLogger;
+    protected boolean isListening;
+
+    {
+        mLogger = Logger.getLogger(getClass().getSimpleName());
+        mLogger.setLevel(Level.OFF);
+    }
+    //endregion
+
+    //region Variables
+    private final IOperationCallback mCallback;
+    //endregion
+
+    //region Constructors implementation
+    protected OperationEventReceiver(IOperationCallback callback) {
+        this.mCallback = callback;
+    }
+    //endregion
+
+    //region IOperationEventListener implementation
+    @Override
+    public void onOperationEvent(OperationEvent anEvent) {
+        mLogger.info("onOperationEvent: ".concat(anEvent.getOperationResult().name));
+        if (isListening) {
+            checkStatus(anEvent);
+        } else {
+            mLogger.info("The receiver isn't listening");
+        }
+    }
+
+    /**
+     * Analyze which status has occurred and call for specific trigger.
+     *
+     * @param anEvent The event received.
+     * @see #onStartOperation()
+     * @see #onFinishOperation()
+     * @see #onResultOK(OperationEvent)
+     * @see #onResultError(OperationEvent)
+     * @see #onNoInternet(OperationEvent)
+     * @see #onCircuitOpen(OperationEvent)
+     * @see #onCancelOperation()
+     */
+    protected void checkStatus(OperationEvent anEvent) {
+        OperationResult result = anEvent.getOperationResult();
+        if (OperationResult.START == result) {
+            onStartOperation();
+        } else if (OperationResult.FINISH == result) {
+            onFinishOperation();
+        } else if (OperationResult.CANCELLED == result) {
+            onCancelOperation();
+        } else if (OperationResult.OK == result) {
+            onResultOK(anEvent);
+        } else if (OperationResult.NO_INTERNET == result) {
+            onNoInternet(anEvent);
+        } else if (OperationResult.CIRCUIT_OPEN == result) {
+            onCircuitOpen(anEvent);
+        } else {
+            onResultError(anEvent);
+        }
+    }
+    //endregion
+
+    //region Triggers
+
+    /**
+     * It is triggered once only when the operation starts.
+     */
+    protected void onStartOperation() {
+        mCallback.onStartOperation();
+    }
+
+    /**
+     * It is triggered when the response was the expected response.
+     * It will be executed one time for each strategy defined.
+     *
+     * @param anEvent The event with the result of the analyzer.
+     * @see OperationEvent#getResult()
+     */
+    protected abstract void onResultOK(OperationEvent anEvent);
+
+    /**
+     * It is triggered when an error occurs.
+     * It will be executed one time for each strategy defined.
+     */
+    protected abstract void onResultError(OperationEvent anEvent);
+
+    /**
+     * It is triggered when the strategy can't start because don't have connection.
+     * If the callback isn't an {@link IStrategyHttpCallback} it is treated as an error.
+     */
+    protected void onNoInternet(OperationEvent anEvent) {
+        if (mCallback instanceof IStrategyHttpCallback) {
+            ((IStrategyHttpCallback) mCallback).onNoInternet();
+        } else {
+            onResultError(anEvent);
+        }
+    }
+
+    /**
+     * It is triggered when the strategy fails fast because the circuit of its host is open.
+     * If the callback isn't an {@link IStrategyCircuitBreakerCallback} it is treated as no internet.
+     */
+    protected void onCircuitOpen(OperationEvent anEvent) {
+        if (mCallback instanceof IStrategyCircuitBreakerCallback) {
+            ((IStrategyCircuitBreakerCallback) mCallback).onCircuitOpen();
+        } else {
+            onNoInternet(anEvent);
+        }
+    }
+
+    /**
+     * It is triggered once only when the operation is cancelled, before {@link #onFinishOperation()}.
+     * It notifies the callback only if it is an {@link IOperationCancelCallback}.
+     */
+    protected void onCancelOperation() {
+        if (mCallback instanceof IOperationCancelCallback)
+            ((IOperationCancelCallback) mCallback).onCancelOperation();
+    }
+
+    /**
+     * It is triggered once only when the operation was finished (whether successful or not).
+     */
+    protected void onFinishOperation() {
+        mCallback.onFinishOperation();
+    }
+    //endregion
+
+    //region Register & Unregister
+
+    /**
+     * Register the receiver to listen events of the operation and its id.
+     *
+     * @param aOperation The operation that you want listen.
+     * @see #startListening(Class, String)
+     */
+    public void startListening(Operation aOperation) {
+        startListening(aOperation.getClass(), aOperation.getId());
+    }
+
+    /**
+     * Register the receiver to listen events using a Class without an id.
+     *
+     * @param aClass The class that you want listen.
+     * @see #startListening(Class, String)
+     */
+    public void startListening(Class aClass) {
+        startListening(aClass, "");
+    }
+
+    /**
+     * Register the receiver to listen events using a Class with an id.
+     *
+     * @param aClass The class that you want listen.
+     * @param anId   An identifier that you want listen. It can be empty but not null.
+     */
+    public void startListening(Class aClass, String anId) {
+        isListening = true;
+        OperationEventBus.getInstance().register(this, aClass, anId);
+    }
+
+    /**
+     * Unregister the receiver to stop listening to the events of the operation
+     */
+    public void stopListening() {
+        isListening = false;
+        OperationEventBus.getInstance().unregister(this);
+    }
+    //endregion
+}
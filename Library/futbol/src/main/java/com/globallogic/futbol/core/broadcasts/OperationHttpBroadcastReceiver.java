@@ -4,13 +4,15 @@ import android.content.Intent;
 import android.content.IntentFilter;
 
 import com.globallogic.futbol.core.OperationResult;
+import com.globallogic.futbol.core.interfaces.callbacks.IStrategyCircuitBreakerCallback;
 import com.globallogic.futbol.core.interfaces.callbacks.IStrategyHttpCallback;
 
 /**
  * {@inheritDoc}<br>
- * Also support the case of no internet.
+ * Also support the case of no internet and the case of circuit open.
  *
  * @see IStrategyHttpCallback
+ * @see IStrategyCircuitBreakerCallback
  */
 public abstract class OperationHttpBroadcastReceiver extends OperationBroadcastReceiver {
     //region Variables
@@ -32,13 +34,25 @@ public abstract class OperationHttpBroadcastReceiver extends OperationBroadcastR
     protected void onNoInternet() {
         mCallback.onNoInternet();
     }
+
+    /**
+     * It is triggered when the strategy fails fast because the circuit of its host is open.
+     * If the callback isn't an {@link IStrategyCircuitBreakerCallback} it is treated as no internet.
+     */
+    protected void onCircuitOpen() {
+        if (mCallback instanceof IStrategyCircuitBreakerCallback) {
+            ((IStrategyCircuitBreakerCallback) mCallback).onCircuitOpen();
+        } else {
+            onNoInternet();
+        }
+    }
     //endregion
 
     //region BroadcastReceiver implementation
 
     /**
      * {@inheritDoc}<br>
-     * Also check the no internet status.
+     * Also check the no internet and the circuit open status.
      *
      * @see #onResultError(Intent)
      */
@@ -46,6 +60,8 @@ public abstract class OperationHttpBroadcastReceiver extends OperationBroadcastR
     protected void checkStatus(String status, Intent intent) {
         if (OperationResult.NO_INTERNET.name.equals(status)) {
             onNoInternet();
+        } else if (OperationResult.CIRCUIT_OPEN.name.equals(status)) {
+            onCircuitOpen();
         } else {
             super.checkStatus(status, intent);
         }
@@ -53,14 +69,16 @@ public abstract class OperationHttpBroadcastReceiver extends OperationBroadcastR
 
     /**
      * {@inheritDoc}<br>
-     * Also add the action for no internet.
+     * Also add the actions for no internet and circuit open.
      *
      * @see OperationBroadcastReceiverHelper#getActionForNoInternet(Class, String)
+     * @see OperationBroadcastReceiverHelper#getActionForCircuitOpen(Class, String)
      */
     @Override
     protected void addFiltersToListen(Class aClass, String aId, IntentFilter filter) {
         super.addFiltersToListen(aClass, aId, filter);
         filter.addAction(OperationBroadcastReceiverHelper.getActionForNoInternet(aClass, aId));
+        filter.addAction(OperationBroadcastReceiverHelper.getActionForCircuitOpen(aClass, aId));
     }
     //endregion
 }
\ No newline at end of file
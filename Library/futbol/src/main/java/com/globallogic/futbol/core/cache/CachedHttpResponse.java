@@ -0,0 +1,86 @@
+package com.globallogic.futbol.core.cache;
+
+import com.globallogic.futbol.core.responses.StrategyHttpResponse;
+
+import java.io.Serializable;
+
+/**
+ * A response stored in a {@link com.globallogic.futbol.core.interfaces.IHttpResponseCache}.
+ * <p>
+ * It is fresh while its time to live doesn't expire. When it is expired it can still be revalidated
+ * with the server if the response has an {@link StrategyHttpResponse#HEADER_ETAG} or a
+ * {@link StrategyHttpResponse#HEADER_LAST_MODIFIED} header.
+ *
+ * @author facundo.mengoni
+ * @since 0.3.8
+ */
+public class CachedHttpResponse implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final StrategyHttpResponse mResponse;
+    private final long mStoredAt;
+    private final long mTimeToLive;
+
+    /**
+     * @param aResponse   The response returned by the server.
+     * @param aTimeToLive The milliseconds that the response is fresh.
+     */
+    public CachedHttpResponse(StrategyHttpResponse aResponse, long aTimeToLive) {
+        this(aResponse, System.currentTimeMillis(), aTimeToLive);
+    }
+
+    /**
+     * @param aResponse   The response returned by the server.
+     * @param aStoredAt   The moment when the response was stored, in milliseconds since epoch.
+     * @param aTimeToLive The milliseconds that the response is fresh.
+     */
+    public CachedHttpResponse(StrategyHttpResponse aResponse, long aStoredAt, long aTimeToLive) {
+        mResponse = aResponse;
+        mStoredAt = aStoredAt;
+        mTimeToLive = aTimeToLive;
+    }
+
+    public StrategyHttpResponse getResponse() {
+        return mResponse;
+    }
+
+    public long getStoredAt() {
+        return mStoredAt;
+    }
+
+    public long getTimeToLive() {
+        return mTimeToLive;
+    }
+
+    public String getETag() {
+        return mResponse.getHeader(StrategyHttpResponse.HEADER_ETAG);
+    }
+
+    public String getLastModified() {
+        return mResponse.getHeader(StrategyHttpResponse.HEADER_LAST_MODIFIED);
+    }
+
+    /**
+     * @return True if the time to live didn't expire.
+     */
+    public boolean isFresh() {
+        long age = System.currentTimeMillis() - mStoredAt;
+        return age >= 0 && age < mTimeToLive;
+    }
+
+    /**
+     * @return True if the server can confirm that the response didn't change.
+     */
+    public boolean canRevalidate() {
+        return getETag() != null || getLastModified() != null;
+    }
+
+    @Override
+    public String toString() {
+        return "CachedHttpResponse{" +
+                "mResponse=" + mResponse +
+                ", mStoredAt=" + mStoredAt +
+                ", mTimeToLive=" + mTimeToLive +
+                '}';
+    }
+}
@@ -0,0 +1,275 @@
+package com.globallogic.futbol.core.cache;
+
+import com.globallogic.futbol.core.interfaces.IHttpResponseCache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The default {@link IHttpResponseCache}.
+ * <p>
+ * It keeps the most recently used responses in memory and, if a directory is specified, it also
+ * keeps them in disk so they survive to the process. When a tier is full the least recently used
+ * response is evicted.
+ *
+ * @author facundo.mengoni
+ * @since 0.3.8
+ */
+public class HttpResponseCache implements IHttpResponseCache {
+    //region Constants
+    public static final int DEFAULT_MAX_MEMORY_ENTRIES = 32;
+    private static final String FILE_SUFFIX = ".response";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    //endregion
+
+    //region Loggers
+    private final Logger mLogger;
+    //endregion
+
+    //region Variables
+    private final LinkedHashMap<String, CachedHttpResponse> mMemory;
+    private final File mDirectory;
+    private final int mMaxDiskEntries;
+    //endregion
+
+    //region Constructors implementation
+
+    /**
+     * Create a cache only in memory with {@link #DEFAULT_MAX_MEMORY_ENTRIES} entries.
+     */
+    public HttpResponseCache() {
+        this(DEFAULT_MAX_MEMORY_ENTRIES);
+    }
+
+    /**
+     * Create a cache only in memory.
+     *
+     * @param aMaxMemoryEntries The number of responses kept in memory.
+     */
+    public HttpResponseCache(int aMaxMemoryEntries) {
+        this(aMaxMemoryEntries, null, 0);
+    }
+
+    /**
+     * Create a cache in memory and in disk.
+     *
+     * @param aMaxMemoryEntries The number of responses kept in memory.
+     * @param aDirectory        The directory where the responses are written. For example {@code new File(context.getCacheDir(), "futbol")}.
+     * @param aMaxDiskEntries   The number of responses kept in disk.
+     */
+    public HttpResponseCache(final int aMaxMemoryEntries, File aDirectory, int aMaxDiskEntries) {
+        mLogger = Logger.getLogger(getClass().getSimpleName());
+        mLogger.setLevel(Level.OFF);
+        mMemory = new LinkedHashMap<String, CachedHttpResponse>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedHttpResponse> eldest) {
+                return size() > aMaxMemoryEntries;
+            }
+        };
+        mDirectory = aDirectory;
+        mMaxDiskEntries = aMaxDiskEntries;
+        if (mDirectory != null && !mDirectory.exists() && !mDirectory.mkdirs())
+            mLogger.warning("The cache directory can't be created: " + mDirectory);
+    }
+    //endregion
+
+    //region IHttpResponseCache implementation
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CachedHttpResponse get(String aKey) {
+        synchronized (mMemory) {
+            CachedHttpResponse response = mMemory.get(aKey);
+            if (response != null)
+                return response;
+        }
+        CachedHttpResponse response = readFromDisk(aKey);
+        if (response != null) {
+            synchronized (mMemory) {
+                mMemory.put(aKey, response);
+            }
+        }
+        return response;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(String aKey, CachedHttpResponse aResponse) {
+        synchronized (mMemory) {
+            mMemory.put(aKey, aResponse);
+        }
+        writeToDisk(aKey, aResponse);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remove(String aKey) {
+        synchronized (mMemory) {
+            mMemory.remove(aKey);
+        }
+        if (mDirectory != null)
+            //noinspection ResultOfMethodCallIgnored
+            getFile(aKey).delete();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        synchronized (mMemory) {
+            mMemory.clear();
+        }
+        File[] files = listFiles();
+        if (files != null)
+            for (File file : files)
+                //noinspection ResultOfMethodCallIgnored
+                file.delete();
+    }
+    //endregion
+
+    //region HttpResponseCache implementation
+
+    /**
+     * Create a key that identifies a request.
+     *
+     * @param aMethod  The http method.
+     * @param anUrl    The url, including the query.
+     * @param aHeaders The headers sent, can be null. The order doesn't matter.
+     * @param aBody    The body sent, can be null.
+     * @return A hash of all the parameters.
+     */
+    public static String createKey(String aMethod, String anUrl, Map<String, String> aHeaders, String aBody) {
+        StringBuilder builder = new StringBuilder();
+        builder.append(aMethod).append('\n').append(anUrl).append('\n');
+        if (aHeaders != null)
+            for (Map.Entry<String, String> header : new TreeMap<>(aHeaders).entrySet())
+                builder.append(header.getKey()).append(':').append(header.getValue()).append('\n');
+        builder.append('\n');
+        if (aBody != null)
+            builder.append(aBody);
+        return hash(builder.toString());
+    }
+
+    private static String hash(String aString) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(aString.getBytes("UTF-8"));
+            char[] chars = new char[digest.length * 2];
+            for (int i = 0; i < digest.length; i++) {
+                chars[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+                chars[i * 2 + 1] = HEX[digest[i] & 0xF];
+            }
+            return new String(chars);
+        } catch (NoSuchAlgorithmException | UnsupportedEncodingException e) {
+            // Both are required by the platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private File getFile(String aKey) {
+        // The keys created by createKey are already safe to be used as a file name
+        String name = aKey.matches("[0-9a-f]+") ? aKey : hash(aKey);
+        return new File(mDirectory, name + FILE_SUFFIX);
+    }
+
+    private File[] listFiles() {
+        if (mDirectory == null)
+            return null;
+        return mDirectory.listFiles(new FilenameFilter() {
+            @Override
+            public boolean accept(File dir, String name) {
+                return name.endsWith(FILE_SUFFIX);
+            }
+        });
+    }
+
+    private CachedHttpResponse readFromDisk(String aKey) {
+        if (mDirectory == null)
+            return null;
+        File file = getFile(aKey);
+        if (!file.exists())
+            return null;
+        ObjectInputStream in = null;
+        try {
+            in = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)));
+            CachedHttpResponse response = (CachedHttpResponse) in.readObject();
+            // Mark it as recently used
+            //noinspection ResultOfMethodCallIgnored
+            file.setLastModified(System.currentTimeMillis());
+            return response;
+        } catch (Exception e) {
+            mLogger.log(Level.WARNING, "The cached response can't be read: " + e.getMessage(), e);
+            //noinspection ResultOfMethodCallIgnored
+            file.delete();
+            return null;
+        } finally {
+            close(in);
+        }
+    }
+
+    private void writeToDisk(String aKey, CachedHttpResponse aResponse) {
+        if (mDirectory == null || mMaxDiskEntries <= 0)
+            return;
+        ObjectOutputStream out = null;
+        try {
+            out = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(getFile(aKey))));
+            out.writeObject(aResponse);
+        } catch (IOException e) {
+            mLogger.log(Level.WARNING, "The response can't be written: " + e.getMessage(), e);
+        } finally {
+            close(out);
+        }
+        trimDisk();
+    }
+
+    private synchronized void trimDisk() {
+        File[] files = listFiles();
+        if (files == null || files.length <= mMaxDiskEntries)
+            return;
+        Arrays.sort(files, new Comparator<File>() {
+            @Override
+            public int compare(File lhs, File rhs) {
+                long l = lhs.lastModified();
+                long r = rhs.lastModified();
+                return l < r ? -1 : (l == r ? 0 : 1);
+            }
+        });
+        for (int i = 0; i < files.length - mMaxDiskEntries; i++)
+            //noinspection ResultOfMethodCallIgnored
+            files[i].delete();
+    }
+
+    private static void close(Closeable aCloseable) {
+        if (aCloseable != null) {
+            try {
+                aCloseable.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+    //endregion
+}
@@ -7,6 +7,8 @@ package com.globallogic.futbol.core.exceptions;
  * @since 0.3.3
  */
 public class KeyNotFound extends Exception {
+    private static final long serialVersionUID = 1L;
+
     public KeyNotFound() {
     }
 
@@ -12,6 +12,8 @@ import com.globallogic.futbol.core.strategies.HttpOperationStrategy;
  * @since 0.1.0
  */
 public class UnexpectedResponseException extends Exception {
+    private static final long serialVersionUID = 1L;
+
     public UnexpectedResponseException() {
     }
 
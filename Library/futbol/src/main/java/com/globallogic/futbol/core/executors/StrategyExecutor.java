@@ -0,0 +1,219 @@
+package com.globallogic.futbol.core.executors;
+
+import android.os.Build;
+import android.os.Process;
+
+import com.globallogic.futbol.core.operations.Operation;
+import com.globallogic.futbol.core.strategies.OperationStrategy;
+import com.globallogic.futbol.core.utils.Utils;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The executors where the strategies do their work.
+ * <p>
+ * It has two bounded pools: one for the I/O of the requests ({@link OperationStrategy#doRequestImpl()})
+ * and other for the analysis of the responses. Each pool has its own number of threads, its own queue
+ * size and its own rejection policy, so the operations don't compete with the rest of the
+ * {@link android.os.AsyncTask} of the application. The connection delays are scheduled in a single
+ * timer thread that is only used while a delay expires.
+ *
+ * @author facundo.mengoni
+ * @see Operation#setExecutor(StrategyExecutor)
+ * @see #setDefault(StrategyExecutor)
+ * @since 0.3.8
+ */
+public class StrategyExecutor {
+    //region Constants
+    private static final int CPU_COUNT = Runtime.getRuntime().availableProcessors();
+    public static final int DEFAULT_IO_THREADS = 4;
+    public static final int DEFAULT_IO_QUEUE_SIZE = 64;
+    public static final int DEFAULT_CPU_THREADS = Math.max(1, CPU_COUNT - 1);
+    public static final int DEFAULT_CPU_QUEUE_SIZE = 128;
+    private static final int KEEP_ALIVE_SECONDS = 30;
+    //endregion
+
+    //region Variables
+    private static StrategyExecutor sDefault;
+    private final ThreadPoolExecutor mIoExecutor;
+    private final ThreadPoolExecutor mCpuExecutor;
+    private final ScheduledThreadPoolExecutor mScheduler;
+    //endregion
+
+    //region Constructors implementation
+
+    /**
+     * Create a new instance with the default threads and queue sizes.
+     *
+     * @see #StrategyExecutor(int, int, int, int)
+     */
+    public StrategyExecutor() {
+        this(DEFAULT_IO_THREADS, DEFAULT_IO_QUEUE_SIZE, DEFAULT_CPU_THREADS, DEFAULT_CPU_QUEUE_SIZE);
+    }
+
+    /**
+     * Create a new instance with the specified threads and queue sizes.
+     * <p>
+     * If the I/O queue is full the request is rejected and the strategy is notified with the
+     * {@link java.util.concurrent.RejectedExecutionException}. If the analysis queue is full the
+     * analysis is done in the thread that delivered the response, unless it is the thread UI: then the
+     * analysis is rejected and the strategy fails.
+     *
+     * @param anIoThreads    The number of threads to do the requests.
+     * @param anIoQueueSize  The number of requests that can wait for a thread.
+     * @param aCpuThreads    The number of threads to analyze the responses.
+     * @param aCpuQueueSize  The number of responses that can wait for a thread.
+     * @see #setIoRejectionPolicy(RejectedExecutionHandler)
+     * @see #setCpuRejectionPolicy(RejectedExecutionHandler)
+     */
+    public StrategyExecutor(int anIoThreads, int anIoQueueSize, int aCpuThreads, int aCpuQueueSize) {
+        mIoExecutor = createExecutor("futbol-io", anIoThreads, anIoQueueSize, new ThreadPoolExecutor.AbortPolicy());
+        mCpuExecutor = createExecutor("futbol-cpu", aCpuThreads, aCpuQueueSize, new CallerRunsOutsideThreadUIPolicy());
+        mScheduler = createScheduler("futbol-timer");
+    }
+    //endregion
+
+    //region Getters & Setters implementation
+
+    /**
+     * @return The executor used by all the operations that don't define their own executor.
+     * @see Operation#getExecutor()
+     */
+    public static synchronized StrategyExecutor getDefault() {
+        if (sDefault == null)
+            sDefault = new StrategyExecutor();
+        return sDefault;
+    }
+
+    /**
+     * Defines the executor used by all the operations that don't define their own executor.
+     *
+     * @see Operation#setExecutor(StrategyExecutor)
+     */
+    public static synchronized void setDefault(StrategyExecutor anExecutor) {
+        sDefault = anExecutor;
+    }
+
+    /**
+     * @return The executor where the requests are done.
+     */
+    public Executor getIoExecutor() {
+        return mIoExecutor;
+    }
+
+    /**
+     * @return The executor where the responses are analyzed.
+     */
+    public Executor getCpuExecutor() {
+        return mCpuExecutor;
+    }
+
+    /**
+     * @return The executor where the connection delays are scheduled. The tasks scheduled must only
+     * hand off the work to other executor.
+     * @see OperationStrategy#setConnectionDelay(long)
+     */
+    public ScheduledExecutorService getScheduler() {
+        return mScheduler;
+    }
+
+    /**
+     * Defines what to do when a request can't be queued.
+     * By default it throws a {@link java.util.concurrent.RejectedExecutionException}.
+     */
+    public void setIoRejectionPolicy(RejectedExecutionHandler aPolicy) {
+        mIoExecutor.setRejectedExecutionHandler(aPolicy);
+    }
+
+    /**
+     * Defines what to do when a response can't be queued to be analyzed.
+     * By default it is analyzed in the thread that tried to queue it, or rejected if it is the thread UI.
+     * If the analysis is rejected the strategy fails.
+     */
+    public void setCpuRejectionPolicy(RejectedExecutionHandler aPolicy) {
+        mCpuExecutor.setRejectedExecutionHandler(aPolicy);
+    }
+    //endregion
+
+    //region StrategyExecutor implementation
+
+    /**
+     * Stop accepting new work. The work already queued will be finished.
+     */
+    public void shutdown() {
+        mIoExecutor.shutdown();
+        mCpuExecutor.shutdown();
+        mScheduler.shutdown();
+    }
+
+    private static ThreadPoolExecutor createExecutor(String aName, int aThreads, int aQueueSize, RejectedExecutionHandler aPolicy) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(aThreads, aThreads,
+                KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<Runnable>(aQueueSize),
+                new StrategyThreadFactory(aName),
+                aPolicy);
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.GINGERBREAD) {
+            executor.allowCoreThreadTimeOut(true);
+        }
+        return executor;
+    }
+
+    private static ScheduledThreadPoolExecutor createScheduler(String aName) {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, new StrategyThreadFactory(aName));
+        scheduler.setKeepAliveTime(KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.GINGERBREAD) {
+            scheduler.allowCoreThreadTimeOut(true);
+        }
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+            scheduler.setRemoveOnCancelPolicy(true);
+        }
+        return scheduler;
+    }
+
+    /**
+     * Runs the rejected task in the thread that tried to queue it, except in the thread UI,
+     * where it throws a {@link RejectedExecutionException} so the analysis never blocks the UI.
+     */
+    private static class CallerRunsOutsideThreadUIPolicy implements RejectedExecutionHandler {
+        @Override
+        public void rejectedExecution(Runnable aRunnable, ThreadPoolExecutor anExecutor) {
+            if (anExecutor.isShutdown())
+                throw new RejectedExecutionException("The executor was shut down");
+            if (Utils.isThreadUI())
+                throw new RejectedExecutionException("The analysis queue is full and it can't be done in the thread UI");
+            aRunnable.run();
+        }
+    }
+
+    private static class StrategyThreadFactory implements ThreadFactory {
+        private final AtomicInteger mCount = new AtomicInteger(1);
+        private final String mName;
+
+        StrategyThreadFactory(String aName) {
+            mName = aName;
+        }
+
+        @Override
+        public Thread newThread(final Runnable aRunnable) {
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                    aRunnable.run();
+                }
+            }, mName + " #" + mCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+    //endregion
+}
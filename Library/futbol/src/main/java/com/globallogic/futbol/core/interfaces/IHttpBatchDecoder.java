@@ -0,0 +1,23 @@
+package com.globallogic.futbol.core.interfaces;
+
+import com.globallogic.futbol.core.responses.StrategyHttpResponse;
+import com.globallogic.futbol.core.strategies.HttpOperationStrategy;
+
+import java.util.List;
+
+/**
+ * Splits the response of a batch request done by an {@link IHttpBatchEncoder} in the responses of each strategy.
+ *
+ * @author facundo.mengoni
+ * @see com.globallogic.futbol.core.batch.JsonHttpBatchDecoder
+ * @since 0.3.8
+ */
+public interface IHttpBatchDecoder {
+    /**
+     * @param aStrategies The strategies combined in the batch request.
+     * @param aResponse   The response of the batch request.
+     * @return The response of each strategy, in the same order.
+     * @throws Exception If the response can't be split. It is notified to all the strategies.
+     */
+    List<StrategyHttpResponse> decode(List<HttpOperationStrategy> aStrategies, StrategyHttpResponse aResponse) throws Exception;
+}
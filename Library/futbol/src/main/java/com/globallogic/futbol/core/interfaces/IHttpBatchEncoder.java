@@ -0,0 +1,35 @@
+package com.globallogic.futbol.core.interfaces;
+
+import com.globallogic.futbol.core.interfaces.parsers.IOperationParser;
+import com.globallogic.futbol.core.responses.StrategyHttpResponse;
+import com.globallogic.futbol.core.strategies.HttpOperationStrategy;
+
+import java.util.List;
+
+/**
+ * Combines the requests of many {@link HttpOperationStrategy} in a single request, for example a
+ * post to a batch endpoint with the method, the url and the body of each request.
+ * <p>
+ * It is called from the threads of the I/O executor.
+ *
+ * @author facundo.mengoni
+ * @see IHttpBatchDecoder
+ * @see com.globallogic.futbol.core.batch.HttpBatcher
+ * @since 0.3.8
+ */
+public interface IHttpBatchEncoder {
+    /**
+     * @param aStrategy The strategy that is going to do its request.
+     * @return The key of the batches where the strategy can be sent, the strategies with the same key are
+     * combined. Null if the request of the strategy can't be combined and it must be done alone.
+     */
+    String getBatchKey(HttpOperationStrategy aStrategy);
+
+    /**
+     * Do a single request with the requests of all the strategies.
+     *
+     * @param aStrategies The strategies combined, all with the same batch key.
+     * @param aParser     It must receive the response of the batch request or the exception occurred, from any thread.
+     */
+    void doBatchRequest(List<HttpOperationStrategy> aStrategies, IOperationParser<StrategyHttpResponse> aParser);
+}
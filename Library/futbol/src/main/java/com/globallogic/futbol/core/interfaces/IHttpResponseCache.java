@@ -0,0 +1,44 @@
+package com.globallogic.futbol.core.interfaces;
+
+import com.globallogic.futbol.core.cache.CachedHttpResponse;
+import com.globallogic.futbol.core.strategies.HttpOperationStrategy;
+
+/**
+ * A storage for the responses of the {@link HttpOperationStrategy}.
+ * <p>
+ * It is called from the threads of the I/O executor, so the implementations must be thread safe
+ * and can block to read or write a persistent storage.
+ *
+ * @author facundo.mengoni
+ * @see com.globallogic.futbol.core.cache.HttpResponseCache
+ * @see HttpOperationStrategy#setDefaultResponseCache(IHttpResponseCache)
+ * @since 0.3.8
+ */
+public interface IHttpResponseCache {
+    /**
+     * @param aKey The key of the request.
+     * @return The response stored for the key (fresh or not) or null if there is no response.
+     * @see HttpOperationStrategy#getCacheKey()
+     */
+    CachedHttpResponse get(String aKey);
+
+    /**
+     * Store the response for the key replacing the previous one.
+     *
+     * @param aKey      The key of the request.
+     * @param aResponse The response to store.
+     */
+    void put(String aKey, CachedHttpResponse aResponse);
+
+    /**
+     * Remove the response stored for the key.
+     *
+     * @param aKey The key of the request.
+     */
+    void remove(String aKey);
+
+    /**
+     * Remove all the responses.
+     */
+    void clear();
+}
@@ -0,0 +1,23 @@
+package com.globallogic.futbol.core.interfaces;
+
+import com.globallogic.futbol.core.metrics.OperationMetrics;
+import com.globallogic.futbol.core.metrics.StrategyMetrics;
+
+import java.util.List;
+
+/**
+ * Send the metrics of the strategies to a backend, a log or a file.
+ *
+ * @author facundo.mengoni
+ * @see OperationMetrics#addExporter(IMetricsExporter)
+ * @see com.globallogic.futbol.core.metrics.LogMetricsExporter
+ * @since 0.3.8
+ */
+public interface IMetricsExporter {
+    /**
+     * It is called from the thread that calls {@link OperationMetrics#export()}.
+     *
+     * @param aMetrics The metrics of each operation and strategy. They keep changing while they are exported.
+     */
+    void export(List<StrategyMetrics> aMetrics);
+}
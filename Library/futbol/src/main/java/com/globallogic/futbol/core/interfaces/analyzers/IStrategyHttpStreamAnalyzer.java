@@ -0,0 +1,33 @@
+package com.globallogic.futbol.core.interfaces.analyzers;
+
+import android.content.Intent;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A http analyzer that can read the body of the response while it is received, without keeping it
+ * as a {@link String}. It is used when the strategy obtains the response as a stream, in other case
+ * {@link #analyzeResult(Integer, String)} is used.
+ * <p>
+ * If the strategy caches its responses the stream is read in memory to store it, so the cacheable responses
+ * and the cached ones are analyzed with {@link #analyzeResult(Integer, String)}.
+ *
+ * @author facundo.mengoni
+ * @see com.globallogic.futbol.core.analyzers.DefaultHttpStreamAnalyzer
+ * @see com.globallogic.futbol.core.responses.StrategyHttpResponse#getStream()
+ * @see com.globallogic.futbol.core.strategies.HttpOperationStrategy#setCacheTimeToLive(long)
+ * @since 0.3.8
+ */
+public interface IStrategyHttpStreamAnalyzer extends IStrategyHttpAnalyzer {
+    /**
+     * Analyze the response.
+     *
+     * @param aHttpCode The http code obtained
+     * @param aStream   The body obtained. It is closed by the strategy after the analysis.
+     * @return true if is an http code expected and can parse the body, false in other case.
+     * @throws IOException If the body can't be read.
+     * @see #addExtrasForResultOk(Intent)
+     */
+    Boolean analyzeResult(Integer aHttpCode, InputStream aStream) throws IOException;
+}
@@ -0,0 +1,18 @@
+package com.globallogic.futbol.core.interfaces.analyzers;
+
+import com.globallogic.futbol.core.OperationEvent;
+
+/**
+ * An analyzer that exposes the object obtained in the analysis.
+ * It is used to deliver the result by reference when the operation uses the typed dispatch.
+ *
+ * @author facundo.mengoni
+ * @see OperationEvent#getResult()
+ * @since 0.3.8
+ */
+public interface IStrategyResultAnalyzer<T> extends IStrategyAnalyzer {
+    /**
+     * @return The object obtained in the last analysis or null if there isn't one.
+     */
+    T getResult();
+}
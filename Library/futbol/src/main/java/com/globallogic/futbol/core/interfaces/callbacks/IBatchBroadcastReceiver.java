@@ -0,0 +1,31 @@
+package com.globallogic.futbol.core.interfaces.callbacks;
+
+import android.content.Context;
+import android.content.Intent;
+
+import com.globallogic.futbol.core.LocalBroadcastManager;
+
+import java.util.List;
+
+/**
+ * A receiver that can receive all the broadcasts queued in the same looper tick at once.
+ * It is only supported by the {@link LocalBroadcastManager}.
+ *
+ * @author facundo.mengoni
+ * @since 0.3.8
+ */
+public interface IBatchBroadcastReceiver {
+    /**
+     * @return true if the broadcasts must be delivered in batches with {@link #onReceiveBatch(Context, List)}
+     * instead of one by one.
+     */
+    boolean isCoalescing();
+
+    /**
+     * It is triggered once for each looper tick with all the broadcasts received in the order they were sent.
+     *
+     * @param aContext The context where the receiver is running.
+     * @param anIntents The broadcasts received.
+     */
+    void onReceiveBatch(Context aContext, List<Intent> anIntents);
+}
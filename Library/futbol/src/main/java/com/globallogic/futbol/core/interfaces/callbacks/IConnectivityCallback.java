@@ -0,0 +1,17 @@
+package com.globallogic.futbol.core.interfaces.callbacks;
+
+/**
+ * An interface to know when the connection is lost or recovered.
+ *
+ * @author facundo.mengoni
+ * @see com.globallogic.futbol.core.ConnectivityMonitor#addCallback(IConnectivityCallback)
+ * @since 0.3.8
+ */
+public interface IConnectivityCallback {
+    /**
+     * It is triggered when the state of the connection changes, after the strategies queued were executed.
+     *
+     * @param aConnected true if the connection was recovered, false if it was lost.
+     */
+    void onConnectivityChanged(boolean aConnected);
+}
@@ -0,0 +1,15 @@
+package com.globallogic.futbol.core.interfaces.callbacks;
+
+/**
+ * An interface for the callbacks that want to know when the operation is cancelled.
+ *
+ * @author facundo.mengoni
+ * @see com.globallogic.futbol.core.operations.Operation#cancel()
+ * @since 0.3.8
+ */
+public interface IOperationCancelCallback extends IOperationCallback {
+    /**
+     * It is triggered once only when the operation is cancelled, before {@link #onFinishOperation()}.
+     */
+    void onCancelOperation();
+}
@@ -0,0 +1,19 @@
+package com.globallogic.futbol.core.interfaces.callbacks;
+
+import com.globallogic.futbol.core.OperationEvent;
+import com.globallogic.futbol.core.OperationEventBus;
+
+/**
+ * A listener of the events dispatched by the {@link OperationEventBus}.
+ *
+ * @author facundo.mengoni
+ * @since 0.3.8
+ */
+public interface IOperationEventListener {
+    /**
+     * It is triggered in the thread UI for each event of the operations that the listener is registered.
+     *
+     * @param anEvent The event dispatched.
+     */
+    void onOperationEvent(OperationEvent anEvent);
+}
@@ -0,0 +1,30 @@
+package com.globallogic.futbol.core.interfaces.callbacks;
+
+import com.globallogic.futbol.core.strategies.OperationStrategy;
+
+import java.io.IOException;
+
+/**
+ * An interface to know if a strategy was stored in the outbox.
+ *
+ * @author facundo.mengoni
+ * @see com.globallogic.futbol.core.outbox.Outbox#add(String, OperationStrategy, IOutboxCallback)
+ * @since 0.3.8
+ */
+public interface IOutboxCallback {
+    /**
+     * It is triggered in the I/O executor of the outbox when the strategy was stored, or when it wasn't
+     * needed because a strategy with the same key was stored after it.
+     *
+     * @param aStrategy The strategy stored.
+     */
+    void onStored(OperationStrategy aStrategy);
+
+    /**
+     * It is triggered when the strategy can't be stored.
+     *
+     * @param aStrategy   The strategy that wasn't stored.
+     * @param anException The reason, for example the strategy isn't serializable or the disk is full.
+     */
+    void onStoreFailed(OperationStrategy aStrategy, IOException anException);
+}
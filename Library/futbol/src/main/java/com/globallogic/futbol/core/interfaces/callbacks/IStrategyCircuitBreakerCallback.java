@@ -0,0 +1,15 @@
+package com.globallogic.futbol.core.interfaces.callbacks;
+
+/**
+ * An interface for the http callbacks that want to know when a strategy fails fast because the circuit of its host is open.
+ *
+ * @author facundo.mengoni
+ * @see com.globallogic.futbol.core.policies.CircuitBreaker
+ * @since 0.3.8
+ */
+public interface IStrategyCircuitBreakerCallback extends IStrategyHttpCallback {
+    /**
+     * It is triggered when the strategy can't be executed because its host is failing.
+     */
+    void onCircuitOpen();
+}
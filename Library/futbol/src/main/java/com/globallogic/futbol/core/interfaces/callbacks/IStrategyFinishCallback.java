@@ -0,0 +1,20 @@
+package com.globallogic.futbol.core.interfaces.callbacks;
+
+import com.globallogic.futbol.core.strategies.OperationStrategy;
+
+/**
+ * An interface to know when a strategy finishes, whatever the result is.
+ *
+ * @author facundo.mengoni
+ * @see OperationStrategy#setFinishCallback(IStrategyFinishCallback)
+ * @since 0.3.8
+ */
+public interface IStrategyFinishCallback {
+    /**
+     * It is triggered once only when the strategy finishes, before the operation is notified.
+     *
+     * @param aStrategy  The strategy finished.
+     * @param aSucceeded true if the result was ok, false if it failed, it was cancelled or it couldn't be executed.
+     */
+    void onStrategyFinished(OperationStrategy aStrategy, boolean aSucceeded);
+}
@@ -21,7 +21,8 @@ public interface IOperationDbParser<U, T extends StrategyDbResponse> extends IOp
     Boolean workInBackground(Exception anException, U aResponse);
 
     /**
-     * Notify that the strategy has been finished. It should be executed in the thread UI.
+     * Notify that the strategy has been finished. It should be executed in the thread UI
+     * unless the operation is in direct pipeline mode.
      *
      * @param aResult Is the result of {@link #workInBackground(Exception, U)}.
      */
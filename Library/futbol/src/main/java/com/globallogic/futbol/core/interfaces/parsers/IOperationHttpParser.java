@@ -22,7 +22,8 @@ public interface IOperationHttpParser<T extends StrategyHttpResponse> extends IO
     Boolean workInBackground(Exception anException, Integer aHttpCode, String aString);
 
     /**
-     * Notify that the strategy has been finished. It should be executed in the thread UI.
+     * Notify that the strategy has been finished. It should be executed in the thread UI
+     * unless the operation is in direct pipeline mode.
      *
      * @param aResult Is the result of {@link #workInBackground(Exception, Integer, String)}.
      */
@@ -0,0 +1,107 @@
+package com.globallogic.futbol.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A thread safe histogram of durations in nanoseconds.
+ * <p>
+ * The values are counted in buckets that grow exponentially with 8 buckets for each power of two,
+ * so the percentiles have an error lower than 12.5% and the memory used is fixed.
+ *
+ * @author facundo.mengoni
+ * @see OperationMetrics
+ * @since 0.3.8
+ */
+public class Histogram {
+    //region Constants
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = SUB_BUCKETS * (64 - SUB_BUCKET_BITS);
+    //endregion
+
+    //region Variables
+    private final AtomicLongArray mBuckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong mCount = new AtomicLong();
+    private final AtomicLong mSum = new AtomicLong();
+    private final AtomicLong mMax = new AtomicLong();
+    //endregion
+
+    //region Histogram implementation
+
+    /**
+     * @param aValue The duration to record in nanoseconds. The negative values are ignored.
+     */
+    public void record(long aValue) {
+        if (aValue < 0)
+            return;
+        mBuckets.incrementAndGet(getBucket(aValue));
+        mCount.incrementAndGet();
+        mSum.addAndGet(aValue);
+        long max = mMax.get();
+        while (aValue > max && !mMax.compareAndSet(max, aValue))
+            max = mMax.get();
+    }
+
+    public long getCount() {
+        return mCount.get();
+    }
+
+    /**
+     * @return The mean of the values recorded in nanoseconds or 0 if there is no value.
+     */
+    public long getMean() {
+        long count = mCount.get();
+        return count == 0 ? 0 : mSum.get() / count;
+    }
+
+    /**
+     * @return The maximum value recorded in nanoseconds.
+     */
+    public long getMax() {
+        return mMax.get();
+    }
+
+    /**
+     * @param aPercentile The percentile between 0 and 100. Eg: 50, 90, 99.
+     * @return The highest value of the bucket where the percentile is, in nanoseconds, or 0 if there is no value.
+     */
+    public long getPercentile(double aPercentile) {
+        long count = mCount.get();
+        if (count == 0)
+            return 0;
+        long rank = (long) Math.ceil(count * Math.min(100, Math.max(0, aPercentile)) / 100);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += mBuckets.get(i);
+            if (seen >= Math.max(1, rank))
+                return Math.min(getHighestValue(i), getMax());
+        }
+        return getMax();
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++)
+            mBuckets.set(i, 0);
+        mCount.set(0);
+        mSum.set(0);
+        mMax.set(0);
+    }
+
+    private static int getBucket(long aValue) {
+        if (aValue < SUB_BUCKETS)
+            return (int) aValue;
+        int exponent = 63 - Long.numberOfLeadingZeros(aValue);
+        int subBucket = (int) (aValue >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long getHighestValue(int aBucket) {
+        if (aBucket < SUB_BUCKETS)
+            return aBucket;
+        int exponent = aBucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long lowest = (long) (SUB_BUCKETS + aBucket % SUB_BUCKETS) << (exponent - SUB_BUCKET_BITS);
+        return lowest + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+    //endregion
+}
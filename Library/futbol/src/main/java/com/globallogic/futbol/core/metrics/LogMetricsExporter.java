@@ -0,0 +1,34 @@
+package com.globallogic.futbol.core.metrics;
+
+import android.util.Log;
+
+import com.globallogic.futbol.core.interfaces.IMetricsExporter;
+
+import java.util.List;
+
+/**
+ * Write the metrics in the log with the format of {@link OperationMetrics#dump()}.
+ *
+ * @author facundo.mengoni
+ * @since 0.3.8
+ */
+public class LogMetricsExporter implements IMetricsExporter {
+    private final String mTag;
+
+    public LogMetricsExporter() {
+        this("OperationMetrics");
+    }
+
+    public LogMetricsExporter(String aTag) {
+        mTag = aTag;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void export(List<StrategyMetrics> aMetrics) {
+        for (String line : OperationMetrics.dump(aMetrics).split("\n"))
+            Log.i(mTag, line);
+    }
+}
@@ -0,0 +1,30 @@
+package com.globallogic.futbol.core.metrics;
+
+/**
+ * The phases of the execution of a strategy measured by {@link OperationMetrics}.
+ *
+ * @author facundo.mengoni
+ * @since 0.3.8
+ */
+public enum MetricsPhase {
+    /**
+     * Since the request is submitted to the I/O executor until a thread starts it.
+     */
+    QUEUE_WAIT,
+    /**
+     * Since the request starts until the response is obtained.
+     */
+    REQUEST,
+    /**
+     * The analysis of the response.
+     */
+    ANALYZE,
+    /**
+     * Since the analysis finishes until the result is sent to the receivers.
+     */
+    DELIVERY,
+    /**
+     * Since the strategy is executed until the result is sent, including the connection delay.
+     */
+    TOTAL
+}
@@ -0,0 +1,223 @@
+package com.globallogic.futbol.core.metrics;
+
+import com.globallogic.futbol.core.OperationResult;
+import com.globallogic.futbol.core.interfaces.IMetricsExporter;
+import com.globallogic.futbol.core.operations.Operation;
+import com.globallogic.futbol.core.strategies.OperationStrategy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The metrics of the strategies grouped by the class of the operation and the class of the strategy.
+ * <p>
+ * For each strategy it records the duration of each {@link MetricsPhase} in a {@link Histogram}
+ * and counts the results notified. It is disabled by default, when it is disabled the strategies
+ * don't take any time.
+ *
+ * @author facundo.mengoni
+ * @see #setEnabled(boolean)
+ * @see #dump()
+ * @see #addExporter(IMetricsExporter)
+ * @since 0.3.8
+ */
+public class OperationMetrics {
+    //region Constants
+    private static final double[] PERCENTILES = {50, 90, 99};
+    //endregion
+
+    //region Variables
+    private static volatile boolean sEnabled = false;
+    private static final ConcurrentHashMap<Class, ConcurrentHashMap<Class, StrategyMetrics>> sMetrics = new ConcurrentHashMap<>();
+    private static final CopyOnWriteArrayList<IMetricsExporter> sExporters = new CopyOnWriteArrayList<>();
+    //endregion
+
+    //region Constructors implementation
+    private OperationMetrics() {
+    }
+    //endregion
+
+    //region Getters & Setters implementation
+
+    /**
+     * @return true if the strategies are recording their metrics.
+     * @see #setEnabled(boolean)
+     */
+    public static boolean isEnabled() {
+        return sEnabled;
+    }
+
+    /**
+     * Defines if the strategies must record their metrics. The metrics recorded are kept when it is disabled.
+     *
+     * @see #reset()
+     */
+    public static void setEnabled(boolean anEnabled) {
+        sEnabled = anEnabled;
+    }
+
+    /**
+     * @return The metrics of all the strategies sorted by the name of the operation and the strategy.
+     */
+    public static List<StrategyMetrics> getMetrics() {
+        ArrayList<StrategyMetrics> metrics = new ArrayList<>();
+        for (ConcurrentHashMap<Class, StrategyMetrics> strategies : sMetrics.values())
+            metrics.addAll(strategies.values());
+        Collections.sort(metrics, new Comparator<StrategyMetrics>() {
+            @Override
+            public int compare(StrategyMetrics lhs, StrategyMetrics rhs) {
+                int result = lhs.getOperationName().compareTo(rhs.getOperationName());
+                return result != 0 ? result : lhs.getStrategyName().compareTo(rhs.getStrategyName());
+            }
+        });
+        return metrics;
+    }
+
+    /**
+     * @param anOperationClass The class of the operation.
+     * @param aStrategyClass   The class of the strategy.
+     * @return The metrics of the strategy in the operation or null if it was never recorded.
+     */
+    public static StrategyMetrics getMetrics(Class anOperationClass, Class aStrategyClass) {
+        ConcurrentHashMap<Class, StrategyMetrics> strategies = sMetrics.get(anOperationClass);
+        return strategies != null ? strategies.get(aStrategyClass) : null;
+    }
+    //endregion
+
+    //region Record implementation
+
+    /**
+     * Record the duration of a phase. It does nothing if the metrics are disabled.
+     *
+     * @param anOperation The operation of the strategy.
+     * @param aStrategy   The strategy measured.
+     * @param aPhase      The phase measured.
+     * @param aDuration   The duration in nanoseconds.
+     */
+    public static void record(Operation anOperation, OperationStrategy aStrategy, MetricsPhase aPhase, long aDuration) {
+        if (sEnabled)
+            getOrCreate(anOperation.getClass(), aStrategy.getClass()).record(aPhase, aDuration);
+    }
+
+    /**
+     * Count a result notified by a strategy. It does nothing if the metrics are disabled.
+     *
+     * @param anOperation The operation of the strategy.
+     * @param aStrategy   The strategy that notified the result.
+     * @param aResult     The result notified.
+     */
+    public static void count(Operation anOperation, OperationStrategy aStrategy, OperationResult aResult) {
+        if (sEnabled)
+            getOrCreate(anOperation.getClass(), aStrategy.getClass()).count(aResult);
+    }
+
+    /**
+     * Count a request repeated by a strategy. It does nothing if the metrics are disabled.
+     *
+     * @param anOperation The operation of the strategy.
+     * @param aStrategy   The strategy that repeated the request.
+     */
+    public static void countRetry(Operation anOperation, OperationStrategy aStrategy) {
+        if (sEnabled)
+            getOrCreate(anOperation.getClass(), aStrategy.getClass()).countRetry();
+    }
+
+    /**
+     * Clear the values of all the metrics.
+     */
+    public static void reset() {
+        for (StrategyMetrics metrics : getMetrics())
+            metrics.reset();
+    }
+
+    private static StrategyMetrics getOrCreate(Class anOperationClass, Class aStrategyClass) {
+        ConcurrentHashMap<Class, StrategyMetrics> strategies = sMetrics.get(anOperationClass);
+        if (strategies == null) {
+            ConcurrentHashMap<Class, StrategyMetrics> created = new ConcurrentHashMap<>();
+            strategies = sMetrics.putIfAbsent(anOperationClass, created);
+            if (strategies == null)
+                strategies = created;
+        }
+        StrategyMetrics metrics = strategies.get(aStrategyClass);
+        if (metrics == null) {
+            StrategyMetrics created = new StrategyMetrics(anOperationClass, aStrategyClass);
+            metrics = strategies.putIfAbsent(aStrategyClass, created);
+            if (metrics == null)
+                metrics = created;
+        }
+        return metrics;
+    }
+    //endregion
+
+    //region Export implementation
+
+    /**
+     * @param anExporter An exporter to call in {@link #export()}.
+     */
+    public static void addExporter(IMetricsExporter anExporter) {
+        sExporters.addIfAbsent(anExporter);
+    }
+
+    public static void removeExporter(IMetricsExporter anExporter) {
+        sExporters.remove(anExporter);
+    }
+
+    /**
+     * Send the metrics to all the exporters added, in the current thread.
+     *
+     * @see #addExporter(IMetricsExporter)
+     */
+    public static void export() {
+        if (sExporters.isEmpty())
+            return;
+        List<StrategyMetrics> metrics = Collections.unmodifiableList(getMetrics());
+        for (IMetricsExporter exporter : sExporters)
+            exporter.export(metrics);
+    }
+
+    /**
+     * @return A readable text with the metrics of all the strategies, to show it or log it inside the application.
+     * The durations are in milliseconds.
+     */
+    public static String dump() {
+        return dump(getMetrics());
+    }
+
+    static String dump(List<StrategyMetrics> aMetrics) {
+        StringBuilder builder = new StringBuilder();
+        for (StrategyMetrics metrics : aMetrics) {
+            builder.append(metrics.getOperationName()).append(" / ").append(metrics.getStrategyName()).append('\n');
+            builder.append("  results:");
+            for (OperationResult result : OperationResult.values()) {
+                long count = metrics.getCount(result);
+                if (count > 0)
+                    builder.append(' ').append(result.name).append('=').append(count);
+            }
+            if (metrics.getRetries() > 0)
+                builder.append(" retries=").append(metrics.getRetries());
+            builder.append('\n');
+            for (MetricsPhase phase : MetricsPhase.values()) {
+                Histogram histogram = metrics.getHistogram(phase);
+                if (histogram.getCount() == 0)
+                    continue;
+                builder.append("  ").append(phase.name().toLowerCase(Locale.US))
+                        .append(": count=").append(histogram.getCount())
+                        .append(" mean=").append(toMillis(histogram.getMean()));
+                for (double percentile : PERCENTILES)
+                    builder.append(" p").append((int) percentile).append('=').append(toMillis(histogram.getPercentile(percentile)));
+                builder.append(" max=").append(toMillis(histogram.getMax())).append('\n');
+            }
+        }
+        return builder.toString();
+    }
+
+    private static String toMillis(long aNanos) {
+        return String.format(Locale.US, "%.3f", aNanos / 1e6);
+    }
+    //endregion
+}
@@ -0,0 +1,89 @@
+package com.globallogic.futbol.core.metrics;
+
+import com.globallogic.futbol.core.OperationResult;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The metrics of the strategies of one class executed by the operations of one class:
+ * a {@link Histogram} for each {@link MetricsPhase}, the number of results of each {@link OperationResult}
+ * and the number of retries.
+ *
+ * @author facundo.mengoni
+ * @see OperationMetrics#getMetrics()
+ * @since 0.3.8
+ */
+public class StrategyMetrics {
+    //region Variables
+    private final String mOperationName;
+    private final String mStrategyName;
+    private final Histogram[] mHistograms = new Histogram[MetricsPhase.values().length];
+    private final AtomicLongArray mResults = new AtomicLongArray(OperationResult.values().length);
+    private final AtomicLong mRetries = new AtomicLong();
+    //endregion
+
+    //region Constructors implementation
+    StrategyMetrics(Class anOperationClass, Class aStrategyClass) {
+        mOperationName = anOperationClass.getName();
+        mStrategyName = aStrategyClass.getName();
+        for (int i = 0; i < mHistograms.length; i++)
+            mHistograms[i] = new Histogram();
+    }
+    //endregion
+
+    //region Getters & Setters implementation
+    public String getOperationName() {
+        return mOperationName;
+    }
+
+    public String getStrategyName() {
+        return mStrategyName;
+    }
+
+    /**
+     * @param aPhase The phase measured.
+     * @return The durations of the phase in nanoseconds.
+     */
+    public Histogram getHistogram(MetricsPhase aPhase) {
+        return mHistograms[aPhase.ordinal()];
+    }
+
+    /**
+     * @param aResult The result notified by the strategies.
+     * @return The number of times that the result was notified.
+     */
+    public long getCount(OperationResult aResult) {
+        return mResults.get(aResult.ordinal());
+    }
+
+    /**
+     * @return The number of requests repeated by a {@link com.globallogic.futbol.core.policies.RetryPolicy}.
+     */
+    public long getRetries() {
+        return mRetries.get();
+    }
+    //endregion
+
+    //region StrategyMetrics implementation
+    void record(MetricsPhase aPhase, long aDuration) {
+        mHistograms[aPhase.ordinal()].record(aDuration);
+    }
+
+    void count(OperationResult aResult) {
+        mResults.incrementAndGet(aResult.ordinal());
+    }
+
+    void countRetry() {
+        mRetries.incrementAndGet();
+    }
+
+    void reset() {
+        for (Histogram histogram : mHistograms)
+            histogram.reset();
+        for (int i = 0; i < mResults.length(); i++)
+            mResults.set(i, 0);
+        mRetries.set(0);
+    }
+    //endregion
+}
@@ -5,13 +5,25 @@ import android.os.Bundle;
 
 import com.globallogic.futbol.core.LocalBroadcastManager;
 import com.globallogic.futbol.core.OperationApp;
+import com.globallogic.futbol.core.OperationEvent;
+import com.globallogic.futbol.core.OperationEventBus;
 import com.globallogic.futbol.core.OperationResult;
+import com.globallogic.futbol.core.ResultFreshness;
 import com.globallogic.futbol.core.broadcasts.OperationBroadcastReceiverHelper;
+import com.globallogic.futbol.core.executors.StrategyExecutor;
 import com.globallogic.futbol.core.interfaces.IOperation;
 import com.globallogic.futbol.core.strategies.OperationStrategy;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -24,18 +36,34 @@ import java.util.logging.Logger;
  */
 public abstract class Operation implements IOperation, Serializable {
     //region Constants
+    private static final long serialVersionUID = 1L;
     private static final String SAVE_INSTANCE_STRATEGIES_IN_EXECUTION = "SAVE_INSTANCE_STRATEGIES_IN_EXECUTION";
+    private static final AtomicLongFieldUpdater<Operation> STRATEGIES_IN_EXECUTION = AtomicLongFieldUpdater.newUpdater(Operation.class, "mStrategiesInExecution");
+    private static final AtomicLongFieldUpdater<Operation> LAST_GENERATION = AtomicLongFieldUpdater.newUpdater(Operation.class, "mLastGeneration");
     //endregion
 
     //region Variables
     public static boolean sAllMultiProcess = false;
-    public Long mConnectionDelay = 0L;
+    public static boolean sAllDirectPipeline = false;
+    public static boolean sAllTypedDispatch = false;
+    public long mConnectionDelay = 0L;
     //region Logger
     public transient Logger mLogger;
     protected boolean mMultiProcess = false;
+    protected boolean mDirectPipeline = false;
+    protected boolean mTypedDispatch = false;
+    protected boolean mStaleWhileRevalidate = false;
+    protected boolean mRacing = false;
     private String id;
     //endregion
-    private Long mStrategiesInExecution = 0L;
+    private volatile long mStrategiesInExecution = 0L;
+    private volatile long mLastGeneration = 0L;
+    private transient ConcurrentHashMap<Long, OperationExecution> mExecutions = new ConcurrentHashMap<>();
+    private transient StrategyExecutor mExecutor;
+    private transient OperationBroadcastReceiverHelper.ActionTable mActionTable;
+    private transient boolean mFreshDelivered;
+    private transient boolean mStaleDelivered;
+    private transient Object mStaleResult;
 
     {
         mLogger = Logger.getLogger(getClass().getSimpleName());
@@ -72,7 +100,7 @@ public abstract class Operation implements IOperation, Serializable {
      * @see #setId(String)
      */
     protected Operation(String id) {
-        this.id = id;
+        setId(id);
     }
     //endregion
 
@@ -95,6 +123,18 @@ public abstract class Operation implements IOperation, Serializable {
         if (id == null)
             id = "";
         this.id = id;
+        this.mActionTable = OperationBroadcastReceiverHelper.getActionTable(getClass(), id);
+    }
+
+    /**
+     * @return The actions used to send the broadcasts of this operation.
+     * It is created when the id is defined, so the broadcasts are sent without formatting any action.
+     * @see OperationBroadcastReceiverHelper#getActionTable(Class, String)
+     */
+    public OperationBroadcastReceiverHelper.ActionTable getActionTable() {
+        if (mActionTable == null)
+            mActionTable = OperationBroadcastReceiverHelper.getActionTable(getClass(), id);
+        return mActionTable;
     }
 
     /**
@@ -104,7 +144,7 @@ public abstract class Operation implements IOperation, Serializable {
      * @see OperationStrategy#simulateWaiting()
      */
     protected void setConnectionDelay(int duration) {
-        this.mConnectionDelay = (long) duration;
+        this.mConnectionDelay = duration;
     }
 
     /**
@@ -116,6 +156,111 @@ public abstract class Operation implements IOperation, Serializable {
     protected void setConnectionDelay(long duration) {
         this.mConnectionDelay = duration;
     }
+
+    /**
+     * @return The executor where the strategies of this operation do their work.
+     * If this operation doesn't define one it returns {@link StrategyExecutor#getDefault()}.
+     * @see #setExecutor(StrategyExecutor)
+     */
+    public StrategyExecutor getExecutor() {
+        return mExecutor != null ? mExecutor : StrategyExecutor.getDefault();
+    }
+
+    /**
+     * Defines an executor only for the strategies of this operation.
+     *
+     * @param anExecutor The executor to use or null to use {@link StrategyExecutor#getDefault()}.
+     * @see #getExecutor()
+     */
+    public void setExecutor(StrategyExecutor anExecutor) {
+        this.mExecutor = anExecutor;
+    }
+
+    /**
+     * @return true if the strategies analyze the response in the same thread where it was obtained.
+     * @see #setDirectPipeline(boolean)
+     */
+    public boolean isDirectPipeline() {
+        return sAllDirectPipeline || mDirectPipeline;
+    }
+
+    /**
+     * Defines if the strategies must analyze the response in the same thread where it was obtained
+     * and notify the result from there, without going through the thread UI in the middle.
+     * The receivers are still notified in the thread UI.
+     *
+     * @see OperationStrategy#analyzeInBackground(java.util.concurrent.Callable)
+     */
+    public void setDirectPipeline(boolean aDirectPipeline) {
+        this.mDirectPipeline = aDirectPipeline;
+    }
+
+    /**
+     * @return true if the results are dispatched through the {@link OperationEventBus} instead of broadcasts.
+     * It is always false in multi process mode.
+     * @see #setTypedDispatch(boolean)
+     */
+    public boolean isTypedDispatch() {
+        return (sAllTypedDispatch || mTypedDispatch) && !(sAllMultiProcess || mMultiProcess);
+    }
+
+    /**
+     * Defines if the results must be dispatched through the {@link OperationEventBus}, so the receivers
+     * obtain the result of the analyzers by reference without building any {@link Intent}.
+     * The operations in multi process mode always use broadcasts.
+     *
+     * @see com.globallogic.futbol.core.broadcasts.OperationEventReceiver
+     */
+    public void setTypedDispatch(boolean aTypedDispatch) {
+        this.mTypedDispatch = aTypedDispatch;
+    }
+
+    /**
+     * @return true if the local results are delivered as stale while the network ones are obtained.
+     * @see #setStaleWhileRevalidate(boolean)
+     */
+    public boolean isStaleWhileRevalidate() {
+        return mStaleWhileRevalidate;
+    }
+
+    /**
+     * Defines if the operation works in stale-while-revalidate mode.
+     * <p>
+     * The results of the local strategies (like a database or a cached http response) are delivered
+     * immediately as {@link ResultFreshness#STALE} and the network strategies always do the request.
+     * The network result is delivered as {@link ResultFreshness#FRESH} or, if it is equal to the stale one,
+     * as {@link ResultFreshness#FRESH_UNCHANGED}. A stale result that arrives after the fresh one is discarded.
+     * The results are compared with {@link Object#equals(Object)}, so it must compare everything that the
+     * receivers show, in other case a modified result is delivered as unchanged.
+     *
+     * @see OperationStrategy#isLocalSource()
+     * @see ResultFreshness#fromIntent(Intent)
+     */
+    public void setStaleWhileRevalidate(boolean aStaleWhileRevalidate) {
+        this.mStaleWhileRevalidate = aStaleWhileRevalidate;
+    }
+
+    /**
+     * @return true if the strategies of each execution race and only the first successful result is delivered.
+     * @see #setRacing(boolean)
+     */
+    public boolean isRacing() {
+        return mRacing;
+    }
+
+    /**
+     * Defines if the strategies of each execution must race, like a cache and some mirrors of the same service.
+     * <p>
+     * The first successful result is delivered and the rest of the strategies are cancelled with
+     * {@link OperationStrategy#cancel()}. The errors are discarded while another strategy can succeed,
+     * so if the fastest strategy fails the operation falls back to the next one. Only if all of them fail
+     * the last error is delivered.
+     *
+     * @see #race(OperationStrategy, boolean)
+     */
+    public void setRacing(boolean aRacing) {
+        this.mRacing = aRacing;
+    }
     //endregion
 
     //region IOperation implementation
@@ -124,13 +269,26 @@ public abstract class Operation implements IOperation, Serializable {
      * {@inheritDoc}<br>
      * The {@code arg} received will be passed to {@code getStrategies} to use there.
      *
-     * @see #doRequest(Object...)
+     * @see #doRequest(ArrayList)
      * @see #getStrategies(Object...)
      */
     @Override
     public boolean performOperation(Object... arg) {
         mLogger.info("Performing operation");
-        return doRequest(arg);
+        return doRequest(getStrategies(arg));
+    }
+
+    /**
+     * Like {@link #performOperation(Object...)} but it executes strategies created before instead of
+     * calling {@link #getStrategies(Object...)}, for example the ones restored by the
+     * {@link com.globallogic.futbol.core.outbox.Outbox}. The strategies must belong to this operation.
+     *
+     * @param aStrategies The strategies to execute.
+     * @return true if some strategy was executed.
+     */
+    public boolean performStrategies(ArrayList<OperationStrategy> aStrategies) {
+        mLogger.info("Performing strategies");
+        return doRequest(aStrategies);
     }
 
     /**
@@ -139,17 +297,10 @@ public abstract class Operation implements IOperation, Serializable {
     @Override
     public void sendBroadcastForStart() {
         mLogger.info("Sending broadcast for start");
-        Intent intent = new Intent();
-        intent.putExtra(OperationResult.EXTRA_OPERATION_RESULT, OperationResult.START.name);
-
-        String actionWithId = OperationBroadcastReceiverHelper.getActionForStart(this);
-        intent.setAction(actionWithId);
-        sendBroadcast(intent);
-
-        String actionWithOutID = OperationBroadcastReceiverHelper.getActionForStart(getClass());
-        if (!actionWithId.equals(actionWithOutID)) {
-            intent.setAction(actionWithOutID);
-            sendBroadcast(intent);
+        if (isTypedDispatch()) {
+            sendEvent(OperationResult.START, null);
+        } else {
+            sendBroadcast(OperationResult.START, new Intent());
         }
     }
 
@@ -159,49 +310,160 @@ public abstract class Operation implements IOperation, Serializable {
     @Override
     public void sendBroadcastForFinish() {
         mLogger.info("Sending broadcast for finished");
-        Intent intent = new Intent();
-        intent.putExtra(OperationResult.EXTRA_OPERATION_RESULT, OperationResult.FINISH.name);
+        if (isTypedDispatch()) {
+            sendEvent(OperationResult.FINISH, null);
+        } else {
+            sendBroadcast(OperationResult.FINISH, new Intent());
+        }
+    }
+    //endregion
 
-        String actionWithId = OperationBroadcastReceiverHelper.getActionForFinish(this);
-        intent.setAction(actionWithId);
-        sendBroadcast(intent);
+    //region Cancellation implementation
 
-        String actionWithOutID = OperationBroadcastReceiverHelper.getActionForFinish(getClass());
-        if (!actionWithId.equals(actionWithOutID)) {
-            intent.setAction(actionWithOutID);
-            sendBroadcast(intent);
+    /**
+     * Cancel all the strategies in execution and notify {@link OperationResult#CANCELLED} and then
+     * {@link OperationResult#FINISH}. The connection delays and the analysis that are waiting for a
+     * thread are dropped, the requests in progress are cancelled and the results that arrive later are discarded.
+     *
+     * @return true if some strategy was cancelled, false if the operation wasn't working.
+     * @see OperationStrategy#cancel()
+     * @see #cancel(long)
+     */
+    public boolean cancel() {
+        return cancel(mExecutions.values());
+    }
+
+    /**
+     * Cancel the strategies of one execution like {@link #cancel()}. {@link OperationResult#FINISH}
+     * is notified only if there isn't other execution working.
+     *
+     * @param aGeneration The generation of the execution.
+     * @return true if some strategy was cancelled, false if the execution already finished.
+     * @see #getLastGeneration()
+     */
+    public boolean cancel(long aGeneration) {
+        OperationExecution execution = mExecutions.get(aGeneration);
+        if (execution == null)
+            return false;
+        return cancel(Collections.singletonList(execution));
+    }
+
+    private boolean cancel(Collection<OperationExecution> anExecutions) {
+        boolean someCancelled = false;
+        boolean finished = false;
+        for (OperationExecution execution : new ArrayList<>(anExecutions)) {
+            mExecutions.remove(execution.getGeneration());
+            for (OperationStrategy strategy : execution.getStrategies()) {
+                if (!strategy.detachExecution(execution))
+                    continue;
+                mLogger.info("Cancelling strategy of the execution " + execution.getGeneration());
+                strategy.cancel();
+                execution.onStrategyFinish();
+                someCancelled = true;
+                finished = STRATEGIES_IN_EXECUTION.decrementAndGet(this) == 0;
+            }
+        }
+        if (!someCancelled)
+            return false;
+        sendBroadcastForCancelled();
+        if (finished)
+            sendBroadcastForFinish();
+        return true;
+    }
+
+    protected void sendBroadcastForCancelled() {
+        mLogger.info("Sending broadcast for cancelled");
+        if (isTypedDispatch()) {
+            sendEvent(OperationResult.CANCELLED, null);
+        } else {
+            sendBroadcast(OperationResult.CANCELLED, new Intent());
         }
     }
+
     //endregion
 
     //region Operation implementation
 
     /**
      * Notify that the operation starts and execute all the strategies defined.
+     * <p>
+     * Each call creates a new {@link OperationExecution}. The start is notified only when the operation
+     * wasn't working and the finish when the last strategy of all the executions finishes, so the
+     * executions can overlap without any lock.
      *
      * @see #getStrategies(Object...)
      * @see #sendBroadcastForStart()
      * @see OperationStrategy
      */
-    private boolean doRequest(Object... arg) {
+    private boolean doRequest(ArrayList<OperationStrategy> strategies) {
         mLogger.info("Doing request");
-        ArrayList<OperationStrategy> strategies = getStrategies(arg);
-        mStrategiesInExecution += strategies.size();
+        checkDependencies(strategies);
+        OperationExecution execution = new OperationExecution(LAST_GENERATION.incrementAndGet(this), strategies);
         Boolean someRequestExecuted = strategies.size() > 0;
-        if (mStrategiesInExecution == strategies.size()) {
+        if (someRequestExecuted) {
+            mExecutions.put(execution.getGeneration(), execution);
+            for (OperationStrategy operationStrategy : strategies)
+                operationStrategy.setExecution(execution);
+        }
+        boolean isFirstExecution = STRATEGIES_IN_EXECUTION.getAndAdd(this, strategies.size()) == 0;
+        if (isFirstExecution) {
+            resetRevalidation();
             sendBroadcastForStart();
         }
         if (someRequestExecuted) {
-            for (OperationStrategy operationStrategy : strategies) {
+            for (OperationStrategy operationStrategy : strategies)
                 operationStrategy.setConnectionDelay(mConnectionDelay + operationStrategy.getConnectionDelay());
-                operationStrategy.execute();
+            for (OperationStrategy operationStrategy : strategies) {
+                if (operationStrategy.getDependencies().isEmpty())
+                    operationStrategy.execute();
             }
-        } else {
+        } else if (isFirstExecution) {
             sendBroadcastForFinish();
         }
         return someRequestExecuted;
     }
 
+    /**
+     * Check that the dependencies of the strategies belong to the same list and that they don't have cycles.
+     *
+     * @throws IllegalStateException If the dependencies are not valid.
+     * @see OperationStrategy#dependsOn(OperationStrategy...)
+     */
+    private static void checkDependencies(ArrayList<OperationStrategy> aStrategies) {
+        IdentityHashMap<OperationStrategy, Boolean> visited = new IdentityHashMap<>();
+        for (OperationStrategy strategy : aStrategies)
+            checkDependencies(aStrategies, strategy, visited);
+    }
+
+    /**
+     * @param aVisited The strategies visited, with false while their dependencies are being checked.
+     */
+    private static void checkDependencies(ArrayList<OperationStrategy> aStrategies, OperationStrategy aStrategy, IdentityHashMap<OperationStrategy, Boolean> aVisited) {
+        Boolean checked = aVisited.get(aStrategy);
+        if (checked != null) {
+            if (!checked)
+                throw new IllegalStateException("The dependencies of " + aStrategy.getClass().getSimpleName() + " have a cycle");
+            return;
+        }
+        aVisited.put(aStrategy, false);
+        @SuppressWarnings("unchecked")
+        List<OperationStrategy> dependencies = aStrategy.getDependencies();
+        for (OperationStrategy dependency : dependencies) {
+            if (!containsStrategy(aStrategies, dependency))
+                throw new IllegalStateException("The dependency " + dependency.getClass().getSimpleName() + " isn't one of the strategies of the operation");
+            checkDependencies(aStrategies, dependency, aVisited);
+        }
+        aVisited.put(aStrategy, true);
+    }
+
+    private static boolean containsStrategy(ArrayList<OperationStrategy> aStrategies, OperationStrategy aStrategy) {
+        for (OperationStrategy strategy : aStrategies) {
+            if (strategy == aStrategy)
+                return true;
+        }
+        return false;
+    }
+
     /**
      * Returns the list of strategies to do in this operation.
      *
@@ -210,9 +472,20 @@ public abstract class Operation implements IOperation, Serializable {
      */
     protected abstract ArrayList<OperationStrategy> getStrategies(Object... arg);
 
+    /**
+     * Called by the strategies when they finish. Each strategy is counted once, the strategies
+     * cancelled or that weren't executed by this operation are ignored.
+     *
+     * @param anOperationStrategy The strategy finished.
+     * @see OperationStrategy#getExecution()
+     */
     public void onStrategyFinish(OperationStrategy anOperationStrategy) {
-        mStrategiesInExecution -= 1;
-        if (mStrategiesInExecution == 0)
+        OperationExecution execution = anOperationStrategy.getExecution();
+        if (execution == null || !anOperationStrategy.detachExecution(execution))
+            return;
+        if (execution.onStrategyFinish())
+            mExecutions.remove(execution.getGeneration());
+        if (STRATEGIES_IN_EXECUTION.decrementAndGet(this) == 0)
             sendBroadcastForFinish();
     }
 
@@ -220,6 +493,113 @@ public abstract class Operation implements IOperation, Serializable {
         return mStrategiesInExecution > 0;
     }
 
+    /**
+     * @return The generation of the last execution started or 0 if it was never executed.
+     * @see OperationExecution#getGeneration()
+     */
+    public long getLastGeneration() {
+        return mLastGeneration;
+    }
+
+    /**
+     * Send the result to the receivers of this operation registered with its id and without it.
+     *
+     * @param aResult The result to notify.
+     * @param intent  The intent with the extras to send.
+     * @see #getActionTable()
+     */
+    public void sendBroadcast(OperationResult aResult, Intent intent) {
+        intent.putExtra(OperationResult.EXTRA_OPERATION_RESULT, aResult.name);
+        OperationBroadcastReceiverHelper.ActionTable actionTable = getActionTable();
+
+        intent.setAction(actionTable.getActionWithId(aResult));
+        sendBroadcast(intent);
+
+        if (actionTable.hasId()) {
+            intent.setAction(actionTable.getActionWithoutId(aResult));
+            sendBroadcast(intent);
+        }
+    }
+
+    /**
+     * Dispatch the result through the {@link OperationEventBus}.
+     *
+     * @param aResult   The result to notify.
+     * @param aStrategy The strategy that obtained the result or null if it is a result of the operation.
+     * @see #isTypedDispatch()
+     */
+    public void sendEvent(OperationResult aResult, OperationStrategy aStrategy) {
+        sendEvent(aResult, aStrategy, ResultFreshness.FRESH);
+    }
+
+    /**
+     * Dispatch the result through the {@link OperationEventBus}.
+     *
+     * @param aResult    The result to notify.
+     * @param aStrategy  The strategy that obtained the result or null if it is a result of the operation.
+     * @param aFreshness The freshness of the result.
+     * @see #isStaleWhileRevalidate()
+     */
+    public void sendEvent(OperationResult aResult, OperationStrategy aStrategy, ResultFreshness aFreshness) {
+        OperationEventBus.getInstance().post(new OperationEvent(this, aResult, aStrategy, aFreshness));
+    }
+
+    /**
+     * Decide the freshness of a successful result in stale-while-revalidate mode.
+     * The strategies call it and send the result holding the lock of the operation,
+     * so the receivers never obtain a stale result after the fresh one.
+     *
+     * @param aStale  True if the result was obtained from a local source.
+     * @param aResult The object obtained by the analyzer, it is compared with the stale one. Can be null.
+     * @return The freshness of the result or null if it must be discarded.
+     * @see #setStaleWhileRevalidate(boolean)
+     */
+    public synchronized ResultFreshness revalidate(boolean aStale, Object aResult) {
+        if (aStale) {
+            if (mFreshDelivered)
+                return null;
+            mStaleDelivered = true;
+            mStaleResult = aResult;
+            return ResultFreshness.STALE;
+        }
+        mFreshDelivered = true;
+        if (mStaleDelivered && aResult != null && aResult.equals(mStaleResult))
+            return ResultFreshness.FRESH_UNCHANGED;
+        return ResultFreshness.FRESH;
+    }
+
+    /**
+     * Decide if the result of a strategy must be delivered in racing mode. If it is the first successful
+     * result the other strategies of its execution are cancelled.
+     *
+     * @param aStrategy The strategy that obtained the result.
+     * @param aResult   true if the result is ok.
+     * @return true if the result must be delivered, false if it must be discarded.
+     * @see #setRacing(boolean)
+     */
+    public boolean race(OperationStrategy aStrategy, boolean aResult) {
+        OperationExecution execution = aStrategy.getExecution();
+        if (execution == null)
+            return true;
+        if (!aResult)
+            return execution.loseRace();
+        if (!execution.winRace())
+            return false;
+        for (OperationStrategy strategy : execution.getStrategies()) {
+            if (strategy != aStrategy && strategy.getExecution() == execution) {
+                mLogger.info("Cancelling strategy that lost the race");
+                strategy.cancel();
+            }
+        }
+        return true;
+    }
+
+    private synchronized void resetRevalidation() {
+        mFreshDelivered = false;
+        mStaleDelivered = false;
+        mStaleResult = null;
+    }
+
     public void sendBroadcast(Intent intent) {
         if (sAllMultiProcess || mMultiProcess) {
             OperationApp.getInstance().sendBroadcast(intent);
@@ -261,4 +641,15 @@ public abstract class Operation implements IOperation, Serializable {
         mStrategiesInExecution = savedInstanceState.getLong(SAVE_INSTANCE_STRATEGIES_IN_EXECUTION);
     }
     //endregion
+
+    //region Serializable implementation
+    private void readObject(ObjectInputStream anInput) throws IOException, ClassNotFoundException {
+        anInput.defaultReadObject();
+        mLogger = Logger.getLogger(getClass().getSimpleName());
+        mLogger.setLevel(Level.OFF);
+        mExecutions = new ConcurrentHashMap<>();
+        // The strategies in execution aren't restored, onRestoreSavedInstance restores the counter if it is needed
+        mStrategiesInExecution = 0L;
+    }
+    //endregion
 }
\ No newline at end of file
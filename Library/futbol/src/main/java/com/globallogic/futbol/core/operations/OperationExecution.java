@@ -0,0 +1,86 @@
+package com.globallogic.futbol.core.operations;
+
+import com.globallogic.futbol.core.strategies.OperationStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One execution of an {@link Operation}: the strategies obtained in one call to
+ * {@link Operation#performOperation(Object...)}. The executions of the same operation that overlap
+ * are tracked separately, each one with its own generation.
+ *
+ * @author facundo.mengoni
+ * @see OperationStrategy#getExecution()
+ * @since 0.3.8
+ */
+public final class OperationExecution {
+    //region Variables
+    private final long mGeneration;
+    private final ArrayList<OperationStrategy> mStrategies;
+    private final AtomicInteger mPendingStrategies;
+    private final AtomicInteger mPendingRacers;
+    private final AtomicBoolean mRaceWon = new AtomicBoolean();
+    //endregion
+
+    //region Constructors implementation
+    OperationExecution(long aGeneration, ArrayList<OperationStrategy> aStrategies) {
+        mGeneration = aGeneration;
+        mStrategies = new ArrayList<>(aStrategies);
+        mPendingStrategies = new AtomicInteger(aStrategies.size());
+        mPendingRacers = new AtomicInteger(aStrategies.size());
+    }
+    //endregion
+
+    //region Getters & Setters implementation
+
+    /**
+     * @return The number of the execution in its operation. The first one is 1.
+     */
+    public long getGeneration() {
+        return mGeneration;
+    }
+
+    /**
+     * @return The number of strategies of this execution that didn't finish and weren't cancelled.
+     */
+    public int getPendingStrategies() {
+        return mPendingStrategies.get();
+    }
+
+    public boolean isFinished() {
+        return mPendingStrategies.get() == 0;
+    }
+
+    List<OperationStrategy> getStrategies() {
+        return mStrategies;
+    }
+    //endregion
+
+    //region OperationExecution implementation
+
+    /**
+     * @return true if it was the last strategy pending.
+     */
+    boolean onStrategyFinish() {
+        return mPendingStrategies.decrementAndGet() == 0;
+    }
+
+    /**
+     * @return true if it is the first successful result of the execution in racing mode.
+     */
+    boolean winRace() {
+        mPendingRacers.decrementAndGet();
+        return mRaceWon.compareAndSet(false, true);
+    }
+
+    /**
+     * @return true if it is the last result of the execution in racing mode and there isn't a successful one.
+     */
+    boolean loseRace() {
+        return mPendingRacers.decrementAndGet() == 0 && !mRaceWon.get();
+    }
+    //endregion
+}
@@ -11,6 +11,9 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.MalformedJsonException;
 
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -21,7 +24,10 @@ import java.lang.reflect.Type;
 import java.net.MalformedURLException;
 import java.net.SocketException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeoutException;
 
 /**
@@ -31,6 +37,11 @@ import java.util.concurrent.TimeoutException;
  * @since 0.1.0
  */
 public class OperationHelper {
+    //region Variables
+    private static final String NO_DATE_FORMAT = "";
+    private static final ConcurrentHashMap<String, Gson> sGsonCache = new ConcurrentHashMap<>();
+    private static final LinkedHashMap<Type, TypeAdapter<?>> sTypeAdapters = new LinkedHashMap<>();
+    //endregion
 
     //region Files helper
     /**
@@ -53,6 +64,61 @@ public class OperationHelper {
     }
     //endregion
 
+    //region Gson helper
+    /**
+     * Obtain the shared {@link Gson} without date format. It is created once and reused in all the parsers.
+     *
+     * @return The {@link Gson} with all the type adapters registered.
+     * @see #registerTypeAdapter(Type, TypeAdapter)
+     */
+    public static Gson getGson() {
+        return getGson(NO_DATE_FORMAT);
+    }
+
+    /**
+     * Obtain the shared {@link Gson} for the date format. It is created once per date format and reused in all the parsers.
+     *
+     * @param dateFormat The format of the date.
+     * @return The {@link Gson} with all the type adapters registered.
+     * @see #registerTypeAdapter(Type, TypeAdapter)
+     */
+    public static Gson getGson(String dateFormat) {
+        if (dateFormat == null)
+            dateFormat = NO_DATE_FORMAT;
+        Gson gson = sGsonCache.get(dateFormat);
+        if (gson == null) {
+            synchronized (sTypeAdapters) {
+                gson = sGsonCache.get(dateFormat);
+                if (gson == null) {
+                    GsonBuilder builder = new GsonBuilder();
+                    if (dateFormat.length() > 0)
+                        builder.setDateFormat(dateFormat);
+                    for (Map.Entry<Type, TypeAdapter<?>> entry : sTypeAdapters.entrySet())
+                        builder.registerTypeAdapter(entry.getKey(), entry.getValue());
+                    gson = builder.create();
+                    sGsonCache.put(dateFormat, gson);
+                }
+            }
+        }
+        return gson;
+    }
+
+    /**
+     * Register a type adapter used by all the parsers of this helper, so the model is parsed without reflection.
+     * It must be registered before parsing, usually when the application is created.
+     * The type adapter must be thread safe and it is used with any date format.
+     *
+     * @param aType        The type of the model.
+     * @param aTypeAdapter The adapter for the model.
+     */
+    public static <T> void registerTypeAdapter(Type aType, TypeAdapter<T> aTypeAdapter) {
+        synchronized (sTypeAdapters) {
+            sTypeAdapters.put(aType, aTypeAdapter);
+            sGsonCache.clear();
+        }
+    }
+    //endregion
+
     //region Parsers helper
     /**
      * String converter to <a href="http://google-gson.googlecode.com/svn/tags/1.1.1/docs/javadocs/com/google/gson/JsonObject.html">JsonObject</a>.
@@ -103,7 +169,7 @@ public class OperationHelper {
      * @see <a href="https://google-gson.googlecode.com/svn/trunk/gson/docs/javadocs/com/google/gson/JsonSyntaxException.html">JsonSyntaxException</a>
      */
     public static <T> T getModelObject(String string, Class<T> aClass) throws JsonSyntaxException {
-        return new Gson().fromJson(string, aClass);
+        return getGson().fromJson(string, aClass);
     }
 
     /**
@@ -118,7 +184,7 @@ public class OperationHelper {
      * @see <a href="https://google-gson.googlecode.com/svn/trunk/gson/docs/javadocs/com/google/gson/JsonSyntaxException.html">JsonSyntaxException</a>
      */
     public static <T> T getModelObject(String string, String dateFormat, Class<T> aClass) throws JsonSyntaxException {
-        return new GsonBuilder().setDateFormat(dateFormat).create().fromJson(string, aClass);
+        return getGson(dateFormat).fromJson(string, aClass);
     }
 
     static class ListOfModel<X> implements ParameterizedType {
@@ -152,7 +218,7 @@ public class OperationHelper {
      * @see <a href="https://google-gson.googlecode.com/svn/trunk/gson/docs/javadocs/com/google/gson/JsonSyntaxException.html">JsonSyntaxException</a>
      */
     public static <T> ArrayList<T> getModelArray(String string, Class<T> aClass) throws JsonSyntaxException {
-        return new Gson().fromJson(string, new ListOfModel<>(aClass));
+        return getGson().fromJson(string, new ListOfModel<>(aClass));
     }
 
     /**
@@ -167,7 +233,69 @@ public class OperationHelper {
      * @see <a href="https://google-gson.googlecode.com/svn/trunk/gson/docs/javadocs/com/google/gson/JsonSyntaxException.html">JsonSyntaxException</a>
      */
     public static <T> ArrayList<T> getModelArray(String string, String dateFormat, Class<T> aClass) throws JsonSyntaxException {
-        return new GsonBuilder().setDateFormat(dateFormat).create().fromJson(string, new ListOfModel<>(aClass));
+        return getGson(dateFormat).fromJson(string, new ListOfModel<>(aClass));
+    }
+    //endregion
+
+    //region Streaming converters helper
+    /**
+     * Reader converter to a object specified.
+     *
+     * @param aReader    The reader positioned at the object.
+     * @param dateFormat The format of the date.
+     * @param aClass     The {@link Class<T>} of the model.
+     * @return The {@link T} parsed.
+     * @throws JsonSyntaxException If the json read is not valid or if is not a valid representation for an object of {@link T}.
+     * @throws IOException         If the reader fails.
+     * @see #getModelObject(String, String, Class)
+     */
+    public static <T> T getModelObject(JsonReader aReader, String dateFormat, Class<T> aClass) throws JsonSyntaxException, IOException {
+        return getGson(dateFormat).fromJson(aReader, aClass);
+    }
+
+    /**
+     * Reader converter to a list of the object specified.
+     * The elements are decoded one by one while they are read, so the whole json is never in memory.
+     *
+     * @param aReader The reader positioned at the array.
+     * @param aClass  The {@link Class<T>} of the model.
+     * @return The list of {@link T} parsed.
+     * @throws JsonSyntaxException If the json read is not valid or if is not a valid representation for a list of {@link T}.
+     * @throws IOException         If the reader fails.
+     * @see #getModelArray(JsonReader, String, Class)
+     */
+    public static <T> ArrayList<T> getModelArray(JsonReader aReader, Class<T> aClass) throws JsonSyntaxException, IOException {
+        return readModelArray(aReader, getGson(), aClass);
+    }
+
+    /**
+     * Reader converter to a list of the object specified.
+     * The elements are decoded one by one while they are read, so the whole json is never in memory.
+     *
+     * @param aReader    The reader positioned at the array.
+     * @param dateFormat The format of the date.
+     * @param aClass     The {@link Class<T>} of the model.
+     * @return The list of {@link T} parsed.
+     * @throws JsonSyntaxException If the json read is not valid or if is not a valid representation for a list of {@link T}.
+     * @throws IOException         If the reader fails.
+     * @see #getModelArray(String, String, Class)
+     */
+    public static <T> ArrayList<T> getModelArray(JsonReader aReader, String dateFormat, Class<T> aClass) throws JsonSyntaxException, IOException {
+        return readModelArray(aReader, getGson(dateFormat), aClass);
+    }
+
+    private static <T> ArrayList<T> readModelArray(JsonReader aReader, Gson aGson, Class<T> aClass) throws JsonSyntaxException, IOException {
+        ArrayList<T> list = new ArrayList<>();
+        TypeAdapter<T> adapter = aGson.getAdapter(aClass);
+        try {
+            aReader.beginArray();
+            while (aReader.hasNext())
+                list.add(adapter.read(aReader));
+            aReader.endArray();
+        } catch (MalformedJsonException | IllegalStateException e) {
+            throw new JsonSyntaxException(e);
+        }
+        return list;
     }
     //endregion
 
@@ -0,0 +1,484 @@
+package com.globallogic.futbol.core.outbox;
+
+import android.content.Context;
+import android.content.Intent;
+
+import com.globallogic.futbol.core.ConnectivityMonitor;
+import com.globallogic.futbol.core.LocalBroadcastManager;
+import com.globallogic.futbol.core.executors.StrategyExecutor;
+import com.globallogic.futbol.core.interfaces.callbacks.IConnectivityCallback;
+import com.globallogic.futbol.core.interfaces.callbacks.IOutboxCallback;
+import com.globallogic.futbol.core.interfaces.callbacks.IStrategyFinishCallback;
+import com.globallogic.futbol.core.strategies.OperationStrategy;
+import com.globallogic.futbol.core.utils.Utils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A durable queue of strategies that can't be executed without connection, usually the ones that write
+ * in the server. Each strategy is serialized to a file, so it survives the restarts of the application,
+ * and it is replayed when the connection is recovered.
+ * <p>
+ * The strategies are stored with a key: a strategy replaces the one stored with the same key, so only
+ * the last write of the same resource is replayed. They are replayed in the order they were stored, in
+ * batches of {@link #setBatchSize(int)} strategies executed in parallel. A strategy that fails is kept until
+ * it was replayed {@link #setMaxAttempts(int)} times. The attempts are kept in the name of its file, so the
+ * strategy is never written again after it was executed.
+ * <p>
+ * The results of the strategies are notified by their operations as usual. When the replay completes
+ * {@link #ACTION_REPLAY_COMPLETED} is sent with the {@link LocalBroadcastManager}.
+ *
+ * @author facundo.mengoni
+ * @see com.globallogic.futbol.core.strategies.HttpOperationStrategy#setOutboxKey(String)
+ * @since 0.3.8
+ */
+public class Outbox implements IConnectivityCallback {
+    //region Constants
+    public static final String ACTION_REPLAY_COMPLETED = "com.globallogic.futbol.core.outbox.REPLAY_COMPLETED";
+    /**
+     * The number of strategies replayed successfully.
+     */
+    public static final String EXTRA_SUCCEEDED = "EXTRA_SUCCEEDED";
+    /**
+     * The number of strategies replayed that failed, including the ones discarded.
+     */
+    public static final String EXTRA_FAILED = "EXTRA_FAILED";
+    /**
+     * The number of strategies that remain stored.
+     */
+    public static final String EXTRA_PENDING = "EXTRA_PENDING";
+    public static final int DEFAULT_BATCH_SIZE = 1;
+    public static final int DEFAULT_MAX_ATTEMPTS = 5;
+    private static final String DIRECTORY = "futbol-outbox";
+    private static final String EXTENSION = ".entry";
+    private static final Object sLock = new Object();
+    private static Outbox sInstance;
+    //endregion
+
+    //region Variables
+    private final Logger mLogger;
+    private final Context mAppContext;
+    private final File mDirectory;
+    private final Object mLock = new Object();
+    private final AtomicLong mLastSequence = new AtomicLong();
+    private int mBatchSize = DEFAULT_BATCH_SIZE;
+    private int mMaxAttempts = DEFAULT_MAX_ATTEMPTS;
+    private StrategyExecutor mExecutor;
+    private boolean mReplaying;
+    private ArrayList<File> mReplayFiles;
+    private int mPendingInBatch;
+    private int mSucceeded;
+    private int mFailed;
+    //endregion
+
+    //region Constructors implementation
+    private Outbox(Context aContext) {
+        mLogger = Logger.getLogger(getClass().getSimpleName());
+        mLogger.setLevel(Level.OFF);
+        mAppContext = aContext;
+        mDirectory = new File(aContext.getFilesDir(), DIRECTORY);
+        long lastSequence = 0;
+        for (File file : listFiles())
+            lastSequence = Math.max(lastSequence, getSequence(file));
+        mLastSequence.set(lastSequence);
+        ConnectivityMonitor.getInstance(aContext).addCallback(this);
+    }
+    //endregion
+
+    //region Getters & Setters implementation
+
+    /**
+     * @return The outbox of the application. It replays the strategies stored each time the connection is recovered.
+     */
+    public static Outbox getInstance(Context aContext) {
+        synchronized (sLock) {
+            if (sInstance == null)
+                sInstance = new Outbox(aContext.getApplicationContext());
+            return sInstance;
+        }
+    }
+
+    public int getBatchSize() {
+        return mBatchSize;
+    }
+
+    /**
+     * @param aBatchSize The number of strategies replayed in parallel. By default 1, so they are replayed in order.
+     */
+    public void setBatchSize(int aBatchSize) {
+        mBatchSize = Math.max(1, aBatchSize);
+    }
+
+    public int getMaxAttempts() {
+        return mMaxAttempts;
+    }
+
+    /**
+     * @param aMaxAttempts The times that a strategy is replayed before discarding it.
+     */
+    public void setMaxAttempts(int aMaxAttempts) {
+        mMaxAttempts = Math.max(1, aMaxAttempts);
+    }
+
+    /**
+     * @return The executor where the files are read and written.
+     */
+    public StrategyExecutor getExecutor() {
+        if (mExecutor == null)
+            return StrategyExecutor.getDefault();
+        return mExecutor;
+    }
+
+    public void setExecutor(StrategyExecutor anExecutor) {
+        mExecutor = anExecutor;
+    }
+
+    /**
+     * @return The number of strategies stored.
+     */
+    public int size() {
+        synchronized (mLock) {
+            return listFiles().size();
+        }
+    }
+
+    public boolean isReplaying() {
+        synchronized (mLock) {
+            return mReplaying;
+        }
+    }
+    //endregion
+
+    //region Outbox implementation
+
+    /**
+     * Store a strategy to replay it later. It replaces the strategy stored with the same key, even if it is
+     * being replayed. The strategy and its operation must be serializable.
+     *
+     * @param aKey      The key of the resource written by the strategy.
+     * @param aStrategy The strategy to store.
+     * @throws IOException If the strategy can't be serialized or written.
+     */
+    public void add(String aKey, OperationStrategy aStrategy) throws IOException {
+        add(aKey, aStrategy, mLastSequence.incrementAndGet());
+    }
+
+    /**
+     * Store a strategy like {@link #add(String, OperationStrategy)} but without blocking the calling thread:
+     * the file is written in the I/O executor. The order is decided when it is called, so a strategy
+     * added later with the same key replaces this one even if its file is written before.
+     *
+     * @param aKey      The key of the resource written by the strategy.
+     * @param aStrategy The strategy to store.
+     * @param aCallback The callback notified from the I/O executor, or from the calling thread if the executor rejects the write.
+     * @see #getExecutor()
+     */
+    public void add(final String aKey, final OperationStrategy aStrategy, final IOutboxCallback aCallback) {
+        final long sequence = mLastSequence.incrementAndGet();
+        try {
+            getExecutor().getIoExecutor().execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        add(aKey, aStrategy, sequence);
+                    } catch (IOException e) {
+                        aCallback.onStoreFailed(aStrategy, e);
+                        return;
+                    }
+                    aCallback.onStored(aStrategy);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            aCallback.onStoreFailed(aStrategy, new IOException("The write was rejected by the executor", e));
+        }
+    }
+
+    private void add(String aKey, OperationStrategy aStrategy, long aSequence) throws IOException {
+        synchronized (mLock) {
+            if (!mDirectory.exists() && !mDirectory.mkdirs())
+                throw new IOException("The directory of the outbox can't be created");
+            String hash = hash(aKey);
+            ArrayList<File> stored = new ArrayList<>();
+            for (File file : listFiles()) {
+                if (!hash.equals(getHash(file)))
+                    continue;
+                if (getSequence(file) > aSequence) {
+                    mLogger.info(String.format("A newer strategy with the key %s is already stored", aKey));
+                    return;
+                }
+                stored.add(file);
+            }
+            write(getFile(aSequence, hash, 0), new OutboxEntry(aKey, aStrategy));
+            for (File file : stored) {
+                if (file.delete())
+                    mLogger.info(String.format("Replacing the strategy with the key %s", aKey));
+            }
+        }
+    }
+
+    /**
+     * Remove the strategy stored with the key.
+     *
+     * @return true if it was stored.
+     */
+    public boolean remove(String aKey) {
+        synchronized (mLock) {
+            String hash = hash(aKey);
+            boolean removed = false;
+            for (File file : listFiles()) {
+                if (hash.equals(getHash(file)))
+                    removed |= file.delete();
+            }
+            return removed;
+        }
+    }
+
+    /**
+     * Replay the strategies stored if there is connection and it isn't replaying yet.
+     * It is called when the connection is recovered, call it when the application starts to replay the
+     * strategies stored in a previous execution. The strategies stored meanwhile are replayed the next time.
+     */
+    public void replay() {
+        synchronized (mLock) {
+            if (mReplaying || !ConnectivityMonitor.getInstance(mAppContext).isConnected())
+                return;
+            mReplaying = true;
+            mReplayFiles = listFiles();
+            mSucceeded = 0;
+            mFailed = 0;
+        }
+        mLogger.info("Replaying the outbox");
+        replayNextBatch();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onConnectivityChanged(boolean aConnected) {
+        if (aConnected)
+            replay();
+    }
+
+    private void replayNextBatch() {
+        getExecutor().getIoExecutor().execute(new Runnable() {
+            @Override
+            public void run() {
+                ArrayList<ReplayCallback> batch = new ArrayList<>();
+                synchronized (mLock) {
+                    boolean connected = ConnectivityMonitor.getInstance(mAppContext).isConnected();
+                    while (connected && batch.size() < mBatchSize && !mReplayFiles.isEmpty()) {
+                        File file = mReplayFiles.remove(0);
+                        // It was replaced by other strategy with the same key meanwhile
+                        if (!file.exists())
+                            continue;
+                        OutboxEntry entry = read(file);
+                        if (entry != null)
+                            batch.add(new ReplayCallback(file, entry));
+                    }
+                    mPendingInBatch = batch.size();
+                }
+                if (batch.isEmpty()) {
+                    finishReplay();
+                    return;
+                }
+                performBatch(batch);
+            }
+        });
+    }
+
+    /**
+     * The files are read in the I/O executor, but the strategies are executed from the thread UI.
+     */
+    private void performBatch(final ArrayList<ReplayCallback> aBatch) {
+        Utils.runOnThreadUI(new Runnable() {
+            @Override
+            public void run() {
+                for (ReplayCallback callback : aBatch) {
+                    OperationStrategy strategy = callback.mEntry.strategy;
+                    strategy.setFinishCallback(callback);
+                    try {
+                        strategy.getOperation().performStrategies(new ArrayList<>(Collections.singletonList(strategy)));
+                    } catch (RuntimeException e) {
+                        mLogger.log(Level.SEVERE, "The strategy can't be replayed", e);
+                        callback.onStrategyFinished(strategy, false);
+                    }
+                }
+            }
+        });
+    }
+
+    private void onReplayed(File aFile, OutboxEntry anEntry, boolean aSucceeded) {
+        boolean batchFinished;
+        synchronized (mLock) {
+            if (aSucceeded) {
+                mSucceeded++;
+                aFile.delete();
+            } else {
+                mFailed++;
+                int attempts = getAttempts(aFile) + 1;
+                if (attempts >= mMaxAttempts) {
+                    mLogger.warning(String.format("Discarding the strategy with the key %s", anEntry.key));
+                    aFile.delete();
+                } else if (aFile.exists()) {
+                    // It isn't renamed if it was replaced meanwhile
+                    if (!aFile.renameTo(getFile(getSequence(aFile), getHash(aFile), attempts)))
+                        mLogger.severe(String.format("The attempts of the strategy with the key %s can't be saved", anEntry.key));
+                }
+            }
+            batchFinished = --mPendingInBatch == 0;
+        }
+        if (batchFinished)
+            replayNextBatch();
+    }
+
+    private void finishReplay() {
+        Intent intent = new Intent(ACTION_REPLAY_COMPLETED);
+        synchronized (mLock) {
+            mReplaying = false;
+            mReplayFiles = null;
+            intent.putExtra(EXTRA_SUCCEEDED, mSucceeded);
+            intent.putExtra(EXTRA_FAILED, mFailed);
+            intent.putExtra(EXTRA_PENDING, listFiles().size());
+        }
+        mLogger.info("The replay of the outbox completed");
+        LocalBroadcastManager.getInstance(mAppContext).sendBroadcast(intent);
+    }
+    //endregion
+
+    //region Files implementation
+    private ArrayList<File> listFiles() {
+        File[] files = mDirectory.listFiles(new FilenameFilter() {
+            @Override
+            public boolean accept(File dir, String filename) {
+                return filename.endsWith(EXTENSION);
+            }
+        });
+        if (files == null)
+            return new ArrayList<>();
+        // The names start with the sequence, so they are sorted in the order they were added
+        Arrays.sort(files);
+        return new ArrayList<>(Arrays.asList(files));
+    }
+
+    /**
+     * @return The file named with the sequence, the hash of the key and the attempts, if it was replayed.
+     */
+    private File getFile(long aSequence, String aHash, int anAttempts) {
+        String name = String.format(Locale.US, "%019d_%s", aSequence, aHash);
+        if (anAttempts > 0)
+            name += "_" + anAttempts;
+        return new File(mDirectory, name + EXTENSION);
+    }
+
+    private static String[] getNameParts(File aFile) {
+        String name = aFile.getName();
+        return name.substring(0, name.length() - EXTENSION.length()).split("_");
+    }
+
+    private static long getSequence(File aFile) {
+        try {
+            return Long.parseLong(getNameParts(aFile)[0]);
+        } catch (RuntimeException e) {
+            return 0;
+        }
+    }
+
+    private static String getHash(File aFile) {
+        String[] parts = getNameParts(aFile);
+        return parts.length > 1 ? parts[1] : "";
+    }
+
+    private static int getAttempts(File aFile) {
+        String[] parts = getNameParts(aFile);
+        try {
+            return parts.length > 2 ? Integer.parseInt(parts[2]) : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static String hash(String aKey) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(aKey.getBytes("UTF-8"));
+            StringBuilder builder = new StringBuilder();
+            for (byte b : digest)
+                builder.append(String.format(Locale.US, "%02x", b));
+            return builder.toString();
+        } catch (NoSuchAlgorithmException | IOException e) {
+            return Integer.toHexString(aKey.hashCode());
+        }
+    }
+
+    private void write(File aFile, OutboxEntry anEntry) throws IOException {
+        File temporal = new File(aFile.getPath() + ".tmp");
+        try {
+            ObjectOutputStream output = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(temporal)));
+            try {
+                output.writeObject(anEntry);
+            } finally {
+                output.close();
+            }
+        } catch (IOException e) {
+            temporal.delete();
+            throw e;
+        }
+        if (!temporal.renameTo(aFile)) {
+            temporal.delete();
+            throw new IOException("The entry can't be written");
+        }
+    }
+
+    /**
+     * @return The entry or null if it can't be read. In that case the file is removed.
+     */
+    private OutboxEntry read(File aFile) {
+        try {
+            ObjectInputStream input = new ObjectInputStream(new BufferedInputStream(new FileInputStream(aFile)));
+            try {
+                return (OutboxEntry) input.readObject();
+            } finally {
+                input.close();
+            }
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            mLogger.log(Level.SEVERE, "Discarding an entry that can't be read", e);
+            mFailed++;
+            aFile.delete();
+            return null;
+        }
+    }
+    //endregion
+
+    private class ReplayCallback implements IStrategyFinishCallback {
+        private final File mFile;
+        private final OutboxEntry mEntry;
+
+        ReplayCallback(File aFile, OutboxEntry anEntry) {
+            mFile = aFile;
+            mEntry = anEntry;
+        }
+
+        @Override
+        public void onStrategyFinished(OperationStrategy aStrategy, boolean aSucceeded) {
+            onReplayed(mFile, mEntry, aSucceeded);
+        }
+    }
+}
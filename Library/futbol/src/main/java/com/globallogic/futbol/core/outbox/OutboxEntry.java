@@ -0,0 +1,24 @@
+package com.globallogic.futbol.core.outbox;
+
+import com.globallogic.futbol.core.strategies.OperationStrategy;
+
+import java.io.Serializable;
+
+/**
+ * A strategy stored in the {@link Outbox} with its key. The number of times that it was replayed is kept
+ * in the name of its file, so it isn't written again after it was executed.
+ *
+ * @author facundo.mengoni
+ * @since 0.3.8
+ */
+class OutboxEntry implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    final String key;
+    final OperationStrategy strategy;
+
+    OutboxEntry(String aKey, OperationStrategy aStrategy) {
+        this.key = aKey;
+        this.strategy = aStrategy;
+    }
+}
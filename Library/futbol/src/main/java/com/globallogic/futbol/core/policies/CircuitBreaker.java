@@ -0,0 +1,155 @@
+package com.globallogic.futbol.core.policies;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The circuit breaker of a host, shared by all the strategies that do requests to it.
+ * <ul>
+ * <li>{@link State#CLOSED}: the requests are allowed and the consecutive failures are counted.</li>
+ * <li>{@link State#OPEN}: the requests are not allowed until the open duration expires.</li>
+ * <li>{@link State#HALF_OPEN}: a few probe requests are allowed. The first success closes the circuit
+ * and the first failure opens it again.</li>
+ * </ul>
+ *
+ * @author facundo.mengoni
+ * @see CircuitBreakerPolicy
+ * @see com.globallogic.futbol.core.strategies.HttpOperationStrategy#getCircuitBreaker()
+ * @since 0.3.8
+ */
+public class CircuitBreaker {
+    private static final HashMap<String, CircuitBreaker> sCircuitBreakers = new HashMap<>();
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    //region Variables
+    private final Logger mLogger;
+    private final String mHost;
+    private final CircuitBreakerPolicy mPolicy;
+    private State mState = State.CLOSED;
+    private int mFailures;
+    private int mProbes;
+    private long mStateChangedAt;
+    //endregion
+
+    //region Constructors implementation
+    private CircuitBreaker(String aHost, CircuitBreakerPolicy aPolicy) {
+        mLogger = Logger.getLogger(getClass().getSimpleName());
+        mLogger.setLevel(Level.OFF);
+        mHost = aHost;
+        mPolicy = aPolicy;
+    }
+    //endregion
+
+    //region Getters & Setters implementation
+
+    /**
+     * @param aHost   The host of the requests.
+     * @param aPolicy The policy used if the circuit breaker of the host doesn't exist yet.
+     * @return The circuit breaker of the host.
+     */
+    public static synchronized CircuitBreaker getInstance(String aHost, CircuitBreakerPolicy aPolicy) {
+        CircuitBreaker circuitBreaker = sCircuitBreakers.get(aHost);
+        if (circuitBreaker == null) {
+            circuitBreaker = new CircuitBreaker(aHost, aPolicy);
+            sCircuitBreakers.put(aHost, circuitBreaker);
+        }
+        return circuitBreaker;
+    }
+
+    /**
+     * @return The circuit breakers of all the hosts requested.
+     */
+    public static synchronized List<CircuitBreaker> getInstances() {
+        return new ArrayList<>(sCircuitBreakers.values());
+    }
+
+    /**
+     * Remove the circuit breakers of all the hosts, so they are created again closed.
+     */
+    public static synchronized void reset() {
+        sCircuitBreakers.clear();
+    }
+
+    public String getHost() {
+        return mHost;
+    }
+
+    public CircuitBreakerPolicy getPolicy() {
+        return mPolicy;
+    }
+
+    public synchronized State getState() {
+        return mState;
+    }
+    //endregion
+
+    //region CircuitBreaker implementation
+
+    /**
+     * Check if a request can be done. If the circuit is half-open the request is counted as a probe.
+     * If the probes don't notify their result in the open duration (for example because they were
+     * cancelled) other probes are allowed.
+     *
+     * @return true if the request can be done, false if it must fail fast.
+     */
+    public synchronized boolean allowRequest() {
+        long now = System.nanoTime();
+        switch (mState) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (!isExpired(now))
+                    return false;
+                setState(State.HALF_OPEN, now);
+                break;
+            case HALF_OPEN:
+                if (mProbes >= mPolicy.getProbes()) {
+                    if (!isExpired(now))
+                        return false;
+                    setState(State.HALF_OPEN, now);
+                }
+                break;
+        }
+        mProbes++;
+        return true;
+    }
+
+    /**
+     * Notify the result of a request allowed.
+     *
+     * @param aFailure true if the result means that the host is degraded.
+     * @see CircuitBreakerPolicy#isFailure(Exception, Integer)
+     */
+    public synchronized void onResult(boolean aFailure) {
+        long now = System.nanoTime();
+        if (mState == State.OPEN)
+            return;
+        if (!aFailure) {
+            if (mState == State.HALF_OPEN)
+                setState(State.CLOSED, now);
+            mFailures = 0;
+        } else if (mState == State.HALF_OPEN || ++mFailures >= mPolicy.getFailureThreshold()) {
+            setState(State.OPEN, now);
+        }
+    }
+
+    private boolean isExpired(long aNow) {
+        return aNow - mStateChangedAt >= mPolicy.getOpenDuration() * 1000000L;
+    }
+
+    private void setState(State aState, long aNow) {
+        if (mState != aState)
+            mLogger.info(String.format("The circuit of %s is %s", mHost, aState));
+        mState = aState;
+        mStateChangedAt = aNow;
+        mFailures = 0;
+        mProbes = 0;
+    }
+    //endregion
+}
@@ -0,0 +1,129 @@
+package com.globallogic.futbol.core.policies;
+
+import com.globallogic.futbol.core.operations.OperationHelper;
+import com.globallogic.futbol.core.strategies.HttpOperationStrategy;
+
+import java.io.Serializable;
+import java.net.HttpURLConnection;
+
+/**
+ * Defines when the {@link CircuitBreaker} of a host is opened and how it detects the recovery.
+ * <p>
+ * The circuit is opened after a number of consecutive failures. A failure is an exception that
+ * {@link OperationHelper#analyzeException(Exception, OperationHelper.ExceptionCallback)} classifies as a
+ * timeout, a socket exception or an I/O exception, or a http code of server error. The rest of the
+ * exceptions are caused by the request or the response, so they don't mean that the host is degraded.
+ * While it is open the requests fail fast, and when the open duration expires a few probe requests
+ * are allowed to know if the host recovered.
+ * <p>
+ * By default: 5 consecutive failures, 30 seconds open and 1 probe.
+ *
+ * @author facundo.mengoni
+ * @see HttpOperationStrategy#setCircuitBreakerPolicy(CircuitBreakerPolicy)
+ * @since 0.3.8
+ */
+public class CircuitBreakerPolicy implements Serializable {
+    //region Constants
+    private static final long serialVersionUID = 1L;
+    public static final int DEFAULT_FAILURE_THRESHOLD = 5;
+    public static final long DEFAULT_OPEN_DURATION = 30000;
+    public static final int DEFAULT_PROBES = 1;
+    //endregion
+
+    //region Variables
+    private int mFailureThreshold = DEFAULT_FAILURE_THRESHOLD;
+    private long mOpenDuration = DEFAULT_OPEN_DURATION;
+    private int mProbes = DEFAULT_PROBES;
+    //endregion
+
+    //region Getters & Setters implementation
+    public int getFailureThreshold() {
+        return mFailureThreshold;
+    }
+
+    /**
+     * @param aFailureThreshold The consecutive failures that open the circuit.
+     */
+    public CircuitBreakerPolicy setFailureThreshold(int aFailureThreshold) {
+        this.mFailureThreshold = Math.max(1, aFailureThreshold);
+        return this;
+    }
+
+    public long getOpenDuration() {
+        return mOpenDuration;
+    }
+
+    /**
+     * @param anOpenDuration The milliseconds that the circuit is open before allowing the probes.
+     *                       It is also the time that the probes have to finish before allowing others.
+     */
+    public CircuitBreakerPolicy setOpenDuration(long anOpenDuration) {
+        this.mOpenDuration = Math.max(0, anOpenDuration);
+        return this;
+    }
+
+    public int getProbes() {
+        return mProbes;
+    }
+
+    /**
+     * @param aProbes The requests allowed at the same time while the circuit is half-open.
+     */
+    public CircuitBreakerPolicy setProbes(int aProbes) {
+        this.mProbes = Math.max(1, aProbes);
+        return this;
+    }
+    //endregion
+
+    //region CircuitBreakerPolicy implementation
+
+    /**
+     * @param anException The exception occurred or null.
+     * @param aHttpCode   The http code obtained or null if there is no response.
+     * @return true if the result means that the host is degraded.
+     */
+    public boolean isFailure(Exception anException, Integer aHttpCode) {
+        if (anException != null) {
+            FailureClassifier classifier = new FailureClassifier();
+            OperationHelper.analyzeException(anException, classifier);
+            return classifier.mFailure;
+        }
+        return aHttpCode != null && aHttpCode >= HttpURLConnection.HTTP_INTERNAL_ERROR;
+    }
+    //endregion
+
+    private static class FailureClassifier implements OperationHelper.ExceptionCallback {
+        private boolean mFailure;
+
+        @Override
+        public void jsonSyntaxException() {
+        }
+
+        @Override
+        public void timeOutException() {
+            mFailure = true;
+        }
+
+        @Override
+        public void socketException() {
+            mFailure = true;
+        }
+
+        @Override
+        public void malformedURLException() {
+        }
+
+        @Override
+        public void ioException() {
+            mFailure = true;
+        }
+
+        @Override
+        public void otherException() {
+        }
+
+        @Override
+        public void unexpectedResponseException() {
+        }
+    }
+}
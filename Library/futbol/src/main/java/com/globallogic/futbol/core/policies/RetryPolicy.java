@@ -0,0 +1,153 @@
+package com.globallogic.futbol.core.policies;
+
+import com.globallogic.futbol.core.strategies.HttpOperationStrategy;
+
+import java.io.Serializable;
+import java.net.HttpURLConnection;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Defines when and how many times a {@link HttpOperationStrategy} retries a request.
+ * <p>
+ * A request is retried if it failed with one of the retryable exceptions (or a subclass) or it
+ * obtained one of the retryable http codes, until the max attempts are reached. The delay before each
+ * retry grows exponentially and it is randomized with the jitter, so the clients that failed at the
+ * same time don't retry at the same time.
+ * <p>
+ * By default: 3 attempts, 500 milliseconds of initial backoff multiplied by 2 up to 30 seconds with full
+ * jitter, the exceptions of the connection and the timeouts, and the codes 408, 429, 500, 502, 503 and 504.
+ *
+ * @author facundo.mengoni
+ * @see HttpOperationStrategy#setRetryPolicy(RetryPolicy)
+ * @since 0.3.8
+ */
+public class RetryPolicy implements Serializable {
+    //region Constants
+    private static final long serialVersionUID = 1L;
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+    public static final long DEFAULT_INITIAL_BACKOFF = 500;
+    public static final float DEFAULT_MULTIPLIER = 2f;
+    public static final long DEFAULT_MAX_BACKOFF = 30000;
+    public static final float DEFAULT_JITTER = 1f;
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+    private static final Random sRandom = new Random();
+    //endregion
+
+    //region Variables
+    private int mMaxAttempts = DEFAULT_MAX_ATTEMPTS;
+    private long mInitialBackoff = DEFAULT_INITIAL_BACKOFF;
+    private float mMultiplier = DEFAULT_MULTIPLIER;
+    private long mMaxBackoff = DEFAULT_MAX_BACKOFF;
+    private float mJitter = DEFAULT_JITTER;
+    private final HashSet<Integer> mRetryableHttpCodes = new HashSet<>();
+    private final ArrayList<Class<? extends Exception>> mRetryableExceptions = new ArrayList<>();
+    //endregion
+
+    //region Constructors implementation
+
+    /**
+     * Create a new instance with the default values.
+     */
+    public RetryPolicy() {
+        addRetryableHttpCodes(HttpURLConnection.HTTP_CLIENT_TIMEOUT, HTTP_TOO_MANY_REQUESTS,
+                HttpURLConnection.HTTP_INTERNAL_ERROR, HttpURLConnection.HTTP_BAD_GATEWAY,
+                HttpURLConnection.HTTP_UNAVAILABLE, HttpURLConnection.HTTP_GATEWAY_TIMEOUT);
+        addRetryableException(SocketException.class);
+        addRetryableException(SocketTimeoutException.class);
+        addRetryableException(UnknownHostException.class);
+        addRetryableException(TimeoutException.class);
+    }
+    //endregion
+
+    //region Getters & Setters implementation
+    public int getMaxAttempts() {
+        return mMaxAttempts;
+    }
+
+    /**
+     * @param aMaxAttempts The number of attempts including the first one. 1 disables the retries.
+     */
+    public RetryPolicy setMaxAttempts(int aMaxAttempts) {
+        this.mMaxAttempts = Math.max(1, aMaxAttempts);
+        return this;
+    }
+
+    /**
+     * Defines the delay before each retry: the initial backoff multiplied by the multiplier for each
+     * retry done, up to the max backoff.
+     *
+     * @param anInitialBackoff The delay before the first retry in milliseconds.
+     * @param aMultiplier      The factor applied to the delay on each retry. 1 for a constant delay.
+     * @param aMaxBackoff      The max delay in milliseconds.
+     */
+    public RetryPolicy setBackoff(long anInitialBackoff, float aMultiplier, long aMaxBackoff) {
+        this.mInitialBackoff = Math.max(0, anInitialBackoff);
+        this.mMultiplier = Math.max(1f, aMultiplier);
+        this.mMaxBackoff = Math.max(mInitialBackoff, aMaxBackoff);
+        return this;
+    }
+
+    /**
+     * @param aJitter The fraction of the delay that is randomized, between 0 and 1.
+     *                0 uses the exact delay and 1 uses a random delay between 0 and the delay (full jitter).
+     */
+    public RetryPolicy setJitter(float aJitter) {
+        this.mJitter = Math.min(1f, Math.max(0f, aJitter));
+        return this;
+    }
+
+    public RetryPolicy addRetryableHttpCodes(int... aHttpCodes) {
+        for (int httpCode : aHttpCodes)
+            mRetryableHttpCodes.add(httpCode);
+        return this;
+    }
+
+    public RetryPolicy addRetryableException(Class<? extends Exception> anExceptionClass) {
+        mRetryableExceptions.add(anExceptionClass);
+        return this;
+    }
+
+    /**
+     * Remove the retryable http codes and exceptions, including the default ones.
+     */
+    public RetryPolicy clearRetryable() {
+        mRetryableHttpCodes.clear();
+        mRetryableExceptions.clear();
+        return this;
+    }
+    //endregion
+
+    //region RetryPolicy implementation
+
+    /**
+     * @param anException The exception occurred or null.
+     * @param aHttpCode   The http code obtained or null if there is no response.
+     * @return true if the request can be retried with that result.
+     */
+    public boolean isRetryable(Exception anException, Integer aHttpCode) {
+        if (anException != null) {
+            for (Class<? extends Exception> exceptionClass : mRetryableExceptions) {
+                if (exceptionClass.isInstance(anException))
+                    return true;
+            }
+            return false;
+        }
+        return aHttpCode != null && mRetryableHttpCodes.contains(aHttpCode);
+    }
+
+    /**
+     * @param aRetry The number of the retry, the first one is 1.
+     * @return The delay in milliseconds before the retry.
+     */
+    public long getBackoff(int aRetry) {
+        double backoff = Math.min(mMaxBackoff, mInitialBackoff * Math.pow(mMultiplier, Math.max(0, aRetry - 1)));
+        return (long) (backoff * (1 - mJitter * sRandom.nextDouble()));
+    }
+    //endregion
+}
@@ -8,6 +8,8 @@ package com.globallogic.futbol.core.responses;
  * @since 0.3.0
  */
 public class StrategyDbResponse<T> extends StrategyResponse {
+    private static final long serialVersionUID = 1L;
+
     private T response;
 
     public StrategyDbResponse() {
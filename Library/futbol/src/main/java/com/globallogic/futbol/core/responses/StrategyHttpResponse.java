@@ -1,5 +1,9 @@
 package com.globallogic.futbol.core.responses;
 
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Locale;
+
 /**
  * A wrapper that contains an http code and a string returned by the server.
  * It represent a specific responses from the server.
@@ -8,8 +12,17 @@ package com.globallogic.futbol.core.responses;
  * @since 0.3.0
  */
 public class StrategyHttpResponse extends StrategyResponse {
+    private static final long serialVersionUID = 1L;
+
+    public static final String HEADER_ETAG = "ETag";
+    public static final String HEADER_LAST_MODIFIED = "Last-Modified";
+    public static final String HEADER_IF_NONE_MATCH = "If-None-Match";
+    public static final String HEADER_IF_MODIFIED_SINCE = "If-Modified-Since";
+
     private Integer httpCode;
     private String response;
+    private final HashMap<String, String> headers = new HashMap<>();
+    private transient InputStream stream;
 
     public StrategyHttpResponse() {
     }
@@ -35,6 +48,44 @@ public class StrategyHttpResponse extends StrategyResponse {
         this.response = response;
     }
 
+    /**
+     * @return The body of the response if it was obtained as a stream, in other case null.
+     * @see com.globallogic.futbol.core.interfaces.analyzers.IStrategyHttpStreamAnalyzer
+     */
+    public InputStream getStream() {
+        return stream;
+    }
+
+    /**
+     * Defines the body of the response as a stream, so an
+     * {@link com.globallogic.futbol.core.interfaces.analyzers.IStrategyHttpStreamAnalyzer}
+     * can parse it while it is read. It is never stored in a cache.
+     */
+    public void setStream(InputStream aStream) {
+        this.stream = aStream;
+    }
+
+    /**
+     * @param aName The name of the header, it is case insensitive.
+     * @return The value of the header or null if the server didn't return it.
+     */
+    public String getHeader(String aName) {
+        return headers.get(aName.toLowerCase(Locale.US));
+    }
+
+    /**
+     * Keep a header returned by the server, like {@link #HEADER_ETAG} or {@link #HEADER_LAST_MODIFIED}.
+     *
+     * @param aName  The name of the header, it is case insensitive.
+     * @param aValue The value of the header. If it is null the header is removed.
+     */
+    public void setHeader(String aName, String aValue) {
+        if (aValue == null)
+            headers.remove(aName.toLowerCase(Locale.US));
+        else
+            headers.put(aName.toLowerCase(Locale.US), aValue);
+    }
+
     @Override
     public String toString() {
         return "StrategyMockResponse{" +
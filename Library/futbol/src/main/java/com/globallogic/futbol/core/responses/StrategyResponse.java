@@ -9,4 +9,5 @@ import java.io.Serializable;
  * @since 0.3.0
  */
 public abstract class StrategyResponse implements Serializable {
+    private static final long serialVersionUID = 1L;
 }
@@ -8,6 +8,8 @@ package com.globallogic.futbol.core.responses;
  * @since 0.3.6
  */
 public class StrategySharedPreferenceResponse<T> extends StrategyResponse {
+    private static final long serialVersionUID = 1L;
+
     private T result;
 
     public StrategySharedPreferenceResponse() {
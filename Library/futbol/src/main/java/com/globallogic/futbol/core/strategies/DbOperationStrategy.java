@@ -1,14 +1,12 @@
 package com.globallogic.futbol.core.strategies;
 
-import android.os.AsyncTask;
-import android.os.Build;
-
 import com.globallogic.futbol.core.exceptions.UnexpectedResponseException;
 import com.globallogic.futbol.core.interfaces.analyzers.IStrategyDbAnalyzer;
 import com.globallogic.futbol.core.interfaces.parsers.IOperationDbParser;
 import com.globallogic.futbol.core.operations.Operation;
 import com.globallogic.futbol.core.responses.StrategyDbResponse;
 
+import java.util.concurrent.Callable;
 import java.util.logging.Level;
 
 /**
@@ -22,6 +20,8 @@ import java.util.logging.Level;
  * @since 0.1.0
  */
 public abstract class DbOperationStrategy<T> extends OperationStrategy<StrategyDbResponse<T>> implements IOperationDbParser<T, StrategyDbResponse<T>> {
+    private static final long serialVersionUID = 1L;
+
     //region Constructors implementation
     public DbOperationStrategy(Operation anOperation, IStrategyDbAnalyzer<T> anAnalyzer) {
         super(anOperation, anAnalyzer);
@@ -38,6 +38,14 @@ public abstract class DbOperationStrategy<T> extends OperationStrategy<StrategyD
         //noinspection unchecked
         return (IStrategyDbAnalyzer<T>) super.getAnalyzer();
     }
+
+    /**
+     * The local data can be outdated, so it is delivered as stale in stale-while-revalidate mode.
+     */
+    @Override
+    protected boolean isLocalSource() {
+        return true;
+    }
     //endregion
 
     //region IOperationDbParser implementation
@@ -47,31 +55,17 @@ public abstract class DbOperationStrategy<T> extends OperationStrategy<StrategyD
      */
     @Override
     public void parseResponse(final Exception anException, final StrategyDbResponse<T> aStrategyResponse) {
-        AsyncTask<Void, Void, Boolean> task = new AsyncTask<Void, Void, Boolean>() {
-            T aResponse = null;
-
+        notifyCoalescedStrategies(anException, aStrategyResponse);
+        analyzeInBackground(new Callable<Boolean>() {
             @Override
-            protected void onPreExecute() {
+            public Boolean call() {
+                T aResponse = null;
                 if (aStrategyResponse != null) {
                     aResponse = aStrategyResponse.getResponse();
                 }
-            }
-
-            @Override
-            protected Boolean doInBackground(Void... params) {
                 return workInBackground(anException, aResponse);
             }
-
-            @Override
-            protected void onPostExecute(Boolean result) {
-                afterWorkInBackground(result);
-            }
-        };
-        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.HONEYCOMB) {
-            task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR, ((Void) null));
-        } else {
-            task.execute();
-        }
+        });
     }
 
     /**
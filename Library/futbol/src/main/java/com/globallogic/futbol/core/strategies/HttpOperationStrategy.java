@@ -1,20 +1,37 @@
 package com.globallogic.futbol.core.strategies;
 
-import android.content.Intent;
-import android.os.AsyncTask;
-import android.os.Build;
 import android.text.TextUtils;
 
+import com.globallogic.futbol.core.ConnectivityMonitor;
 import com.globallogic.futbol.core.OperationApp;
 import com.globallogic.futbol.core.OperationResult;
-import com.globallogic.futbol.core.broadcasts.OperationBroadcastReceiverHelper;
+import com.globallogic.futbol.core.batch.HttpBatcher;
+import com.globallogic.futbol.core.cache.CachedHttpResponse;
+import com.globallogic.futbol.core.cache.HttpResponseCache;
 import com.globallogic.futbol.core.exceptions.UnexpectedResponseException;
+import com.globallogic.futbol.core.interfaces.IHttpResponseCache;
 import com.globallogic.futbol.core.interfaces.analyzers.IStrategyHttpAnalyzer;
+import com.globallogic.futbol.core.interfaces.analyzers.IStrategyHttpStreamAnalyzer;
+import com.globallogic.futbol.core.interfaces.callbacks.IOutboxCallback;
 import com.globallogic.futbol.core.interfaces.parsers.IOperationHttpParser;
+import com.globallogic.futbol.core.metrics.OperationMetrics;
 import com.globallogic.futbol.core.operations.Operation;
+import com.globallogic.futbol.core.outbox.Outbox;
+import com.globallogic.futbol.core.policies.CircuitBreaker;
+import com.globallogic.futbol.core.policies.CircuitBreakerPolicy;
+import com.globallogic.futbol.core.policies.RetryPolicy;
 import com.globallogic.futbol.core.responses.StrategyHttpResponse;
 import com.globallogic.futbol.core.utils.Utils;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.HttpURLConnection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.logging.Level;
 
 /**
@@ -28,6 +45,26 @@ import java.util.logging.Level;
  * @since 0.1.0
  */
 public abstract class HttpOperationStrategy extends OperationStrategy<StrategyHttpResponse> implements IOperationHttpParser<StrategyHttpResponse> {
+    private static final long serialVersionUID = 1L;
+
+    //region Variables
+    private static IHttpResponseCache sDefaultResponseCache;
+    private transient IHttpResponseCache mResponseCache;
+    private long mCacheTimeToLive;
+    private transient String mCacheKey;
+    private transient CachedHttpResponse mStaleResponse;
+    private static RetryPolicy sDefaultRetryPolicy;
+    private RetryPolicy mRetryPolicy;
+    private transient int mAttempt;
+    private static CircuitBreakerPolicy sDefaultCircuitBreakerPolicy;
+    private CircuitBreakerPolicy mCircuitBreakerPolicy;
+    private transient CircuitBreaker mRequestCircuitBreaker;
+    private boolean mQueueWhileOffline;
+    private String mOutboxKey;
+    private static HttpBatcher sDefaultBatcher;
+    private transient HttpBatcher mBatcher;
+    //endregion
+
     //region Constructors implementation
     public HttpOperationStrategy(Operation anOperation, IStrategyHttpAnalyzer anAnalyzer) {
         super(anOperation, anAnalyzer);
@@ -45,78 +82,468 @@ public abstract class HttpOperationStrategy extends OperationStrategy<StrategyHt
     }
 
     /**
-     * {@inheritDoc}
+     * {@inheritDoc}<br>
+     * If there is no connection it notifies {@link OperationResult#NO_INTERNET}, it waits the connection
+     * if the strategy is queued while offline, or it is stored in the {@link Outbox} if it has an outbox key.
+     * In the last case the operation isn't notified of any result until the strategy is replayed. The strategy
+     * is written in the I/O executor of the outbox, and if it can't be written it continues as if it didn't
+     * have an outbox key. It fails fast with {@link OperationResult#CIRCUIT_OPEN} if the circuit of the host is open.
+     *
+     * @see ConnectivityMonitor#isConnected()
+     * @see #getCircuitBreaker()
      */
     @Override
     public void execute() {
-        if (!Utils.hasInternet(OperationApp.getInstance())) {
-            sendBroadcastForNoInternet();
-            mOperation.onStrategyFinish(this);
+        mAttempt = 1;
+        ConnectivityMonitor connectivityMonitor = ConnectivityMonitor.getInstance(OperationApp.getInstance());
+        if (!connectivityMonitor.isConnected() && getOutboxKey() != null) {
+            storeInOutbox();
+        } else if (!connectivityMonitor.isConnected()) {
+            onOffline();
+        } else if (!allowRequest()) {
+            mLogger.info("The circuit of the host is open");
+            finishWithoutResponse(OperationResult.CIRCUIT_OPEN);
         } else {
             super.execute();
         }
     }
+
+    /**
+     * If the response is cached and it is fresh it is parsed without doing the request.
+     * If it is expired but it can be revalidated the request is done with the conditional headers.
+     * In stale-while-revalidate mode the cached response is always delivered as stale and the request is done.
+     * The cache is only checked in the first attempt, the retries do the request again.
+     * The request is combined with others if there is a batcher that accepts it.
+     *
+     * @see #getCacheKey()
+     * @see #getConditionalHeaders()
+     * @see #getBatcher()
+     */
+    @Override
+    protected void obtainResponse() {
+        mRequestCircuitBreaker = null;
+        if (mAttempt > 1) {
+            doRequest();
+            return;
+        }
+        mStaleResponse = null;
+        mCacheKey = getCacheTimeToLive() > 0 && getResponseCache() != null ? getCacheKey() : null;
+        if (mCacheKey != null) {
+            CachedHttpResponse cachedResponse = getResponseCache().get(mCacheKey);
+            if (cachedResponse != null) {
+                if (mOperation.isStaleWhileRevalidate()) {
+                    deliverStale(cachedResponse.getResponse());
+                } else if (cachedResponse.isFresh()) {
+                    mLogger.info("Using the cached response");
+                    mCacheKey = null;
+                    parseResponse(null, cachedResponse.getResponse());
+                    return;
+                }
+                if (cachedResponse.canRevalidate())
+                    mStaleResponse = cachedResponse;
+            }
+        }
+        doRequest();
+    }
+
+    private void doRequest() {
+        mRequestCircuitBreaker = getCircuitBreaker();
+        HttpBatcher batcher = getBatcher();
+        if (batcher != null && batcher.enqueue(this))
+            return;
+        super.obtainResponse();
+    }
+
+    /**
+     * {@inheritDoc}<br>
+     * If it is waiting the connection it is removed from the queue.
+     */
+    @Override
+    public void cancel() {
+        if (mQueueWhileOffline)
+            ConnectivityMonitor.getInstance(OperationApp.getInstance()).remove(this);
+        super.cancel();
+    }
+    //endregion
+
+    //region Getters & Setters implementation
+
+    /**
+     * @return The cache used by all the strategies that don't define their own cache.
+     */
+    public static synchronized IHttpResponseCache getDefaultResponseCache() {
+        if (sDefaultResponseCache == null)
+            sDefaultResponseCache = new HttpResponseCache();
+        return sDefaultResponseCache;
+    }
+
+    /**
+     * Defines the cache used by all the strategies that don't define their own cache.
+     * For example a {@link HttpResponseCache} with a directory to keep the responses in disk.
+     */
+    public static synchronized void setDefaultResponseCache(IHttpResponseCache aResponseCache) {
+        sDefaultResponseCache = aResponseCache;
+    }
+
+    /**
+     * @return The cache where the responses of this strategy are stored.
+     */
+    public IHttpResponseCache getResponseCache() {
+        if (mResponseCache == null)
+            return getDefaultResponseCache();
+        return mResponseCache;
+    }
+
+    /**
+     * Defines the cache where the responses of this strategy are stored.
+     */
+    public void setResponseCache(IHttpResponseCache aResponseCache) {
+        mResponseCache = aResponseCache;
+    }
+
+    /**
+     * @return The milliseconds that a response is fresh. If it is 0 the responses are not cached.
+     */
+    public long getCacheTimeToLive() {
+        return mCacheTimeToLive;
+    }
+
+    /**
+     * Defines the milliseconds that a response is fresh. By default it is 0 and the responses are not cached.
+     * <p>
+     * If the analyzer is an {@link IStrategyHttpStreamAnalyzer} the cacheable responses are read in memory
+     * to store them, and they are analyzed as a string, like the responses obtained from the cache.
+     *
+     * @see #getCacheKey()
+     */
+    public void setCacheTimeToLive(long aMilliseconds) {
+        mCacheTimeToLive = aMilliseconds;
+    }
+
+    /**
+     * @return The retry policy used by all the strategies that don't define their own policy, or null if they don't retry.
+     */
+    public static synchronized RetryPolicy getDefaultRetryPolicy() {
+        return sDefaultRetryPolicy;
+    }
+
+    /**
+     * Defines the retry policy used by all the strategies that don't define their own policy.
+     * By default it is null and the requests are not retried.
+     */
+    public static synchronized void setDefaultRetryPolicy(RetryPolicy aRetryPolicy) {
+        sDefaultRetryPolicy = aRetryPolicy;
+    }
+
+    /**
+     * @return The retry policy of this strategy or the default one.
+     */
+    public RetryPolicy getRetryPolicy() {
+        if (mRetryPolicy == null)
+            return getDefaultRetryPolicy();
+        return mRetryPolicy;
+    }
+
+    /**
+     * Defines when the request of this strategy is retried. To disable the retries of a strategy when
+     * there is a default policy use a policy with {@link RetryPolicy#setMaxAttempts(int)} 1.
+     */
+    public void setRetryPolicy(RetryPolicy aRetryPolicy) {
+        mRetryPolicy = aRetryPolicy;
+    }
+
+    public boolean isQueueWhileOffline() {
+        return mQueueWhileOffline;
+    }
+
+    /**
+     * Defines if the strategy waits the connection instead of notifying {@link OperationResult#NO_INTERNET}.
+     * Meanwhile the operation is working and the strategy can be cancelled. By default it is false.
+     *
+     * @see ConnectivityMonitor#enqueue(OperationStrategy)
+     */
+    public void setQueueWhileOffline(boolean aQueueWhileOffline) {
+        mQueueWhileOffline = aQueueWhileOffline;
+    }
+
+    public String getOutboxKey() {
+        return mOutboxKey;
+    }
+
+    /**
+     * Defines the key to store the strategy in the {@link Outbox} when there is no connection, usually
+     * the resource that it writes. A strategy replaces the one stored with the same key.
+     * By default it is null and the strategy isn't stored.
+     *
+     * @see Outbox#add(String, OperationStrategy)
+     */
+    public void setOutboxKey(String anOutboxKey) {
+        mOutboxKey = anOutboxKey;
+    }
+
+    /**
+     * @return The batcher used by all the strategies that don't define their own batcher, or null if they aren't combined.
+     */
+    public static synchronized HttpBatcher getDefaultBatcher() {
+        return sDefaultBatcher;
+    }
+
+    /**
+     * Defines the batcher used by all the strategies that don't define their own batcher.
+     * By default it is null and each strategy does its own request.
+     */
+    public static synchronized void setDefaultBatcher(HttpBatcher aBatcher) {
+        sDefaultBatcher = aBatcher;
+    }
+
+    /**
+     * @return The batcher of this strategy or the default one.
+     */
+    public HttpBatcher getBatcher() {
+        if (mBatcher == null)
+            return getDefaultBatcher();
+        return mBatcher;
+    }
+
+    /**
+     * Defines the batcher that combines the request of this strategy with the requests of other strategies.
+     *
+     * @see com.globallogic.futbol.core.interfaces.IHttpBatchEncoder#getBatchKey(HttpOperationStrategy)
+     */
+    public void setBatcher(HttpBatcher aBatcher) {
+        mBatcher = aBatcher;
+    }
+
+    /**
+     * @return The circuit breaker policy used by all the strategies that don't define their own policy, or null if they don't use it.
+     */
+    public static synchronized CircuitBreakerPolicy getDefaultCircuitBreakerPolicy() {
+        return sDefaultCircuitBreakerPolicy;
+    }
+
+    /**
+     * Defines the circuit breaker policy used by all the strategies that don't define their own policy.
+     * By default it is null and the strategies don't use circuit breakers.
+     */
+    public static synchronized void setDefaultCircuitBreakerPolicy(CircuitBreakerPolicy aCircuitBreakerPolicy) {
+        sDefaultCircuitBreakerPolicy = aCircuitBreakerPolicy;
+    }
+
+    /**
+     * @return The circuit breaker policy of this strategy or the default one.
+     */
+    public CircuitBreakerPolicy getCircuitBreakerPolicy() {
+        if (mCircuitBreakerPolicy == null)
+            return getDefaultCircuitBreakerPolicy();
+        return mCircuitBreakerPolicy;
+    }
+
+    /**
+     * Defines the policy of the circuit breaker of the host. It is used only if the circuit breaker
+     * of the host doesn't exist yet, the hosts share the circuit breaker with its first policy.
+     *
+     * @see #getHost()
+     */
+    public void setCircuitBreakerPolicy(CircuitBreakerPolicy aCircuitBreakerPolicy) {
+        mCircuitBreakerPolicy = aCircuitBreakerPolicy;
+    }
+
+    /**
+     * @return The circuit breaker of the host, or null if there isn't a policy or the strategy doesn't define its host.
+     * @see #getHost()
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        CircuitBreakerPolicy circuitBreakerPolicy = getCircuitBreakerPolicy();
+        String host = circuitBreakerPolicy != null ? getHost() : null;
+        if (host == null)
+            return null;
+        return CircuitBreaker.getInstance(host, circuitBreakerPolicy);
+    }
+
+    /**
+     * @return The number of the current attempt to do the request, the first one is 1.
+     */
+    public int getAttempt() {
+        return mAttempt;
+    }
     //endregion
 
     //region HttpOperationStrategy implementation
-    private void sendBroadcastForNoInternet() {
-        Intent intent = new Intent();
-        intent.putExtra(OperationResult.EXTRA_OPERATION_RESULT, OperationResult.NO_INTERNET.name);
-
-        String actionWithId = OperationBroadcastReceiverHelper.getActionForNoInternet(mOperation);
-        intent.setAction(actionWithId);
-        mOperation.sendBroadcast(intent);
-
-        String actionWithOutID = OperationBroadcastReceiverHelper.getActionForNoInternet(mOperation.getClass());
-        if (!actionWithId.equals(actionWithOutID)) {
-            intent.setAction(actionWithOutID);
-            mOperation.sendBroadcast(intent);
+
+    /**
+     * The key that identifies the request in the cache. Two requests with the same key share the response.
+     * By default it returns null and the responses are not cached.
+     *
+     * @return The key of the request or null if it can't be cached.
+     * @see HttpResponseCache#createKey(String, String, Map, String)
+     */
+    protected String getCacheKey() {
+        return null;
+    }
+
+    /**
+     * The host of the request. The strategies with the same host share its circuit breaker.
+     * By default it returns null and the strategy doesn't use a circuit breaker.
+     *
+     * @return The host of the request or null.
+     * @see #getCircuitBreaker()
+     */
+    protected String getHost() {
+        return null;
+    }
+
+    /**
+     * @return True if the response can be stored in the cache. By default only a {@link HttpURLConnection#HTTP_OK} is stored.
+     */
+    protected boolean isCacheableResponse(StrategyHttpResponse aStrategyResponse) {
+        return aStrategyResponse.getHttpCode() == HttpURLConnection.HTTP_OK;
+    }
+
+    /**
+     * The headers that the request must send to revalidate an expired response.
+     * If the server answers {@link HttpURLConnection#HTTP_NOT_MODIFIED} the cached response is parsed.
+     *
+     * @return The headers to add to the request. It is empty if there is nothing to revalidate.
+     */
+    protected Map<String, String> getConditionalHeaders() {
+        HashMap<String, String> headers = new HashMap<>();
+        CachedHttpResponse staleResponse = mStaleResponse;
+        if (staleResponse != null) {
+            if (staleResponse.getETag() != null)
+                headers.put(StrategyHttpResponse.HEADER_IF_NONE_MATCH, staleResponse.getETag());
+            if (staleResponse.getLastModified() != null)
+                headers.put(StrategyHttpResponse.HEADER_IF_MODIFIED_SINCE, staleResponse.getLastModified());
         }
+        return headers;
     }
-    //endregion
 
-    //region IOperationHttpParser implementation
+    private StrategyHttpResponse resolveNotModified(Exception anException, StrategyHttpResponse aStrategyResponse) {
+        CachedHttpResponse staleResponse = mStaleResponse;
+        mStaleResponse = null;
+        if (anException == null && aStrategyResponse != null && staleResponse != null
+                && aStrategyResponse.getHttpCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+            mLogger.info("The cached response was revalidated");
+            closeQuietly(aStrategyResponse.getStream());
+            return staleResponse.getResponse();
+        }
+        return aStrategyResponse;
+    }
+
+    private void deliverStale(StrategyHttpResponse aStrategyResponse) {
+        mLogger.info("Delivering the cached response as stale");
+        if (workInBackground(null, aStrategyResponse.getHttpCode(), aStrategyResponse.getResponse()))
+            sendBroadcastForOk(true);
+    }
+
+    private void storeInCache(StrategyHttpResponse aStrategyResponse) {
+        String cacheKey = mCacheKey;
+        mCacheKey = null;
+        if (cacheKey != null && aStrategyResponse != null && aStrategyResponse.getStream() == null && isCacheableResponse(aStrategyResponse))
+            getResponseCache().put(cacheKey, new CachedHttpResponse(aStrategyResponse, getCacheTimeToLive()));
+    }
 
     /**
-     * {@inheritDoc}
+     * Retry the request if the retry policy allows it with the exception or the http code obtained.
+     * It is checked before sharing the response, so the equal strategies waiting for this one only
+     * receive the response of the last attempt.
+     *
+     * @return true if the request will be retried and the response must be discarded.
      */
-    @Override
-    public void parseResponse(final Exception anException, final StrategyHttpResponse aStrategyResponse) {
-        AsyncTask<Void, Void, Boolean> task = new AsyncTask<Void, Void, Boolean>() {
-            String aString = "";
-            Integer aHttpCode = 0;
+    private boolean retry(Exception anException, StrategyHttpResponse aStrategyResponse) {
+        RetryPolicy retryPolicy = getRetryPolicy();
+        if (retryPolicy == null || isCancelled() || mAttempt >= retryPolicy.getMaxAttempts()
+                || !retryPolicy.isRetryable(anException, aStrategyResponse != null ? aStrategyResponse.getHttpCode() : null)
+                || !allowRequest())
+            return false;
+        if (aStrategyResponse != null)
+            closeQuietly(aStrategyResponse.getStream());
+        mLogger.info(String.format("The attempt %s failed", mAttempt));
+        OperationMetrics.countRetry(mOperation, this);
+        retryRequest(retryPolicy.getBackoff(mAttempt++));
+        return true;
+    }
 
+    /**
+     * Store the strategy in the outbox without blocking the thread UI with the disk, and then finish it in the thread UI.
+     */
+    private void storeInOutbox() {
+        Outbox.getInstance(OperationApp.getInstance()).add(getOutboxKey(), this, new IOutboxCallback() {
             @Override
-            protected void onPreExecute() {
-                if (aStrategyResponse != null) {
-                    aString = aStrategyResponse.getResponse();
-                    aHttpCode = aStrategyResponse.getHttpCode();
-                }
-                if (anException != null)
-                    mLogger.log(Level.SEVERE, String.format("Parsing response: %s", anException.getMessage()), anException);
-                if (TextUtils.isEmpty(aString) || !(aString.startsWith("{") || aString.startsWith("[")))
-                    mLogger.severe(String.format("Parsing response: %s", aString));
-                else
-                    mLogger.info(String.format("Parsing response: %s", aString));
+            public void onStored(OperationStrategy aStrategy) {
+                mLogger.info("The strategy was stored in the outbox");
+                Utils.runOnThreadUI(new Runnable() {
+                    @Override
+                    public void run() {
+                        finishWithoutResponse(null);
+                    }
+                });
             }
 
             @Override
-            protected Boolean doInBackground(Void... params) {
-                return workInBackground(anException, aHttpCode, aString);
+            public void onStoreFailed(OperationStrategy aStrategy, IOException anException) {
+                mLogger.log(Level.SEVERE, "The strategy can't be stored in the outbox", anException);
+                Utils.runOnThreadUI(new Runnable() {
+                    @Override
+                    public void run() {
+                        onOffline();
+                    }
+                });
             }
+        });
+    }
 
-            @Override
-            protected void onPostExecute(Boolean result) {
-                afterWorkInBackground(result);
-            }
-        };
-        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.HONEYCOMB) {
-            task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR, ((Void) null));
+    private void onOffline() {
+        if (isQueueWhileOffline()) {
+            ConnectivityMonitor.getInstance(OperationApp.getInstance()).enqueue(this);
         } else {
-            task.execute();
+            finishWithoutResponse(OperationResult.NO_INTERNET);
         }
     }
 
+    private boolean allowRequest() {
+        CircuitBreaker circuitBreaker = getCircuitBreaker();
+        return circuitBreaker == null || circuitBreaker.allowRequest();
+    }
+
+    /**
+     * Notify the result of the request to the circuit breaker of the host. The cached responses are not notified.
+     */
+    private void onCircuitBreakerResult(Exception anException, StrategyHttpResponse aStrategyResponse) {
+        CircuitBreaker circuitBreaker = mRequestCircuitBreaker;
+        mRequestCircuitBreaker = null;
+        if (circuitBreaker != null)
+            circuitBreaker.onResult(circuitBreaker.getPolicy().isFailure(anException, aStrategyResponse != null ? aStrategyResponse.getHttpCode() : null));
+    }
+    //endregion
+
+    //region IOperationHttpParser implementation
+
+    /**
+     * A stream can be read only once, so it is read as a string to share it and then it is closed.
+     */
+    @Override
+    protected StrategyHttpResponse shareResponse(StrategyHttpResponse aStrategyResponse) {
+        if (aStrategyResponse == null || aStrategyResponse.getStream() == null)
+            return aStrategyResponse;
+        String body = readStream(aStrategyResponse.getStream());
+        closeQuietly(aStrategyResponse.getStream());
+        StrategyHttpResponse response = new StrategyHttpResponse(aStrategyResponse.getHttpCode(), body);
+        response.setHeader(StrategyHttpResponse.HEADER_ETAG, aStrategyResponse.getHeader(StrategyHttpResponse.HEADER_ETAG));
+        response.setHeader(StrategyHttpResponse.HEADER_LAST_MODIFIED, aStrategyResponse.getHeader(StrategyHttpResponse.HEADER_LAST_MODIFIED));
+        return response;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void parseResponse(final Exception anException, StrategyHttpResponse aResponse) {
+        onCircuitBreakerResult(anException, aResponse);
+        if (retry(anException, aResponse))
+            return;
+        analyzeInBackground(new ResponseAnalysis(anException, notifyCoalescedStrategies(anException, resolveNotModified(anException, aResponse))));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -139,5 +566,108 @@ public abstract class HttpOperationStrategy extends OperationStrategy<StrategyHt
             return true;
         }
     }
+
+    /**
+     * Like {@link #workInBackground(Exception, Integer, String)} but the body is parsed while it is read
+     * if the analyzer is an {@link IStrategyHttpStreamAnalyzer}. In other case it is read as a string.
+     * The stream is always closed.
+     *
+     * @param anException The exception occurred.
+     * @param aHttpCode   The http code obtained
+     * @param aStream     The body obtained
+     * @return true if is an http code expected and can parse the body, false in other case.
+     */
+    protected Boolean workInBackground(Exception anException, Integer aHttpCode, InputStream aStream) {
+        try {
+            if (anException != null || !(getAnalyzer() instanceof IStrategyHttpStreamAnalyzer))
+                return workInBackground(anException, aHttpCode, anException != null ? "" : readStream(aStream));
+            getAnalyzer().reset();
+            mLogger.info("Work in background");
+            try {
+                if (!((IStrategyHttpStreamAnalyzer) getAnalyzer()).analyzeResult(aHttpCode, aStream))
+                    throw new UnexpectedResponseException();
+            } catch (Exception e2) {
+                mLogger.log(Level.INFO, "Error in analyzeResult: " + e2.getMessage(), e2);
+                getAnalyzer().analyzeException(e2);
+                return false;
+            }
+            return true;
+        } finally {
+            closeQuietly(aStream);
+        }
+    }
+
+    private String readStream(InputStream aStream) {
+        StringBuilder builder = new StringBuilder();
+        try {
+            Reader reader = new InputStreamReader(aStream, "UTF-8");
+            char[] buffer = new char[4096];
+            int read;
+            while ((read = reader.read(buffer)) != -1)
+                builder.append(buffer, 0, read);
+        } catch (IOException e) {
+            mLogger.log(Level.SEVERE, "Error reading the response: " + e.getMessage(), e);
+        }
+        return builder.toString();
+    }
+
+    private static void closeQuietly(InputStream aStream) {
+        if (aStream == null)
+            return;
+        try {
+            aStream.close();
+        } catch (IOException ignored) {
+        }
+    }
     //endregion
+
+    /**
+     * The analysis of a response. It is closed if the response is discarded without analyzing it,
+     * so the connection of a stream is released.
+     */
+    private class ResponseAnalysis implements Callable<Boolean>, Closeable {
+        private final Exception mException;
+        private final StrategyHttpResponse mResponse;
+
+        ResponseAnalysis(Exception anException, StrategyHttpResponse aResponse) {
+            mException = anException;
+            mResponse = aResponse;
+        }
+
+        @Override
+        public Boolean call() {
+            StrategyHttpResponse response = mResponse;
+            if (response != null && response.getStream() != null) {
+                if (mException != null || mCacheKey == null || !isCacheableResponse(response)) {
+                    mLogger.info("Parsing response as stream");
+                    return workInBackground(mException, response.getHttpCode(), response.getStream());
+                }
+                // The cache stores strings, so the stream is read before the analysis
+                mLogger.info("Buffering the stream to store it in the cache");
+                response = shareResponse(response);
+            }
+            String aString = "";
+            Integer aHttpCode = 0;
+            if (response != null) {
+                aString = response.getResponse();
+                aHttpCode = response.getHttpCode();
+            }
+            if (mException != null)
+                mLogger.log(Level.SEVERE, String.format("Parsing response: %s", mException.getMessage()), mException);
+            if (TextUtils.isEmpty(aString) || !(aString.startsWith("{") || aString.startsWith("[")))
+                mLogger.severe(String.format("Parsing response: %s", aString));
+            else
+                mLogger.info(String.format("Parsing response: %s", aString));
+            Boolean result = workInBackground(mException, aHttpCode, aString);
+            if (result)
+                storeInCache(response);
+            return result;
+        }
+
+        @Override
+        public void close() {
+            if (mResponse != null)
+                closeQuietly(mResponse.getStream());
+        }
+    }
 }
\ No newline at end of file
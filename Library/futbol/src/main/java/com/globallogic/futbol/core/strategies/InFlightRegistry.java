@@ -0,0 +1,85 @@
+package com.globallogic.futbol.core.strategies;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Keeps the strategies that are doing a request, so an equal strategy executed meanwhile
+ * waits for the same response instead of doing the same request again.
+ *
+ * @author facundo.mengoni
+ * @see OperationStrategy#isCoalescable()
+ * @since 0.3.8
+ */
+final class InFlightRegistry {
+    private static final HashMap<OperationStrategy, InFlightRequest> sRequests = new HashMap<>();
+
+    private InFlightRegistry() {
+    }
+
+    /**
+     * Attach the strategy to an equal strategy in execution or register it as the one that does the request.
+     *
+     * @param aStrategy The strategy that is going to do the request.
+     * @return true if it was attached to other strategy and it mustn't do the request, false in other case.
+     */
+    static synchronized boolean attach(OperationStrategy aStrategy) {
+        InFlightRequest request = sRequests.get(aStrategy);
+        if (request != null && request.leader != aStrategy) {
+            request.followers.add(aStrategy);
+            return true;
+        }
+        sRequests.put(aStrategy, new InFlightRequest(aStrategy));
+        return false;
+    }
+
+    /**
+     * Remove the request of the strategy.
+     *
+     * @param aStrategy The strategy that did the request.
+     * @return The strategies that were waiting for its response.
+     */
+    static synchronized List<OperationStrategy> complete(OperationStrategy aStrategy) {
+        InFlightRequest request = sRequests.get(aStrategy);
+        if (request == null || request.leader != aStrategy)
+            return new ArrayList<>();
+        sRequests.remove(aStrategy);
+        return request.followers;
+    }
+
+    /**
+     * Remove a strategy cancelled. If it is waiting for other strategy it won't receive the response.
+     *
+     * @param aStrategy The strategy cancelled.
+     * @return true if it is doing the request and other strategies are waiting for the response,
+     * so the request must continue. False in other case.
+     */
+    static synchronized boolean cancel(OperationStrategy aStrategy) {
+        InFlightRequest request = sRequests.get(aStrategy);
+        if (request == null)
+            return false;
+        if (request.leader != aStrategy) {
+            for (int i = 0; i < request.followers.size(); i++) {
+                if (request.followers.get(i) == aStrategy) {
+                    request.followers.remove(i);
+                    break;
+                }
+            }
+            return false;
+        }
+        if (!request.followers.isEmpty())
+            return true;
+        sRequests.remove(aStrategy);
+        return false;
+    }
+
+    private static class InFlightRequest {
+        final OperationStrategy leader;
+        final ArrayList<OperationStrategy> followers = new ArrayList<>();
+
+        InFlightRequest(OperationStrategy aLeader) {
+            leader = aLeader;
+        }
+    }
+}
@@ -5,15 +5,35 @@ import android.os.AsyncTask;
 import android.os.Build;
 
 import com.globallogic.futbol.core.OperationResult;
-import com.globallogic.futbol.core.broadcasts.OperationBroadcastReceiverHelper;
+import com.globallogic.futbol.core.ResultFreshness;
+import com.globallogic.futbol.core.executors.StrategyExecutor;
 import com.globallogic.futbol.core.interfaces.IStrategy;
 import com.globallogic.futbol.core.interfaces.analyzers.IStrategyAnalyzer;
+import com.globallogic.futbol.core.interfaces.analyzers.IStrategyResultAnalyzer;
+import com.globallogic.futbol.core.interfaces.callbacks.IStrategyFinishCallback;
 import com.globallogic.futbol.core.interfaces.parsers.IOperationParser;
+import com.globallogic.futbol.core.metrics.MetricsPhase;
+import com.globallogic.futbol.core.metrics.OperationMetrics;
 import com.globallogic.futbol.core.operations.Operation;
+import com.globallogic.futbol.core.operations.OperationExecution;
 import com.globallogic.futbol.core.responses.StrategyResponse;
+import com.globallogic.futbol.core.utils.Utils;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
-import java.util.Calendar;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -26,14 +46,37 @@ import java.util.logging.Logger;
  * @since 0.1.0
  */
 public abstract class OperationStrategy<T extends StrategyResponse> implements IStrategy, IOperationParser<T>, Serializable {
+    //region Constants
+    private static final long serialVersionUID = 1L;
+    private static final AtomicReferenceFieldUpdater<OperationStrategy, OperationExecution> EXECUTION = AtomicReferenceFieldUpdater.newUpdater(OperationStrategy.class, OperationExecution.class, "mExecution");
+    private static final AtomicIntegerFieldUpdater<OperationStrategy> DEPENDENTS_NOTIFIED = AtomicIntegerFieldUpdater.newUpdater(OperationStrategy.class, "mDependentsNotified");
+    //endregion
+
     //region Variables
     final protected Operation mOperation;
     //region Logger
     public transient Logger mLogger;
     //endregion
-    protected Long timeInit;
-    protected Long mConnectionDelay = 0L;
+    /**
+     * The value of {@link System#nanoTime()} when the strategy was executed or 0 if it wasn't executed.
+     */
+    protected long timeInit;
+    protected long mConnectionDelay = 0L;
     private IStrategyAnalyzer mAnalyzer;
+    private transient long mQueuedAt;
+    private transient long mRequestStartedAt;
+    private transient long mAnalyzedAt;
+    private transient volatile Future<?> mDelayedRequest;
+    private transient volatile AsyncTask<Void, Void, ?> mRequestTask;
+    private transient volatile AsyncTask<Void, Void, ?> mAnalysisTask;
+    private transient volatile boolean mCancelled;
+    private transient volatile OperationExecution mExecution;
+    private transient ArrayList<OperationStrategy> mDependencies;
+    private transient ArrayList<OperationStrategy> mDependents;
+    private transient AtomicInteger mPendingDependencies;
+    private transient volatile boolean mDependencyFailed;
+    private transient volatile int mDependentsNotified;
+    private transient IStrategyFinishCallback mFinishCallback;
 
     {
         mLogger = Logger.getLogger(getClass().getSimpleName());
@@ -51,7 +94,7 @@ public abstract class OperationStrategy<T extends StrategyResponse> implements I
     //region Getters & Setters implementation
 
     /**
-     * @return A time delay for the operation.
+     * @return A time delay for the operation in milliseconds. It is boxed to keep the signature of the previous versions.
      * @see #setConnectionDelay(long)
      * @see OperationStrategy#simulateWaiting()
      */
@@ -78,7 +121,7 @@ public abstract class OperationStrategy<T extends StrategyResponse> implements I
      * @see OperationStrategy#simulateWaiting()
      */
     public void setConnectionDelay(int duration) {
-        this.mConnectionDelay = (long) duration;
+        this.mConnectionDelay = duration;
     }
 
     /**
@@ -89,6 +132,71 @@ public abstract class OperationStrategy<T extends StrategyResponse> implements I
     public IStrategyAnalyzer getAnalyzer() {
         return mAnalyzer;
     }
+
+    /**
+     * @return The operation that this strategy belongs to.
+     */
+    public Operation getOperation() {
+        return mOperation;
+    }
+
+    /**
+     * @return The execution of the operation that this strategy belongs to, or null if it already
+     * finished or it was cancelled.
+     */
+    public OperationExecution getExecution() {
+        return mExecution;
+    }
+
+    /**
+     * Defines the execution of the operation that this strategy belongs to. It is called by the operation.
+     *
+     * @see Operation#performOperation(Object...)
+     */
+    public void setExecution(OperationExecution anExecution) {
+        this.mExecution = anExecution;
+    }
+
+    /**
+     * Remove the strategy from its execution. It succeeds only once, so the strategy is counted
+     * once by the operation even if it finishes and it is cancelled at the same time.
+     *
+     * @param anExecution The execution that the strategy is expected to belong to.
+     * @return true if the strategy belonged to the execution and it was removed.
+     * @see Operation#onStrategyFinish(OperationStrategy)
+     */
+    public boolean detachExecution(OperationExecution anExecution) {
+        return anExecution != null && EXECUTION.compareAndSet(this, anExecution, null);
+    }
+
+    /**
+     * @return The object obtained by the analyzer if it is an {@link IStrategyResultAnalyzer}, in other case null.
+     * The dependent strategies use it in {@link #onDependenciesCompleted()} to obtain the output of their dependencies.
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R getResult() {
+        if (getAnalyzer() instanceof IStrategyResultAnalyzer)
+            return (R) ((IStrategyResultAnalyzer) getAnalyzer()).getResult();
+        return null;
+    }
+
+    /**
+     * @return The strategies that must finish successfully before this one is executed.
+     * @see #dependsOn(OperationStrategy...)
+     */
+    public List<OperationStrategy> getDependencies() {
+        if (mDependencies == null)
+            return Collections.emptyList();
+        return Collections.unmodifiableList(mDependencies);
+    }
+
+    /**
+     * @return The executor where this strategy does its work.
+     * @see Operation#getExecutor()
+     */
+    public StrategyExecutor getExecutor() {
+        return mOperation.getExecutor();
+    }
     //endregion
 
     //region IStrategy implementation
@@ -97,7 +205,7 @@ public abstract class OperationStrategy<T extends StrategyResponse> implements I
      * {@inheritDoc}
      */
     public void execute() {
-        timeInit = Calendar.getInstance().getTimeInMillis();
+        timeInit = System.nanoTime();
         if (mConnectionDelay > 0) {
             simulateWaiting();
         } else {
@@ -109,39 +217,112 @@ public abstract class OperationStrategy<T extends StrategyResponse> implements I
      * {@inheritDoc}
      */
     public void sendBroadcastForOk() {
-        mLogger.info("Sending broadcast for success");
-        Intent intent = new Intent();
-        intent.putExtra(OperationResult.EXTRA_OPERATION_RESULT, OperationResult.OK.name);
-        getAnalyzer().addExtrasForResultOk(intent);
-
-        String actionWithId = OperationBroadcastReceiverHelper.getActionForOk(mOperation);
-        intent.setAction(actionWithId);
-        mOperation.sendBroadcast(intent);
-
-        String actionWithOutID = OperationBroadcastReceiverHelper.getActionForOk(mOperation.getClass());
-        if (!actionWithId.equals(actionWithOutID)) {
-            intent.setAction(actionWithOutID);
-            mOperation.sendBroadcast(intent);
-        }
+        sendBroadcastForOk(isLocalSource());
     }
 
     /**
      * {@inheritDoc}
      */
     public void sendBroadcastForError() {
+        if (mCancelled)
+            return;
         mLogger.info("Sending broadcast for error");
+        if (mOperation.isTypedDispatch()) {
+            mOperation.sendEvent(OperationResult.ERROR, this);
+            return;
+        }
         Intent intent = new Intent();
-        intent.putExtra(OperationResult.EXTRA_OPERATION_RESULT, OperationResult.ERROR.name);
         getAnalyzer().addExtrasForResultError(intent);
+        mOperation.sendBroadcast(OperationResult.ERROR, intent);
+    }
+    //endregion
+
+    //region Dependencies implementation
+
+    /**
+     * Defines a callback to know when this strategy finishes, whatever the result is. It isn't serialized.
+     */
+    public void setFinishCallback(IStrategyFinishCallback aFinishCallback) {
+        mFinishCallback = aFinishCallback;
+    }
+
+    /**
+     * Defines that this strategy must be executed after the strategies received finish successfully.
+     * The strategies must belong to the same call to {@link Operation#getStrategies(Object...)}, so an
+     * operation can define a graph of strategies where the independent ones run in parallel.
+     * <p>
+     * When the last dependency finishes this strategy is executed from the thread UI, like the strategies
+     * executed by the operation. In direct pipeline mode the analysis of the dependencies is still done
+     * outside the thread UI. If a dependency fails or it is
+     * cancelled this strategy is skipped: it isn't executed and it doesn't notify any result.
+     *
+     * @param aStrategies The strategies that this one depends on.
+     * @return This strategy.
+     * @see #onDependenciesCompleted()
+     * @see Operation#setDirectPipeline(boolean)
+     */
+    public OperationStrategy dependsOn(OperationStrategy... aStrategies) {
+        if (mDependencies == null)
+            mDependencies = new ArrayList<>();
+        for (OperationStrategy strategy : aStrategies) {
+            mDependencies.add(strategy);
+            if (strategy.mDependents == null)
+                strategy.mDependents = new ArrayList<>();
+            strategy.mDependents.add(this);
+        }
+        mPendingDependencies = new AtomicInteger(mDependencies.size());
+        return this;
+    }
 
-        String actionWithId = OperationBroadcastReceiverHelper.getActionForError(mOperation);
-        intent.setAction(actionWithId);
-        mOperation.sendBroadcast(intent);
+    /**
+     * Called when all the dependencies finished successfully, just before this strategy is executed.
+     * Override it to prepare the request with the results of the dependencies.
+     *
+     * @see #getDependencies()
+     * @see #getResult()
+     */
+    protected void onDependenciesCompleted() {
+    }
+
+    /**
+     * Notify the finish callback and the strategies that depend on this one that it finished.
+     * It must be called before notifying the operation that this strategy finished. Only the first call has effect.
+     *
+     * @param aSucceeded true if the result was ok.
+     * @see Operation#onStrategyFinish(OperationStrategy)
+     * @see #setFinishCallback(IStrategyFinishCallback)
+     */
+    protected void notifyDependents(boolean aSucceeded) {
+        if (!DEPENDENTS_NOTIFIED.compareAndSet(this, 0, 1))
+            return;
+        IStrategyFinishCallback finishCallback = mFinishCallback;
+        if (finishCallback != null)
+            finishCallback.onStrategyFinished(this, aSucceeded);
+        if (mDependents == null)
+            return;
+        for (OperationStrategy dependent : mDependents)
+            dependent.onDependencyFinished(aSucceeded);
+    }
 
-        String actionWithOutID = OperationBroadcastReceiverHelper.getActionForError(mOperation.getClass());
-        if (!actionWithId.equals(actionWithOutID)) {
-            intent.setAction(actionWithOutID);
-            mOperation.sendBroadcast(intent);
+    private void onDependencyFinished(boolean aSucceeded) {
+        if (!aSucceeded)
+            mDependencyFailed = true;
+        if (mPendingDependencies.decrementAndGet() != 0 || mCancelled)
+            return;
+        if (mDependencyFailed) {
+            mLogger.info("Skipping strategy because a dependency failed");
+            finishWithoutResponse(null);
+        } else {
+            // The dependency can finish in any thread, but the strategies create their tasks from the thread UI
+            Utils.runOnThreadUI(new Runnable() {
+                @Override
+                public void run() {
+                    if (mCancelled)
+                        return;
+                    onDependenciesCompleted();
+                    execute();
+                }
+            });
         }
     }
     //endregion
@@ -149,7 +330,9 @@ public abstract class OperationStrategy<T extends StrategyResponse> implements I
     //region Strategy implementation
 
     /**
-     * Simulate a delay in the connection and then execute the request
+     * Simulate a delay in the connection and then execute the request.
+     * The delay is scheduled in {@link StrategyExecutor#getScheduler()}, so no thread waits for it,
+     * and it can be cancelled with {@link #cancel()}.
      *
      * @see #setConnectionDelay(int)
      * @see #setConnectionDelay(long)
@@ -157,41 +340,272 @@ public abstract class OperationStrategy<T extends StrategyResponse> implements I
      */
     private void simulateWaiting() {
         mLogger.info("Simulating waiting");
-        new AsyncTask<Void, Void, Void>() {
+        scheduleRequest(new Runnable() {
             @Override
-            protected Void doInBackground(Void... voids) {
-                try {
-                    Thread.sleep(mConnectionDelay.intValue());
-                } catch (InterruptedException e) {
-                    //Nothing to do
-                }
-                return null;
+            public void run() {
+                mDelayedRequest = null;
+                mLogger.info("Finished simulating waiting");
+                doRequestImplInBackground();
             }
+        }, mConnectionDelay);
+    }
 
+    /**
+     * Do the request again after a delay. The strategy is still in execution, so the operation doesn't
+     * send broadcasts for it, and it is not attached again to the {@link InFlightRegistry} because the
+     * equal strategies are already waiting for this one.
+     * The delay is scheduled in {@link StrategyExecutor#getScheduler()} and it can be cancelled with {@link #cancel()},
+     * unless other strategies are waiting for the response: then the retry is done for them.
+     *
+     * @param aDelay The milliseconds to wait before the request.
+     * @see HttpOperationStrategy#setRetryPolicy(com.globallogic.futbol.core.policies.RetryPolicy)
+     */
+    protected void retryRequest(long aDelay) {
+        if (!isRequestNeeded())
+            return;
+        mLogger.info(String.format("Retrying the request in %s milliseconds", aDelay));
+        scheduleRequest(new Runnable() {
             @Override
-            protected void onPostExecute(Void aVoid) {
-                super.onPostExecute(aVoid);
-                mLogger.info("Finished simulating waiting");
-                doRequestImplInBackground();
+            public void run() {
+                mDelayedRequest = null;
+                submitRequest();
             }
-        }.execute((Void) null);
+        }, aDelay);
+    }
+
+    private void scheduleRequest(Runnable aRequest, long aDelay) {
+        try {
+            mDelayedRequest = getExecutor().getScheduler().schedule(aRequest, aDelay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            mLogger.log(Level.SEVERE, "The delay was rejected by the scheduler", e);
+            parseResponse(e, null);
+        }
     }
 
     protected void doRequestImplInBackground() {
+        if (mCancelled)
+            return;
+        if (isCoalescable() && InFlightRegistry.attach(this)) {
+            mLogger.info("Waiting the response of an equal strategy in execution");
+            return;
+        }
+        submitRequest();
+    }
+
+    private void submitRequest() {
+        if (!isRequestNeeded())
+            return;
         AsyncTask<Void, Void, Void> task = new AsyncTask<Void, Void, Void>() {
             @Override
             protected Void doInBackground(Void... params) {
-                doRequestImpl();
+                if (isCancelled())
+                    return null;
+                mRequestStartedAt = getMetricsTime();
+                recordMetrics(MetricsPhase.QUEUE_WAIT, mQueuedAt, mRequestStartedAt);
+                obtainResponse();
                 return null;
             }
         };
+        mQueuedAt = getMetricsTime();
+        mRequestTask = task;
+        try {
+            executeOnExecutor(task, getExecutor().getIoExecutor());
+        } catch (RejectedExecutionException e) {
+            mLogger.log(Level.SEVERE, "The request was rejected by the executor", e);
+            parseResponse(e, null);
+        }
+    }
+
+    /**
+     * A cancelled strategy still does its request if other strategies are waiting for its response.
+     * If nobody is waiting it is removed from the {@link InFlightRegistry}, so the next equal strategy
+     * does its own request instead of waiting for this one.
+     *
+     * @return true if the request must be done.
+     */
+    private boolean isRequestNeeded() {
+        return !mCancelled || isCoalescable() && InFlightRegistry.cancel(this);
+    }
+
+    /**
+     * Execute the task in the specified executor if the platform allows it.
+     *
+     * @param aTask      The task to execute.
+     * @param anExecutor The executor where the task must be executed.
+     * @throws RejectedExecutionException If the executor can't accept the task.
+     * @see StrategyExecutor
+     */
+    protected static void executeOnExecutor(AsyncTask<Void, ?, ?> aTask, Executor anExecutor) {
         if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.HONEYCOMB) {
-            task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR, ((Void) null));
+            aTask.executeOnExecutor(anExecutor, ((Void) null));
         } else {
-            task.execute();
+            aTask.execute();
         }
     }
 
+    /**
+     * Defines if this strategy can share the response of an equal strategy that is in execution,
+     * even if they belong to different operations. It uses {@link #equals(Object)} and {@link #hashCode()}
+     * to compare the strategies, so they must consider everything that defines the request.
+     * <p>
+     * Only requests without side effects should return true.
+     *
+     * @return false by default.
+     * @see #notifyCoalescedStrategies(Exception, StrategyResponse)
+     */
+    protected boolean isCoalescable() {
+        return false;
+    }
+
+    /**
+     * Deliver the response to the equal strategies that were waiting for it.
+     * It must be called when the response is obtained, before analyzing it.
+     *
+     * @param anException       The exception occurred.
+     * @param aStrategyResponse The response obtained.
+     * @return The response that this strategy must analyze.
+     * @see #isCoalescable()
+     * @see #shareResponse(StrategyResponse)
+     */
+    protected T notifyCoalescedStrategies(Exception anException, T aStrategyResponse) {
+        if (!isCoalescable())
+            return aStrategyResponse;
+        List<OperationStrategy> followers = InFlightRegistry.complete(this);
+        if (followers.isEmpty())
+            return aStrategyResponse;
+        T response = shareResponse(aStrategyResponse);
+        for (OperationStrategy follower : followers) {
+            //noinspection unchecked
+            follower.parseResponse(anException, response);
+        }
+        return response;
+    }
+
+    /**
+     * Prepare a response to be analyzed by more than one strategy. By default it is shared as is.
+     *
+     * @param aStrategyResponse The response obtained.
+     * @return A response that can be analyzed more than once.
+     */
+    protected T shareResponse(T aStrategyResponse) {
+        return aStrategyResponse;
+    }
+
+    /**
+     * Do the analysis of the response outside the thread UI and then call {@link #afterWorkInBackground(Boolean)}.
+     * <p>
+     * By default the analysis is done in the analysis executor and the result is notified from the thread UI.
+     * If the operation is in direct pipeline mode the analysis is done in the thread that obtained the response
+     * (or in the analysis executor if it was obtained in the thread UI) and the result is notified from there.
+     * If the analysis executor rejects the response the strategy fails.
+     * <p>
+     * If the work is {@link Closeable} it is closed when the response is discarded without analyzing it,
+     * because the strategy was cancelled or the analysis was rejected, so it can release the response.
+     *
+     * @param aWork The analysis to do. It returns the result of the strategy.
+     * @see Operation#setDirectPipeline(boolean)
+     * @see StrategyExecutor#getCpuExecutor()
+     */
+    protected void analyzeInBackground(final Callable<Boolean> aWork) {
+        recordMetrics(MetricsPhase.REQUEST, mRequestStartedAt, getMetricsTime());
+        mRequestStartedAt = 0;
+        mRequestTask = null;
+        if (mCancelled) {
+            mLogger.info("Discarding the response of a cancelled strategy");
+            discardWork(aWork);
+            return;
+        }
+        if (mOperation.isDirectPipeline()) {
+            Runnable pipeline = new Runnable() {
+                @Override
+                public void run() {
+                    afterWorkInBackground(callAnalysis(aWork));
+                }
+            };
+            if (Utils.isThreadUI()) {
+                try {
+                    getExecutor().getCpuExecutor().execute(pipeline);
+                } catch (RejectedExecutionException e) {
+                    onAnalysisRejected(aWork, e);
+                }
+            } else {
+                pipeline.run();
+            }
+        } else {
+            AsyncTask<Void, Void, Boolean> task = new AsyncTask<Void, Void, Boolean>() {
+                @Override
+                protected Boolean doInBackground(Void... params) {
+                    return callAnalysis(aWork);
+                }
+
+                @Override
+                protected void onPostExecute(Boolean result) {
+                    mAnalysisTask = null;
+                    afterWorkInBackground(result);
+                }
+
+                @Override
+                protected void onCancelled() {
+                    discardWork(aWork);
+                }
+            };
+            mAnalysisTask = task;
+            try {
+                executeOnExecutor(task, getExecutor().getCpuExecutor());
+            } catch (RejectedExecutionException e) {
+                mAnalysisTask = null;
+                onAnalysisRejected(aWork, e);
+            }
+        }
+    }
+
+    /**
+     * The analysis executor didn't accept the response, so the strategy fails instead of waiting forever.
+     */
+    private void onAnalysisRejected(Callable<Boolean> aWork, RejectedExecutionException anException) {
+        mLogger.log(Level.SEVERE, "The analysis was rejected by the executor", anException);
+        discardWork(aWork);
+        mAnalyzedAt = getMetricsTime();
+        afterWorkInBackground(false);
+    }
+
+    private Boolean callAnalysis(Callable<Boolean> aWork) {
+        if (mCancelled) {
+            discardWork(aWork);
+            return false;
+        }
+        long analysisStartedAt = getMetricsTime();
+        try {
+            return aWork.call();
+        } catch (Exception e) {
+            mLogger.log(Level.SEVERE, "Error analyzing the response: " + e.getMessage(), e);
+            return false;
+        } finally {
+            mAnalyzedAt = getMetricsTime();
+            recordMetrics(MetricsPhase.ANALYZE, analysisStartedAt, mAnalyzedAt);
+        }
+    }
+
+    private void discardWork(Callable<Boolean> aWork) {
+        if (!(aWork instanceof Closeable))
+            return;
+        try {
+            ((Closeable) aWork).close();
+        } catch (IOException e) {
+            mLogger.log(Level.INFO, "Error releasing the response discarded", e);
+        }
+    }
+
+    /**
+     * It is executed in the I/O executor to obtain the response. By default it calls {@link #doRequestImpl()},
+     * subclasses can override it to obtain the response from another source before doing the request.
+     *
+     * @see HttpOperationStrategy#obtainResponse()
+     */
+    protected void obtainResponse() {
+        doRequestImpl();
+    }
+
     /**
      * You must obtain the response an call the parse response
      *
@@ -199,6 +613,55 @@ public abstract class OperationStrategy<T extends StrategyResponse> implements I
      */
     protected abstract void doRequestImpl();
 
+    /**
+     * Notify a successful result. If the operation is in stale-while-revalidate mode the result is sent
+     * with its {@link ResultFreshness}, or it is discarded if it is stale and the fresh one was already sent.
+     *
+     * @param aStale True if the result was obtained from a local source.
+     * @see Operation#setStaleWhileRevalidate(boolean)
+     */
+    protected void sendBroadcastForOk(boolean aStale) {
+        if (mCancelled)
+            return;
+        mLogger.info("Sending broadcast for success");
+        if (!mOperation.isStaleWhileRevalidate()) {
+            sendResultOk(ResultFreshness.FRESH);
+            return;
+        }
+        Object result = null;
+        if (getAnalyzer() instanceof IStrategyResultAnalyzer)
+            result = ((IStrategyResultAnalyzer) getAnalyzer()).getResult();
+        synchronized (mOperation) {
+            ResultFreshness freshness = mOperation.revalidate(aStale, result);
+            if (freshness == null) {
+                mLogger.info("Discarding the stale result because the fresh one was already sent");
+                return;
+            }
+            sendResultOk(freshness);
+        }
+    }
+
+    private void sendResultOk(ResultFreshness aFreshness) {
+        if (mOperation.isTypedDispatch()) {
+            mOperation.sendEvent(OperationResult.OK, this, aFreshness);
+            return;
+        }
+        Intent intent = new Intent();
+        getAnalyzer().addExtrasForResultOk(intent);
+        if (mOperation.isStaleWhileRevalidate())
+            aFreshness.addExtras(intent);
+        mOperation.sendBroadcast(OperationResult.OK, intent);
+    }
+
+    /**
+     * @return True if the results of this strategy are obtained from a local source and can be outdated,
+     * like a database. By default it is false.
+     * @see Operation#setStaleWhileRevalidate(boolean)
+     */
+    protected boolean isLocalSource() {
+        return false;
+    }
+
     /**
      * Send the broadcast to notify that the operation finished
      *
@@ -213,25 +676,178 @@ public abstract class OperationStrategy<T extends StrategyResponse> implements I
     }
 
     public void afterWorkInBackground(Boolean aResult) {
+        if (mCancelled) {
+            mLogger.info("Discarding the result of a cancelled strategy");
+            return;
+        }
         mLogger.info("After work in background");
-        afterWorkInBackgroundBroadcasts(aResult);
-        if (timeInit != null) {
-            long timeFinish = Calendar.getInstance().getTimeInMillis();
-            long difference = timeFinish - timeInit;
-            onStrategyFinish(difference);
+        if (race(aResult))
+            afterWorkInBackgroundBroadcasts(aResult);
+        notifyDependents(aResult);
+        long timeFinish = System.nanoTime();
+        recordMetrics(MetricsPhase.DELIVERY, mAnalyzedAt, timeFinish);
+        recordMetrics(MetricsPhase.TOTAL, timeInit, timeFinish);
+        OperationMetrics.count(mOperation, this, aResult ? OperationResult.OK : OperationResult.ERROR);
+        if (timeInit != 0)
+            onStrategyFinish(timeFinish - timeInit);
+    }
+
+    /**
+     * Finish the strategy without analyzing a response, for example because there is no connection or
+     * a dependency failed. It is a failure for the race and for the dependent strategies.
+     *
+     * @param aResult The result to notify, or null if the strategy finishes without notifying a result.
+     * @see Operation#race(OperationStrategy, boolean)
+     */
+    protected void finishWithoutResponse(OperationResult aResult) {
+        if (race(false) && aResult != null)
+            sendBroadcastForResult(aResult);
+        notifyDependents(false);
+        if (aResult != null)
+            OperationMetrics.count(mOperation, this, aResult);
+        mOperation.onStrategyFinish(this);
+    }
+
+    /**
+     * Notify a result without extras, like {@link OperationResult#NO_INTERNET}.
+     *
+     * @param aResult The result to notify.
+     */
+    protected void sendBroadcastForResult(OperationResult aResult) {
+        if (mCancelled)
+            return;
+        if (mOperation.isTypedDispatch()) {
+            mOperation.sendEvent(aResult, this);
+        } else {
+            mOperation.sendBroadcast(aResult, new Intent());
         }
     }
 
+    /**
+     * Every strategy that finishes calls it once, so in racing mode the operation knows when all of them failed.
+     *
+     * @return true if the result must be delivered.
+     */
+    private boolean race(boolean aResult) {
+        if (!mOperation.isRacing() || mOperation.race(this, aResult))
+            return true;
+        mLogger.info("Discarding the result because another strategy won the race or can still win it");
+        return false;
+    }
+
+    /**
+     * Called when the strategy is finished but before the receiver is notified.
+     * By default it calls {@link #onStrategyFinish(Long)}, so the subclasses that override it still work.
+     *
+     * @param duration The duration of the request from which start until finish, in nanoseconds.
+     *                 It is measured with {@link System#nanoTime()} so it isn't affected by the changes of the clock.
+     */
+    protected void onStrategyFinish(long duration) {
+        onStrategyFinish(Long.valueOf(TimeUnit.NANOSECONDS.toMillis(duration)));
+    }
+
     /**
      * Called when the strategy is finished but before the receiver is notified.
      *
-     * @param duration The duration of the request from which start until finish
+     * @param duration The duration of the request from which start until finish, in milliseconds.
+     * @deprecated Override {@link #onStrategyFinish(long)}, it receives the duration in nanoseconds without boxing it.
      */
+    @Deprecated
     protected void onStrategyFinish(Long duration) {
         mLogger.info("On operation finish");
         mOperation.onStrategyFinish(this);
     }
 
-    public abstract void cancel();
+    /**
+     * Cancel the strategy: the connection delay, the request and the analysis if they are waiting
+     * for a thread, and then the request in progress. The results obtained later are discarded and the
+     * operation isn't notified.
+     * <p>
+     * If other strategies are waiting for the response of this one the request and its retries aren't cancelled.
+     * <p>
+     * To cancel the request of a subclass override {@link #cancelRequest()}. The subclasses that still
+     * override this method must call {@code super.cancel()}, in other case the operation is never
+     * notified that the strategy finished.
+     *
+     * @see #cancelRequest()
+     * @see Operation#cancel()
+     */
+    public void cancel() {
+        if (mCancelled)
+            return;
+        mCancelled = true;
+        mLogger.info("Cancelling strategy");
+        OperationMetrics.count(mOperation, this, OperationResult.CANCELLED);
+        cancelWork();
+        // It doesn't deliver anything, but the race mustn't wait for it
+        race(false);
+        notifyDependents(false);
+        mOperation.onStrategyFinish(this);
+    }
+
+    private void cancelWork() {
+        AsyncTask<Void, Void, ?> analysisTask = mAnalysisTask;
+        if (analysisTask != null) {
+            mAnalysisTask = null;
+            analysisTask.cancel(false);
+        }
+        if (isCoalescable() && InFlightRegistry.cancel(this)) {
+            // A pending retry is kept too, in other case nobody would complete the request
+            mLogger.info("The request continues for the strategies waiting for its response");
+            return;
+        }
+        Future<?> delayedRequest = mDelayedRequest;
+        if (delayedRequest != null) {
+            mDelayedRequest = null;
+            delayedRequest.cancel(false);
+        }
+        AsyncTask<Void, Void, ?> requestTask = mRequestTask;
+        if (requestTask != null) {
+            mRequestTask = null;
+            requestTask.cancel(false);
+        }
+        cancelRequest();
+    }
+
+    /**
+     * @return true if the strategy was cancelled.
+     * @see #cancel()
+     */
+    public boolean isCancelled() {
+        return mCancelled;
+    }
+
+    /**
+     * Cancel the request if it was started. By default it does nothing, so the subclasses that only
+     * override {@link #cancel()} keep working.
+     *
+     * @see #cancel()
+     */
+    protected void cancelRequest() {
+    }
+    //endregion
+
+    //region Metrics implementation
+
+    /**
+     * @return The current time in nanoseconds if the metrics are enabled, in other case 0.
+     * @see OperationMetrics#setEnabled(boolean)
+     */
+    private static long getMetricsTime() {
+        return OperationMetrics.isEnabled() ? System.nanoTime() : 0;
+    }
+
+    private void recordMetrics(MetricsPhase aPhase, long aStart, long anEnd) {
+        if (aStart != 0 && anEnd != 0)
+            OperationMetrics.record(mOperation, this, aPhase, anEnd - aStart);
+    }
+    //endregion
+
+    //region Serializable implementation
+    private void readObject(ObjectInputStream anInput) throws IOException, ClassNotFoundException {
+        anInput.defaultReadObject();
+        mLogger = Logger.getLogger(getClass().getSimpleName());
+        mLogger.setLevel(Level.OFF);
+    }
     //endregion
-}
\ No newline at end of file
+}
@@ -1,8 +1,6 @@
 package com.globallogic.futbol.core.strategies;
 
 import android.annotation.TargetApi;
-import android.os.AsyncTask;
-import android.os.Build;
 
 import com.globallogic.futbol.core.exceptions.KeyNotFound;
 import com.globallogic.futbol.core.exceptions.UnexpectedResponseException;
@@ -17,6 +15,7 @@ import com.globallogic.futbol.core.interfaces.repository.StringSetRepository;
 import com.globallogic.futbol.core.operations.Operation;
 import com.globallogic.futbol.core.responses.StrategySharedPreferenceResponse;
 
+import java.util.concurrent.Callable;
 import java.util.logging.Level;
 
 /**
@@ -35,6 +34,8 @@ import java.util.logging.Level;
  * @since 0.3.4
  */
 public abstract class SharedPreferenceStrategy<T, U extends SharedPreferenceRepository> extends OperationStrategy<StrategySharedPreferenceResponse<T>> implements IOperationParser<StrategySharedPreferenceResponse<T>> {
+    private static final long serialVersionUID = 1L;
+
     protected final U mRepository;
     private boolean wasCanceled;
 
@@ -46,7 +47,7 @@ public abstract class SharedPreferenceStrategy<T, U extends SharedPreferenceRepo
     //endregion
 
     @Override
-    public void cancel() {
+    protected void cancelRequest() {
         wasCanceled = true;
     }
 
@@ -62,6 +63,14 @@ public abstract class SharedPreferenceStrategy<T, U extends SharedPreferenceRepo
     public IStrategySharedPreferenceAnalyzer getAnalyzer() {
         return (IStrategySharedPreferenceAnalyzer) super.getAnalyzer();
     }
+
+    /**
+     * The local data can be outdated, so it is delivered as stale in stale-while-revalidate mode.
+     */
+    @Override
+    protected boolean isLocalSource() {
+        return true;
+    }
     //endregion
 
     //region IOperationHttpParser implementation
@@ -70,34 +79,20 @@ public abstract class SharedPreferenceStrategy<T, U extends SharedPreferenceRepo
      */
     @Override
     public void parseResponse(final Exception anException, final StrategySharedPreferenceResponse<T> aStrategyResponse) {
-        AsyncTask<Void, Void, Boolean> task = new AsyncTask<Void, Void, Boolean>() {
-            T object = null;
-
+        notifyCoalescedStrategies(anException, aStrategyResponse);
+        analyzeInBackground(new Callable<Boolean>() {
             @Override
-            protected void onPreExecute() {
+            public Boolean call() {
+                T object = null;
                 if (aStrategyResponse != null) {
                     object = aStrategyResponse.getResult();
                 }
                 if (anException != null)
                     mLogger.log(Level.SEVERE, String.format("Parsing response: %s", anException.getMessage()), anException);
                 mLogger.info(String.format("Parsing response: %s", object));
-            }
-
-            @Override
-            protected Boolean doInBackground(Void... params) {
                 return workInBackground(anException, object);
             }
-
-            @Override
-            protected void onPostExecute(Boolean result) {
-                afterWorkInBackground(result);
-            }
-        };
-        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.HONEYCOMB) {
-            task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR, ((Void) null));
-        } else {
-            task.execute();
-        }
+        });
     }
 
     public Boolean workInBackground(Exception anException, T object) {
@@ -22,6 +22,8 @@ import java.util.concurrent.TimeoutException;
  * @param <T> The class of the expected response.
  */
 public class StrategyDbMock<T> extends DbOperationStrategy<T> {
+    private static final long serialVersionUID = 1L;
+
     public static final String DETAIL_MESSAGE = "Hardcode dummy exception";
     protected final ArrayList<StrategyDbResponse<T>> responses = new ArrayList<>();
     protected final ArrayList<Exception> responsesException = new ArrayList<>();
@@ -65,7 +67,7 @@ public class StrategyDbMock<T> extends DbOperationStrategy<T> {
     }
 
     @Override
-    public void cancel() {
+    protected void cancelRequest() {
         wasCanceled = true;
     }
 
@@ -19,6 +19,8 @@ import java.util.concurrent.TimeoutException;
  * It allows mock responses from the server.
  */
 public class StrategyHttpMock extends HttpOperationStrategy {
+    private static final long serialVersionUID = 1L;
+
     public static final String DETAIL_MESSAGE = "Hardcode dummy exception";
     protected final ArrayList<StrategyHttpResponse> responses = new ArrayList<>();
     protected final ArrayList<Exception> responsesException = new ArrayList<>();
@@ -62,7 +64,7 @@ public class StrategyHttpMock extends HttpOperationStrategy {
     }
 
     @Override
-    public void cancel() {
+    protected void cancelRequest() {
         wasCanceled = true;
     }
 
@@ -12,6 +12,8 @@ import com.globallogic.futbol.core.operations.Operation;
  * @since 0.3.6
  */
 public class GetBooleanSharedPreferenceStrategy extends GetSharedPreferenceStrategy<Boolean, BooleanRepository> {
+    private static final long serialVersionUID = 1L;
+
     public GetBooleanSharedPreferenceStrategy(Operation anOperation, IStrategySharedPreferenceAnalyzer anAnalyzer, BooleanRepository repository) {
         super(anOperation, anAnalyzer, repository);
     }
@@ -12,6 +12,8 @@ import com.globallogic.futbol.core.operations.Operation;
  * @since 0.3.6
  */
 public class GetIntegerSharedPreferenceStrategy extends GetSharedPreferenceStrategy<Integer, IntegerRepository> {
+    private static final long serialVersionUID = 1L;
+
     public GetIntegerSharedPreferenceStrategy(Operation anOperation, IStrategySharedPreferenceAnalyzer anAnalyzer, IntegerRepository repository) {
         super(anOperation, anAnalyzer, repository);
     }
@@ -14,6 +14,8 @@ import java.util.Set;
  * @since 0.3.6
  */
 public class GetStringSetSharedPreferenceStrategy extends GetSharedPreferenceStrategy<Set<String>, StringSetRepository> {
+    private static final long serialVersionUID = 1L;
+
     public GetStringSetSharedPreferenceStrategy(Operation anOperation, IStrategySharedPreferenceAnalyzer anAnalyzer, StringSetRepository repository) {
         super(anOperation, anAnalyzer, repository);
     }
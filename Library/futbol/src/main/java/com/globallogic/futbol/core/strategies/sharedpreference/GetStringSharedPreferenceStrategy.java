@@ -13,6 +13,8 @@ import com.globallogic.futbol.core.strategies.SharedPreferenceStrategy;
  * @since 0.3.6
  */
 public class GetStringSharedPreferenceStrategy extends GetSharedPreferenceStrategy<String, StringRepository> {
+    private static final long serialVersionUID = 1L;
+
     public GetStringSharedPreferenceStrategy(Operation anOperation, IStrategySharedPreferenceAnalyzer anAnalyzer, StringRepository repository) {
         super(anOperation, anAnalyzer, repository);
     }
@@ -12,6 +12,8 @@ import com.globallogic.futbol.core.operations.Operation;
  * @since 0.3.7
  */
 public abstract class PutBooleanSharedPreferenceStrategy extends PutSharedPreferenceStrategy<Boolean, BooleanRepository> {
+    private static final long serialVersionUID = 1L;
+
     public PutBooleanSharedPreferenceStrategy(Operation anOperation, IStrategySharedPreferenceAnalyzer anAnalyzer, BooleanRepository repository) {
         super(anOperation, anAnalyzer, repository);
     }
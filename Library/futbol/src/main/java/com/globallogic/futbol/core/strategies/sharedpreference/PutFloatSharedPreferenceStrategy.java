@@ -12,6 +12,8 @@ import com.globallogic.futbol.core.operations.Operation;
  * @since 0.3.6
  */
 public abstract class PutFloatSharedPreferenceStrategy extends PutSharedPreferenceStrategy<Float, FloatRepository> {
+    private static final long serialVersionUID = 1L;
+
     public PutFloatSharedPreferenceStrategy(Operation anOperation, IStrategySharedPreferenceAnalyzer anAnalyzer, FloatRepository repository) {
         super(anOperation, anAnalyzer, repository);
     }
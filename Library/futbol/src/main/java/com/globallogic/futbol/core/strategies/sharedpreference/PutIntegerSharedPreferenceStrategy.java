@@ -12,6 +12,8 @@ import com.globallogic.futbol.core.operations.Operation;
  * @since 0.3.6
  */
 public abstract class PutIntegerSharedPreferenceStrategy extends PutSharedPreferenceStrategy<Integer, IntegerRepository> {
+    private static final long serialVersionUID = 1L;
+
     public PutIntegerSharedPreferenceStrategy(Operation anOperation, IStrategySharedPreferenceAnalyzer anAnalyzer, IntegerRepository repository) {
         super(anOperation, anAnalyzer, repository);
     }
@@ -12,6 +12,8 @@ import com.globallogic.futbol.core.operations.Operation;
  * @since 0.3.6
  */
 public abstract class PutLongSharedPreferenceStrategy extends PutSharedPreferenceStrategy<Long, LongRepository> {
+    private static final long serialVersionUID = 1L;
+
     public PutLongSharedPreferenceStrategy(Operation anOperation, IStrategySharedPreferenceAnalyzer anAnalyzer, LongRepository repository) {
         super(anOperation, anAnalyzer, repository);
     }
@@ -14,6 +14,8 @@ import com.globallogic.futbol.core.strategies.SharedPreferenceStrategy;
  * @since 0.3.6
  */
 public abstract class PutSharedPreferenceStrategy<T, U extends SharedPreferenceRepository> extends SharedPreferenceStrategy<T, U> {
+    private static final long serialVersionUID = 1L;
+
     public PutSharedPreferenceStrategy(Operation anOperation, IStrategySharedPreferenceAnalyzer anAnalyzer, U repository) {
         super(anOperation, anAnalyzer, repository);
     }
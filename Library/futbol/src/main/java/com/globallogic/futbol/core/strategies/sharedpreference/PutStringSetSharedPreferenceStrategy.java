@@ -14,6 +14,8 @@ import java.util.Set;
  * @since 0.3.6
  */
 public abstract class PutStringSetSharedPreferenceStrategy extends PutSharedPreferenceStrategy<Set<String>, StringSetRepository> {
+    private static final long serialVersionUID = 1L;
+
     public PutStringSetSharedPreferenceStrategy(Operation anOperation, IStrategySharedPreferenceAnalyzer anAnalyzer, StringSetRepository repository) {
         super(anOperation, anAnalyzer, repository);
     }
@@ -12,6 +12,8 @@ import com.globallogic.futbol.core.operations.Operation;
  * @since 0.3.6
  */
 public abstract class PutStringSharedPreferenceStrategy extends PutSharedPreferenceStrategy<String, StringRepository> {
+    private static final long serialVersionUID = 1L;
+
     public PutStringSharedPreferenceStrategy(Operation anOperation, IStrategySharedPreferenceAnalyzer anAnalyzer, StringRepository repository) {
         super(anOperation, anAnalyzer, repository);
     }
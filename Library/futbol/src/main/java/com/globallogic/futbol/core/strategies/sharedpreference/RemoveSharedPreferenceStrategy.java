@@ -13,6 +13,8 @@ import com.globallogic.futbol.core.strategies.SharedPreferenceStrategy;
  * @since 0.3.8
  */
 public class RemoveSharedPreferenceStrategy extends SharedPreferenceStrategy<Void, SharedPreferenceRepository> {
+    private static final long serialVersionUID = 1L;
+
     public RemoveSharedPreferenceStrategy(Operation anOperation, IStrategySharedPreferenceAnalyzer anAnalyzer, SharedPreferenceRepository repository) {
         super(anOperation, anAnalyzer, repository);
     }
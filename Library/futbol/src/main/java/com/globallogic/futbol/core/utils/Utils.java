@@ -3,6 +3,7 @@ package com.globallogic.futbol.core.utils;
 import android.content.Context;
 import android.net.ConnectivityManager;
 import android.net.NetworkInfo;
+import android.os.Handler;
 import android.os.Looper;
 
 import com.globallogic.futbol.BuildConfig;
@@ -17,6 +18,7 @@ import java.util.logging.Logger;
 public class Utils {
     private final static String TAG = Utils.class.toString();
     public static boolean isDebug = BuildConfig.DEBUG;
+    private static Handler sHandlerUI;
 
     //region Logger
     public static Logger sLogger;
@@ -34,6 +36,24 @@ public class Utils {
         return Looper.getMainLooper().getThread() == Thread.currentThread();
     }
 
+    /**
+     * Run the task in the thread UI: now if it is called from there, in other case it is posted to the main looper.
+     * The strategies must be executed from the thread UI because they create their {@link android.os.AsyncTask}s.
+     *
+     * @param aTask The task to run.
+     */
+    public static void runOnThreadUI(Runnable aTask) {
+        if (isThreadUI()) {
+            aTask.run();
+            return;
+        }
+        synchronized (Utils.class) {
+            if (sHandlerUI == null)
+                sHandlerUI = new Handler(Looper.getMainLooper());
+        }
+        sHandlerUI.post(aTask);
+    }
+
     public static void thisMethodShouldNotExecuteInTheThreadUI() {
         if (isDebug)
             if (isThreadUI()) {